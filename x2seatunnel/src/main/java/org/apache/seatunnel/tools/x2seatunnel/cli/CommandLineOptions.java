@@ -128,6 +128,104 @@ public class CommandLineOptions {
                                 "Batch conversion file wildcard pattern, comma separated, e.g.: *.json,*.xml")
                         .build());
 
+        // Batch conversion worker count
+        options.addOption(
+                Option.builder()
+                        .longOpt("parallelism")
+                        .hasArg()
+                        .desc(
+                                "Number of files converted concurrently in batch mode, default: number of CPU cores")
+                        .build());
+
+        // Incremental batch conversion
+        options.addOption(
+                Option.builder()
+                        .longOpt("incremental")
+                        .desc(
+                                "Only convert files whose source or templates changed since the last batch run, tracked in a manifest in the output directory")
+                        .build());
+
+        // Resume an interrupted batch conversion
+        options.addOption(
+                Option.builder()
+                        .longOpt("resume")
+                        .desc(
+                                "Resume an interrupted batch conversion, files completed according to the journal in the output directory are not converted again")
+                        .build());
+
+        // Keep watching the source directory and templates after the batch conversion
+        options.addOption(
+                Option.builder()
+                        .longOpt("watch")
+                        .desc(
+                                "Keep running after the batch conversion and re-convert files when they or the templates change")
+                        .build());
+
+        // Convert identical jobs once in batch mode
+        options.addOption(
+                Option.builder()
+                        .longOpt("dedup")
+                        .desc(
+                                "Convert jobs that differ only in whitespace or key order once, duplicates reuse the converted output")
+                        .build());
+
+        // Distributed batch conversion across processes sharing the output directory
+        options.addOption(
+                Option.builder()
+                        .longOpt("distributed")
+                        .hasArg()
+                        .argName("run-id")
+                        .desc(
+                                "Share the batch conversion with other processes running the same run id, work is claimed in chunks through lease files in the output directory")
+                        .build());
+
+        options.addOption(
+                Option.builder()
+                        .longOpt("worker-id")
+                        .hasArg()
+                        .desc("Unique worker name in distributed mode, default: pid@hostname")
+                        .build());
+
+        options.addOption(
+                Option.builder()
+                        .longOpt("chunk-size")
+                        .hasArg()
+                        .desc("Number of files per claimed chunk in distributed mode, default: 100")
+                        .build());
+
+        options.addOption(
+                Option.builder()
+                        .longOpt("lease-timeout")
+                        .hasArg()
+                        .desc(
+                                "Seconds after which the chunk of an unresponsive worker is taken over in distributed mode, default: 300")
+                        .build());
+
+        // Streaming conversion of NDJSON records from stdin to stdout
+        options.addOption(
+                Option.builder()
+                        .longOpt("ndjson")
+                        .desc(
+                                "Read one JSON record per line from stdin, each holding an id and a DataX job, and write one result record per job to stdout")
+                        .build());
+
+        // Long-running local conversion server
+        options.addOption(
+                Option.builder()
+                        .longOpt("server")
+                        .hasArg()
+                        .argName("port")
+                        .desc(
+                                "Run a local HTTP conversion server on the given port: POST /convert, GET /metrics, GET /health")
+                        .build());
+
+        options.addOption(
+                Option.builder()
+                        .longOpt("bind")
+                        .hasArg()
+                        .desc("Address the conversion server binds to, default: 127.0.0.1")
+                        .build());
+
         return options;
     }
 }
@@ -17,7 +17,17 @@
 
 package org.apache.seatunnel.tools.x2seatunnel.cli;
 
+import org.apache.seatunnel.tools.x2seatunnel.core.BatchConversionEngine;
 import org.apache.seatunnel.tools.x2seatunnel.core.ConversionEngine;
+import org.apache.seatunnel.tools.x2seatunnel.core.ConversionJournal;
+import org.apache.seatunnel.tools.x2seatunnel.core.ConversionManifest;
+import org.apache.seatunnel.tools.x2seatunnel.core.DistributedBatchCoordinator;
+import org.apache.seatunnel.tools.x2seatunnel.core.NdjsonConversionEngine;
+import org.apache.seatunnel.tools.x2seatunnel.core.WatchConversionService;
+import org.apache.seatunnel.tools.x2seatunnel.server.ConversionServer;
+import org.apache.seatunnel.tools.x2seatunnel.util.ArchiveFormat;
+import org.apache.seatunnel.tools.x2seatunnel.util.ArchiveReader;
+import org.apache.seatunnel.tools.x2seatunnel.util.ArchiveWriter;
 import org.apache.seatunnel.tools.x2seatunnel.util.BatchConversionReport;
 import org.apache.seatunnel.tools.x2seatunnel.util.ConversionConfig;
 import org.apache.seatunnel.tools.x2seatunnel.util.DirectoryProcessor;
@@ -35,8 +45,14 @@ import org.apache.commons.cli.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /** X2SeaTunnel command-line tool main class */
 public class X2SeaTunnelCli {
@@ -45,6 +61,12 @@ public class X2SeaTunnelCli {
 
     private static final String TOOL_NAME = "x2seatunnel";
 
+    private static final String DISTRIBUTED_RUNS_DIR = ".x2seatunnel-runs";
+    private static final int DEFAULT_CHUNK_SIZE = 100;
+    private static final int DEFAULT_LEASE_TIMEOUT_SECONDS = 300;
+    private static final String DEFAULT_BIND_ADDRESS = "127.0.0.1";
+    private static final String ARCHIVE_SUMMARY_ENTRY = "summary.md";
+
     public static void main(String[] args) {
         try {
             X2SeaTunnelCli cli = new X2SeaTunnelCli();
@@ -70,6 +92,27 @@ public class X2SeaTunnelCli {
                 logger.info("Loaded YAML configuration: {}", configPath);
             }
 
+            // Server mode converts requests from other processes until it is stopped
+            if (cmd.hasOption("server")) {
+                runServer(cmd);
+                return;
+            }
+
+            // NDJSON mode streams records from stdin to stdout, stdout carries nothing else
+            if (cmd.hasOption("ndjson")) {
+                int parallelism = BatchConversionEngine.defaultParallelism();
+                if (cmd.hasOption("parallelism")) {
+                    parallelism =
+                            parsePositiveInt("Parallelism", cmd.getOptionValue("parallelism"));
+                }
+                new NdjsonConversionEngine(parallelism)
+                        .convert(
+                                System.in,
+                                System.out,
+                                cmd.getOptionValue("T", cmd.getOptionValue("template")));
+                return;
+            }
+
             // Read batch mode parameters in advance
             String directory = null;
             String outputDir = null;
@@ -96,67 +139,126 @@ public class X2SeaTunnelCli {
                         "Starting batch conversion, source directory={}, output directory={}",
                         directory,
                         outputDir);
-                FileUtils.createDirectory(outputDir);
+                // Reject unsupported archive options before any directory is created
+                if (isArchive(directory) || isArchive(outputDir)) {
+                    checkArchiveOptions(cmd, outputDir, reportDir);
+                }
+                if (!isArchive(outputDir)) {
+                    FileUtils.createDirectory(outputDir);
+                }
                 if (reportDir != null) {
                     logger.info("Report directory={}", reportDir);
                     FileUtils.createDirectory(reportDir);
                 }
                 DirectoryProcessor dp = new DirectoryProcessor(directory, outputDir);
-                List<String> sources = dp.listSourceFiles();
                 String pattern = cmd.getOptionValue("p", cmd.getOptionValue("pattern"));
-                sources = FilePattern.filter(sources, pattern);
-                if (sources.isEmpty()) {
-                    logger.warn(
-                            "No files to convert found in source directory: {} with pattern: {}",
-                            directory,
-                            pattern);
+                int parallelism = BatchConversionEngine.defaultParallelism();
+                if (cmd.hasOption("parallelism")) {
+                    parallelism =
+                            parsePositiveInt("Parallelism", cmd.getOptionValue("parallelism"));
                 }
-                ConversionEngine engine = new ConversionEngine();
                 BatchConversionReport batchReport = new BatchConversionReport();
 
                 // Set batch conversion configuration information
                 batchReport.setConversionConfig(
                         directory, outputDir, reportDir, pattern, batchTemplate);
 
-                int total = sources.size();
-                for (int i = 0; i < total; i++) {
-                    String src = sources.get(i);
-                    String tgt = dp.resolveTargetPath(src);
-                    String rpt;
-                    if (reportDir != null) {
-                        String name = FileUtils.getFileNameWithoutExtension(src);
-                        rpt = Paths.get(reportDir, name + ".md").toString();
-                    } else {
-                        rpt = cmd.getOptionValue("r", cmd.getOptionValue("report"));
-                        if (rpt == null) {
-                            rpt = dp.resolveReportPath(src);
-                        }
-                    }
-                    logger.info("[{} / {}] Processing file: {}", i + 1, total, src);
-                    try {
-                        engine.convert(src, tgt, "datax", "seatunnel", batchTemplate, rpt);
-                        batchReport.recordSuccess(src, tgt, rpt);
-                        System.out.println(
-                                String.format(
-                                        "[%d/%d] Conversion completed: %s -> %s",
-                                        i + 1, total, src, tgt));
-                    } catch (Exception e) {
-                        logger.error(
-                                "File conversion failed: {} -> {} , error: {}",
-                                src,
-                                tgt,
-                                e.getMessage());
-                        batchReport.recordFailure(src, e.getMessage());
+                // Incremental mode only converts jobs whose inputs changed since the last run
+                ConversionManifest manifest =
+                        cmd.hasOption("incremental") ? ConversionManifest.load(outputDir) : null;
+
+                String batchReportDir = reportDir;
+                String reportOption = cmd.getOptionValue("r", cmd.getOptionValue("report"));
+                Function<String, BatchConversionEngine.ConversionTask> taskFactory =
+                        src ->
+                                new BatchConversionEngine.ConversionTask(
+                                        src,
+                                        dp.resolveTargetPath(src),
+                                        resolveBatchReportPath(
+                                                dp, src, batchReportDir, reportOption));
+                BatchConversionEngine batchEngine = new BatchConversionEngine(parallelism);
+                batchEngine.setDeduplicate(cmd.hasOption("dedup"));
+                String summary = resolveSummaryPath(cmd, outputDir, reportDir);
+
+                // Watch mode keeps converting changed files until the process is stopped
+                if (cmd.hasOption("watch")) {
+                    if (cmd.hasOption("distributed") || cmd.hasOption("resume")) {
+                        throw new IllegalArgumentException(
+                                "--watch cannot be combined with --distributed or --resume");
                     }
+                    runWatch(
+                            directory,
+                            outputDir,
+                            reportDir,
+                            pattern,
+                            taskFactory,
+                            batchEngine,
+                            batchTemplate,
+                            summary);
+                    return;
                 }
-                String summary;
-                if (reportDir != null) {
-                    summary = Paths.get(reportDir, "summary.md").toString();
-                } else {
-                    summary = cmd.getOptionValue("r", cmd.getOptionValue("report"));
-                    if (summary == null) {
-                        summary = Paths.get(outputDir, "summary.md").toString();
+
+                // Archives are streamed through the batch pipeline without being extracted
+                if (isArchive(directory) || isArchive(outputDir)) {
+                    runArchiveBatch(
+                            cmd,
+                            directory,
+                            outputDir,
+                            reportDir,
+                            pattern,
+                            batchEngine,
+                            batchTemplate,
+                            batchReport,
+                            summary);
+                    return;
+                }
+
+                // Distributed mode shares the batch with other processes through lease files
+                if (cmd.hasOption("distributed")) {
+                    if (manifest != null || cmd.hasOption("resume")) {
+                        throw new IllegalArgumentException(
+                                "--distributed cannot be combined with --incremental or --resume");
                     }
+                    runDistributedBatch(
+                            cmd,
+                            dp,
+                            pattern,
+                            taskFactory,
+                            batchEngine,
+                            batchTemplate,
+                            batchReport,
+                            outputDir,
+                            summary);
+                    return;
+                }
+
+                batchEngine.setManifest(manifest);
+                int converted;
+                // Files are converted while the directory is still being scanned, and every
+                // finished file is journaled so an interrupted run can be resumed
+                try (ConversionJournal journal =
+                                ConversionJournal.open(outputDir, cmd.hasOption("resume"));
+                        Stream<String> sources = dp.streamSourceFiles()) {
+                    batchEngine.setJournal(journal);
+                    Predicate<String> filter = FilePattern.compile(pattern);
+                    converted =
+                            batchEngine.convert(
+                                    sources.filter(filter).map(taskFactory),
+                                    () -> dp.countSourceFiles(filter),
+                                    batchTemplate,
+                                    batchReport);
+                } catch (UncheckedIOException e) {
+                    throw new RuntimeException(
+                            "Failed to scan directory: " + directory, e.getCause());
+                }
+                if (manifest != null) {
+                    manifest.save();
+                }
+                if (converted == 0) {
+                    logger.warn(
+                            "No files to convert found in source directory: {} with pattern: {}",
+                            directory,
+                            pattern);
                 }
                 batchReport.writeReport(summary);
                 System.out.println(
@@ -226,6 +328,257 @@ public class X2SeaTunnelCli {
         }
     }
 
+    private void runServer(CommandLine cmd) throws InterruptedException {
+        String serverPort = cmd.getOptionValue("server");
+        int port;
+        try {
+            port = Integer.parseInt(serverPort.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Server port must be a number: " + serverPort, e);
+        }
+        int threads = BatchConversionEngine.defaultParallelism();
+        if (cmd.hasOption("parallelism")) {
+            threads = parsePositiveInt("Parallelism", cmd.getOptionValue("parallelism"));
+        }
+        ConversionServer server =
+                new ConversionServer(
+                        cmd.getOptionValue("bind", DEFAULT_BIND_ADDRESS), port, threads);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        server.start();
+        System.out.println(
+                "Conversion server started on port " + server.getPort() + ", press Ctrl+C to stop");
+        server.awaitTermination();
+    }
+
+    private void runArchiveBatch(
+            CommandLine cmd,
+            String directory,
+            String outputDir,
+            String reportDir,
+            String pattern,
+            BatchConversionEngine batchEngine,
+            String batchTemplate,
+            BatchConversionReport batchReport,
+            String summary) {
+        boolean archiveInput = isArchive(directory);
+        boolean archiveOutput = isArchive(outputDir);
+        String reportOption = cmd.getOptionValue("r", cmd.getOptionValue("report"));
+        DirectoryProcessor dp = new DirectoryProcessor(directory, outputDir);
+        // Inside an output archive targets and reports keep their path relative to the source,
+        // so sources of the same name in different directories become distinct entries
+        Function<String, String> targetPath =
+                archiveOutput ? dp::resolveTargetEntry : dp::resolveTargetPath;
+        Function<String, String> reportPath =
+                archiveOutput
+                        ? dp::resolveReportEntry
+                        : src -> resolveBatchReportPath(dp, src, reportDir, reportOption);
+        Predicate<String> filter = FilePattern.compile(pattern);
+        int converted;
+        try (ArchiveReader reader = archiveInput ? ArchiveReader.open(directory) : null;
+                ArchiveWriter writer = archiveOutput ? ArchiveWriter.create(outputDir) : null;
+                Stream<BatchConversionEngine.ConversionTask> tasks =
+                        archiveInput
+                                ? reader.entries()
+                                        .filter(
+                                                entry ->
+                                                        DirectoryProcessor.isSourceFile(
+                                                                        entry.getName())
+                                                                && filter.test(entry.getName()))
+                                        .map(
+                                                entry ->
+                                                        new BatchConversionEngine.ConversionTask(
+                                                                entry.getName(),
+                                                                targetPath.apply(entry.getName()),
+                                                                reportPath.apply(entry.getName()),
+                                                                entry.getContentAsString()))
+                                : dp.streamSourceFiles()
+                                        .filter(filter)
+                                        .map(
+                                                src ->
+                                                        new BatchConversionEngine.ConversionTask(
+                                                                src,
+                                                                targetPath.apply(src),
+                                                                reportPath.apply(src)))) {
+            if (writer != null) {
+                batchEngine.setOutputWriter(
+                        (path, content) -> {
+                            try {
+                                writer.write(path, content);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+            }
+            // Counting archive entries would read the archive twice, only directories are counted
+            converted =
+                    batchEngine.convert(
+                            tasks,
+                            archiveInput ? null : () -> dp.countSourceFiles(filter),
+                            batchTemplate,
+                            batchReport);
+            if (writer != null) {
+                summary = ARCHIVE_SUMMARY_ENTRY;
+                writer.write(summary, batchReport.generateReport());
+            } else {
+                batchReport.writeReport(summary);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Archive batch conversion failed: " + e.getMessage(), e);
+        }
+        if (converted == 0) {
+            logger.warn(
+                    "No files to convert found in source: {} with pattern: {}", directory, pattern);
+        }
+        System.out.println(
+                "Batch conversion completed! Output: "
+                        + outputDir
+                        + ", Report: "
+                        + (archiveOutput ? outputDir + "!/" + summary : summary));
+    }
+
+    /** Reject the batch options that archive input or output does not support */
+    private static void checkArchiveOptions(CommandLine cmd, String outputDir, String reportDir) {
+        for (String option : new String[] {"incremental", "resume", "distributed", "watch"}) {
+            if (cmd.hasOption(option)) {
+                throw new IllegalArgumentException(
+                        "--" + option + " cannot be combined with archive input or output");
+            }
+        }
+        if (isArchive(outputDir)
+                && (reportDir != null || cmd.hasOption("r") || cmd.hasOption("report"))) {
+            throw new IllegalArgumentException(
+                    "Reports are written into the output archive, -R/-r cannot be combined with it");
+        }
+    }
+
+    /** Whether a batch source or output path names an archive rather than a directory */
+    private static boolean isArchive(String path) {
+        return ArchiveFormat.of(path) != null && !Files.isDirectory(Paths.get(path));
+    }
+
+    private void runWatch(
+            String directory,
+            String outputDir,
+            String reportDir,
+            String pattern,
+            Function<String, BatchConversionEngine.ConversionTask> taskFactory,
+            BatchConversionEngine batchEngine,
+            String batchTemplate,
+            String summary) {
+        WatchConversionService watcher =
+                new WatchConversionService(
+                        directory,
+                        outputDir,
+                        FilePattern.compile(pattern),
+                        taskFactory,
+                        batchEngine,
+                        batchTemplate,
+                        WatchConversionService.DEFAULT_DEBOUNCE_MILLIS);
+        Runtime.getRuntime().addShutdownHook(new Thread(watcher::close));
+        System.out.println("Watching " + directory + " for changes, press Ctrl+C to stop");
+        watcher.run(
+                () -> {
+                    BatchConversionReport report = new BatchConversionReport();
+                    report.setConversionConfig(
+                            directory, outputDir, reportDir, pattern, batchTemplate);
+                    return report;
+                },
+                report -> {
+                    // The summary covers every round, not only the files of this one
+                    watcher.getSummary().writeReport(summary);
+                    System.out.println(
+                            "Watch round completed! Converted: "
+                                    + report.getSuccessRecords().size()
+                                    + ", Failed: "
+                                    + report.getFailures().size()
+                                    + ", Report: "
+                                    + summary);
+                });
+    }
+
+    private void runDistributedBatch(
+            CommandLine cmd,
+            DirectoryProcessor dp,
+            String pattern,
+            Function<String, BatchConversionEngine.ConversionTask> taskFactory,
+            BatchConversionEngine batchEngine,
+            String batchTemplate,
+            BatchConversionReport batchReport,
+            String outputDir,
+            String summary) {
+        String runId = cmd.getOptionValue("distributed");
+        String workerId =
+                cmd.getOptionValue("worker-id", DistributedBatchCoordinator.defaultWorkerId());
+        int chunkSize =
+                cmd.hasOption("chunk-size")
+                        ? parsePositiveInt("Chunk size", cmd.getOptionValue("chunk-size"))
+                        : DEFAULT_CHUNK_SIZE;
+        long leaseTimeoutSeconds =
+                cmd.hasOption("lease-timeout")
+                        ? parsePositiveInt("Lease timeout", cmd.getOptionValue("lease-timeout"))
+                        : DEFAULT_LEASE_TIMEOUT_SECONDS;
+        String coordinationDir = Paths.get(outputDir, DISTRIBUTED_RUNS_DIR, runId).toString();
+        DistributedBatchCoordinator coordinator =
+                new DistributedBatchCoordinator(
+                        coordinationDir,
+                        workerId,
+                        chunkSize,
+                        TimeUnit.SECONDS.toMillis(leaseTimeoutSeconds));
+        logger.info(
+                "Distributed batch run {} as worker {}, coordination directory={}",
+                runId,
+                coordinator.getWorkerId(),
+                coordinationDir);
+
+        boolean[] merged = new boolean[1];
+        int chunks =
+                coordinator.run(
+                        () -> FilePattern.filter(dp.listSourceFiles(), pattern),
+                        taskFactory,
+                        batchEngine,
+                        batchTemplate,
+                        batchReport,
+                        report -> {
+                            report.writeReport(summary);
+                            merged[0] = true;
+                        });
+        System.out.println(
+                "Distributed batch conversion completed! Chunks converted by this worker: "
+                        + chunks
+                        + ", Output directory: "
+                        + outputDir
+                        + (merged[0] ? ", Report: " + summary : ""));
+    }
+
+    private String resolveSummaryPath(CommandLine cmd, String outputDir, String reportDir) {
+        if (reportDir != null) {
+            return Paths.get(reportDir, "summary.md").toString();
+        }
+        String summary = cmd.getOptionValue("r", cmd.getOptionValue("report"));
+        return summary != null ? summary : Paths.get(outputDir, "summary.md").toString();
+    }
+
+    private String resolveBatchReportPath(
+            DirectoryProcessor dp, String src, String reportDir, String reportOption) {
+        if (reportDir != null) {
+            String name = FileUtils.getFileNameWithoutExtension(src);
+            return Paths.get(reportDir, name + ".md").toString();
+        }
+        return reportOption != null ? reportOption : dp.resolveReportPath(src);
+    }
+
+    private int parsePositiveInt(String name, String value) {
+        try {
+            int number = Integer.parseInt(value.trim());
+            if (number < 1) {
+                throw new IllegalArgumentException(name + " must be a positive integer: " + value);
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a positive integer: " + value, e);
+        }
+    }
+
     private void printHelp(Options options) {
         HelpFormatter formatter = new HelpFormatter();
         formatter.printHelp(
@@ -244,7 +597,9 @@ public class X2SeaTunnelCli {
     private void printUsage() {
         System.out.println("Usage: x2seatunnel [OPTIONS]");
         System.out.println(
-                "Common batch mode: x2seatunnel -d <source_dir> -o <output_dir> [-R <report_dir>] [-p <pattern>]");
+                "Common batch mode: x2seatunnel -d <source_dir> -o <output_dir> [-R <report_dir>] [-p <pattern>] [--parallelism <n>] [--incremental] [--resume] [--distributed <run_id>] [--watch] [--dedup]");
+        System.out.println("Streaming mode: x2seatunnel --ndjson < jobs.ndjson > results.ndjson");
+        System.out.println("Server mode: x2seatunnel --server <port> [--bind <address>]");
         System.out.println("Use -h or --help to view complete help information");
     }
 }
@@ -0,0 +1,690 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.core;
+
+import org.apache.seatunnel.tools.x2seatunnel.core.ConversionEngine.ConversionOutput;
+import org.apache.seatunnel.tools.x2seatunnel.core.ConversionJournal.Status;
+import org.apache.seatunnel.tools.x2seatunnel.model.ConversionContext;
+import org.apache.seatunnel.tools.x2seatunnel.template.TemplateLoader;
+import org.apache.seatunnel.tools.x2seatunnel.util.BatchConversionReport;
+import org.apache.seatunnel.tools.x2seatunnel.util.CanonicalJson;
+import org.apache.seatunnel.tools.x2seatunnel.util.FileUtils;
+import org.apache.seatunnel.tools.x2seatunnel.util.HashUtils;
+import org.apache.seatunnel.tools.x2seatunnel.util.SourceContent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Batch conversion engine - runs conversions as a staged pipeline so file I/O overlaps with
+ * template rendering:
+ *
+ * <ol>
+ *   <li>scan: tasks are pulled from a lazy stream on the calling thread, so conversion starts
+ *       before a directory walk finishes
+ *   <li>read-ahead: source files are read by a pool of reader threads
+ *   <li>convert: configurations and reports are rendered in memory by a pool of worker threads
+ *   <li>write: a single writer thread writes outputs and records results in input order
+ * </ol>
+ *
+ * <p>Stages are connected by bounded queues, and the number of files between scan and report is
+ * capped, so memory use does not grow with the size of the batch.
+ *
+ * <p>With a {@link ConversionManifest} the convert stage skips jobs whose inputs did not change
+ * since the last run. With a {@link ConversionJournal} the writer journals every finished job, and
+ * jobs the journal lists as completed by an interrupted run are not converted again.
+ *
+ * <p>With deduplication enabled, jobs that differ only in formatting or key order are converted
+ * once: each parsed job is hashed in canonical form and duplicates reuse the converted
+ * configuration of the first job with the same hash.
+ */
+public class BatchConversionEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchConversionEngine.class);
+
+    // Files in flight per worker, bounds memory held by read-ahead content and pending results
+    private static final int FILES_PER_WORKER = 4;
+
+    private static final int UNKNOWN_TOTAL = -1;
+
+    // Distinct jobs remembered for deduplication, least recently used ones are forgotten
+    private static final int DEDUP_CACHE_SIZE = 4096;
+
+    private final ConversionEngine conversionEngine;
+    private final int parallelism;
+    private ConversionManifest manifest;
+    private ConversionJournal journal;
+    private OutputWriter outputWriter = FileUtils::writeFile;
+    private boolean deduplicate;
+
+    public BatchConversionEngine(int parallelism) {
+        this(new ConversionEngine(), parallelism);
+    }
+
+    public BatchConversionEngine(ConversionEngine conversionEngine, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.conversionEngine = conversionEngine;
+        this.parallelism = parallelism;
+    }
+
+    /** Default parallelism: one worker per available processor */
+    public static int defaultParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Set the incremental conversion manifest, jobs it reports as up to date are skipped
+     *
+     * @param manifest manifest, null converts every job
+     */
+    public void setManifest(ConversionManifest manifest) {
+        this.manifest = manifest;
+    }
+
+    /**
+     * Set the journal every finished job is appended to, jobs it lists as completed by a previous
+     * run are not converted again
+     *
+     * @param journal journal, can be null
+     */
+    public void setJournal(ConversionJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Set where converted configurations and reports are written, e.g. into an archive
+     *
+     * @param outputWriter output writer, called from a single writer thread
+     */
+    public void setOutputWriter(OutputWriter outputWriter) {
+        this.outputWriter = outputWriter;
+    }
+
+    /**
+     * Convert identical jobs only once, duplicates get the output of the first job with the same
+     * canonical content and are listed as deduplicated in the batch report
+     *
+     * @param deduplicate true to deduplicate jobs
+     */
+    public void setDeduplicate(boolean deduplicate) {
+        this.deduplicate = deduplicate;
+    }
+
+    /**
+     * Convert all tasks and record the outcome of each one in the batch report, in task order
+     *
+     * @param tasks conversion tasks
+     * @param customTemplate custom template applied to every file, can be null
+     * @param batchReport batch report to record results in
+     * @return number of tasks processed
+     */
+    public int convert(
+            List<ConversionTask> tasks, String customTemplate, BatchConversionReport batchReport) {
+        Pipeline pipeline = new Pipeline(customTemplate, batchReport);
+        pipeline.publishTotal(tasks.size());
+        return pipeline.run(tasks.iterator(), null);
+    }
+
+    /**
+     * Convert tasks as they are produced and record the outcome of each one in the batch report, in
+     * task order. The stream is consumed on the calling thread and is not closed.
+     *
+     * @param tasks conversion tasks, typically backed by a lazy directory walk
+     * @param customTemplate custom template applied to every file, can be null
+     * @param batchReport batch report to record results in
+     * @return number of tasks processed
+     */
+    public int convert(
+            Stream<ConversionTask> tasks,
+            String customTemplate,
+            BatchConversionReport batchReport) {
+        return convert(tasks, null, customTemplate, batchReport);
+    }
+
+    /**
+     * Convert tasks as they are produced, like {@link #convert(Stream, String,
+     * BatchConversionReport)}. The scan only finishes once nearly every file is converted, so the
+     * task counter runs alongside it and gives progress lines their total early.
+     *
+     * @param tasks conversion tasks, typically backed by a lazy directory walk
+     * @param taskCounter counts the tasks without producing them, e.g. by a second directory walk,
+     *     can be null
+     * @param customTemplate custom template applied to every file, can be null
+     * @param batchReport batch report to record results in
+     * @return number of tasks processed
+     */
+    public int convert(
+            Stream<ConversionTask> tasks,
+            IntSupplier taskCounter,
+            String customTemplate,
+            BatchConversionReport batchReport) {
+        return new Pipeline(customTemplate, batchReport).run(tasks.iterator(), taskCounter);
+    }
+
+    /** State of a single batch run, all stages share it */
+    private class Pipeline {
+        private final String customTemplate;
+        private final BatchConversionReport batchReport;
+        private final int capacity = parallelism * FILES_PER_WORKER;
+        // Permits for files between scan and report
+        private final Semaphore inFlight = new Semaphore(capacity);
+        private final ExecutorService readers = newStage(parallelism, "reader");
+        private final ExecutorService converters = newStage(parallelism, "worker");
+        private final ExecutorService writer = newStage(1, "writer");
+        // Canonical job hash -> first job with that hash, null without deduplication
+        private final Map<String, DedupEntry> dedupCache = deduplicate ? newDedupCache() : null;
+
+        // Set by the task counter or once the scan is finished, progress shows "?" until then
+        private final AtomicInteger total = new AtomicInteger(UNKNOWN_TOTAL);
+        // First error that stopped results from being recorded, e.g. an unwritable journal
+        private volatile RuntimeException recordError;
+
+        // Only accessed from the writer thread
+        private final Map<Integer, FileItem> pendingReports = new HashMap<>();
+        private int nextReport = 0;
+
+        Pipeline(String customTemplate, BatchConversionReport batchReport) {
+            this.customTemplate = customTemplate;
+            this.batchReport = batchReport;
+        }
+
+        /** Publish the number of tasks, unless the scan already counted them */
+        void publishTotal(int count) {
+            total.compareAndSet(UNKNOWN_TOTAL, count);
+        }
+
+        int run(Iterator<ConversionTask> tasks, IntSupplier taskCounter) {
+            logger.info(
+                    "Starting batch pipeline with {} readers, {} workers and 1 writer",
+                    parallelism,
+                    parallelism);
+            // Counting holds no permits, so it is not held back by conversions like the scan is
+            ExecutorService counter = taskCounter != null ? newStage(1, "counter") : null;
+            if (counter != null) {
+                counter.execute(() -> count(taskCounter));
+            }
+            int scanned = 0;
+            RuntimeException scanError = null;
+            try {
+                try {
+                    while (recordError == null && tasks.hasNext()) {
+                        ConversionTask task = tasks.next();
+                        inFlight.acquire();
+                        FileItem item = new FileItem(scanned++, task);
+                        if (journal != null && journal.isCompleted(task)) {
+                            item.resumed = true;
+                            if (manifest == null) {
+                                writer.execute(() -> write(item));
+                                continue;
+                            }
+                        }
+                        readers.execute(() -> read(item));
+                    }
+                } catch (RuntimeException e) {
+                    // Let files already in the pipeline finish before reporting the scan error
+                    scanError = e;
+                }
+                total.set(scanned);
+                logger.info("Scan completed, {} files to convert", scanned);
+                // All permits are back once the writer has reported every file
+                inFlight.acquire(capacity);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Batch conversion interrupted", e);
+            } finally {
+                readers.shutdownNow();
+                converters.shutdownNow();
+                writer.shutdownNow();
+                if (counter != null) {
+                    counter.shutdownNow();
+                }
+            }
+            logger.info(
+                    "Template cache: {} hits, {} misses",
+                    TemplateLoader.getHitCount(),
+                    TemplateLoader.getMissCount());
+            if (recordError != null) {
+                throw recordError;
+            }
+            if (scanError != null) {
+                throw scanError;
+            }
+            return scanned;
+        }
+
+        private void count(IntSupplier taskCounter) {
+            try {
+                int count = taskCounter.getAsInt();
+                publishTotal(count);
+                logger.info("Counted {} files to convert", count);
+            } catch (RuntimeException e) {
+                // Progress shows "?" until the scan finishes, the conversion is not affected
+                logger.warn("Failed to count files to convert: {}", e.getMessage());
+            }
+        }
+
+        private void read(FileItem item) {
+            try {
+                // Kept as bytes until the converter parses them, the buffer crosses threads so it
+                // is not pooled
+                String preloaded = item.task.getSourceContent();
+                item.sourceContent =
+                        preloaded != null
+                                ? SourceContent.of(preloaded)
+                                : SourceContent.of(
+                                        FileUtils.readFileBytes(item.task.getSourceFile()));
+            } catch (Throwable e) {
+                item.error = e;
+            }
+            if (item.error == null) {
+                converters.execute(() -> convert(item));
+            } else {
+                writer.execute(() -> write(item));
+            }
+        }
+
+        private void convert(FileItem item) {
+            ConversionTask task = item.task;
+            if (manifest != null) {
+                // Resumed jobs are only fingerprinted, so the manifest keeps covering them
+                item.fingerprint = manifest.fingerprint(item.sourceContent, customTemplate);
+                item.skipped = !item.resumed && manifest.isUpToDate(task, item.fingerprint);
+                if (item.resumed || item.skipped) {
+                    item.sourceContent = null;
+                    writer.execute(() -> write(item));
+                    return;
+                }
+            }
+            DedupEntry dedupEntry = null;
+            // Parsed once for the dedup key and reused by the conversion
+            ConversionContext context = null;
+            if (dedupCache != null) {
+                context = parseOrNull(item.sourceContent);
+                if (context != null) {
+                    String key = dedupKey(context);
+                    DedupEntry candidate = new DedupEntry(task.getSourceFile());
+                    DedupEntry existing;
+                    synchronized (dedupCache) {
+                        existing = dedupCache.putIfAbsent(key, candidate);
+                    }
+                    if (existing != null && reuse(item, existing)) {
+                        item.sourceContent = null;
+                        writer.execute(() -> write(item));
+                        return;
+                    }
+                    dedupEntry = existing == null ? candidate : null;
+                }
+            }
+            logger.info(
+                    "[{} / {}] Processing file: {}",
+                    item.sequence + 1,
+                    totalLabel(),
+                    task.getSourceFile());
+            try {
+                item.output =
+                        context != null
+                                ? conversionEngine.convertContent(
+                                        task.getSourceFile(),
+                                        context,
+                                        task.getTargetFile(),
+                                        "datax",
+                                        "seatunnel",
+                                        customTemplate,
+                                        task.getReportFile())
+                                : conversionEngine.convertContent(
+                                        task.getSourceFile(),
+                                        item.sourceContent,
+                                        task.getTargetFile(),
+                                        "datax",
+                                        "seatunnel",
+                                        customTemplate,
+                                        task.getReportFile());
+            } catch (Throwable e) {
+                item.error = e;
+            } finally {
+                if (dedupEntry != null) {
+                    dedupEntry.complete(item.output, item.error);
+                }
+            }
+            item.sourceContent = null;
+            writer.execute(() -> write(item));
+        }
+
+        /**
+         * Serve a duplicate from the conversion of the first job with the same content, waiting for
+         * that conversion if it is still running on another worker
+         *
+         * @return false if the job has to be converted on its own
+         */
+        private boolean reuse(FileItem item, DedupEntry original) {
+            ConversionTask task = item.task;
+            ConversionOutput shared;
+            try {
+                shared = original.output.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                item.error = e;
+                return true;
+            } catch (ExecutionException e) {
+                // Same job, same failure
+                item.error = e.getCause();
+                item.duplicateOf = original.sourceFile;
+                return true;
+            }
+            boolean needsReport = task.getReportFile() != null;
+            if (needsReport && shared.getMappingResult() == null) {
+                // The original was converted without report, there is nothing to render it from
+                return false;
+            }
+            try {
+                String report =
+                        needsReport
+                                ? conversionEngine.generateReport(
+                                        shared,
+                                        task.getSourceFile(),
+                                        task.getTargetFile(),
+                                        "datax",
+                                        customTemplate)
+                                : null;
+                item.output = new ConversionOutput(shared.getTargetContent(), report);
+            } catch (Throwable e) {
+                item.error = e;
+            }
+            item.duplicateOf = original.sourceFile;
+            return true;
+        }
+
+        private void write(FileItem item) {
+            if (item.output != null) {
+                try {
+                    if (item.output.getReportContent() != null) {
+                        outputWriter.write(
+                                item.task.getReportFile(), item.output.getReportContent());
+                    }
+                    outputWriter.write(item.task.getTargetFile(), item.output.getTargetContent());
+                } catch (Throwable e) {
+                    item.error = e;
+                }
+                item.output = null;
+            }
+
+            // Outputs are written as soon as they arrive, results are reported in input order
+            pendingReports.put(item.sequence, item);
+            FileItem next;
+            while ((next = pendingReports.remove(nextReport)) != null) {
+                nextReport++;
+                try {
+                    if (recordError == null) {
+                        record(next);
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("Failed to record conversion result: {}", e.getMessage(), e);
+                    recordError = e;
+                } finally {
+                    inFlight.release();
+                }
+            }
+        }
+
+        private void record(FileItem item) {
+            ConversionTask task = item.task;
+            if (item.resumed) {
+                if (manifest != null) {
+                    manifest.record(task, item.fingerprint);
+                }
+                batchReport.recordSuccess(
+                        task.getSourceFile(), task.getTargetFile(), task.getReportFile());
+                System.out.println(
+                        String.format(
+                                "[%d/%s] Already converted, resumed: %s",
+                                item.sequence + 1, totalLabel(), task.getSourceFile()));
+            } else if (item.skipped) {
+                manifest.record(task, item.fingerprint);
+                batchReport.recordSkipped(
+                        task.getSourceFile(), task.getTargetFile(), task.getReportFile());
+                appendJournal(task, Status.SKIPPED, null);
+                System.out.println(
+                        String.format(
+                                "[%d/%s] Unchanged, skipped: %s",
+                                item.sequence + 1, totalLabel(), task.getSourceFile()));
+            } else if (item.error == null) {
+                if (manifest != null) {
+                    manifest.record(task, item.fingerprint);
+                }
+                batchReport.recordSuccess(
+                        task.getSourceFile(), task.getTargetFile(), task.getReportFile());
+                appendJournal(task, Status.SUCCESS, null);
+                if (item.duplicateOf != null) {
+                    batchReport.recordDeduplicated(task.getSourceFile(), item.duplicateOf);
+                    System.out.println(
+                            String.format(
+                                    "[%d/%s] Duplicate of %s, output reused: %s -> %s",
+                                    item.sequence + 1,
+                                    totalLabel(),
+                                    item.duplicateOf,
+                                    task.getSourceFile(),
+                                    task.getTargetFile()));
+                } else {
+                    System.out.println(
+                            String.format(
+                                    "[%d/%s] Conversion completed: %s -> %s",
+                                    item.sequence + 1,
+                                    totalLabel(),
+                                    task.getSourceFile(),
+                                    task.getTargetFile()));
+                }
+            } else {
+                String message =
+                        item.error.getMessage() != null
+                                ? item.error.getMessage()
+                                : item.error.toString();
+                logger.error(
+                        "File conversion failed: {} -> {} , error: {}",
+                        task.getSourceFile(),
+                        task.getTargetFile(),
+                        message);
+                batchReport.recordFailure(task.getSourceFile(), message);
+                appendJournal(task, Status.FAILURE, message);
+            }
+        }
+
+        private void appendJournal(ConversionTask task, Status status, String error) {
+            if (journal != null) {
+                journal.append(task, status, error);
+            }
+        }
+
+        private String totalLabel() {
+            int current = total.get();
+            return current == UNKNOWN_TOTAL ? "?" : String.valueOf(current);
+        }
+
+        private ExecutorService newStage(int threads, String name) {
+            // Never more than capacity files are in flight, so the queue can never overflow
+            return new ThreadPoolExecutor(
+                    threads,
+                    threads,
+                    0L,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(capacity),
+                    new StageThreadFactory(name));
+        }
+    }
+
+    /**
+     * Hash of the canonical form of a job, so copies that differ only in whitespace or key order
+     * share it
+     */
+    static String dedupKey(ConversionContext context) {
+        return HashUtils.sha256(CanonicalJson.canonicalize(context.getRoot()));
+    }
+
+    private static ConversionContext parseOrNull(SourceContent sourceContent) {
+        try {
+            return ConversionContext.parse(sourceContent);
+        } catch (Exception e) {
+            // Invalid jobs are converted on their own and fail with the usual error
+            return null;
+        }
+    }
+
+    private static Map<String, DedupEntry> newDedupCache() {
+        return new LinkedHashMap<String, DedupEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DedupEntry> eldest) {
+                return size() > DEDUP_CACHE_SIZE;
+            }
+        };
+    }
+
+    /** First job with a given canonical hash and its conversion, completed once it finished */
+    private static class DedupEntry {
+        private final String sourceFile;
+        private final CompletableFuture<ConversionOutput> output = new CompletableFuture<>();
+
+        DedupEntry(String sourceFile) {
+            this.sourceFile = sourceFile;
+        }
+
+        void complete(ConversionOutput result, Throwable error) {
+            if (error != null || result == null) {
+                output.completeExceptionally(
+                        error != null ? error : new IllegalStateException("No conversion output"));
+            } else {
+                // Duplicates render their own report, only the target and mapping are kept
+                output.complete(
+                        new ConversionOutput(
+                                result.getTargetContent(),
+                                null,
+                                result.getMappingResult(),
+                                result.getSourceTemplate(),
+                                result.getSinkTemplate()));
+            }
+        }
+    }
+
+    /** Writes a converted configuration or report */
+    @FunctionalInterface
+    public interface OutputWriter {
+        void write(String path, String content);
+    }
+
+    /** A single file conversion in a batch */
+    public static class ConversionTask {
+        private final String sourceFile;
+        private final String targetFile;
+        private final String reportFile;
+        private final String sourceContent;
+
+        public ConversionTask(String sourceFile, String targetFile, String reportFile) {
+            this(sourceFile, targetFile, reportFile, null);
+        }
+
+        /**
+         * Create a task whose source was already read, e.g. from an archive entry
+         *
+         * @param sourceFile source name, used for reports and logs
+         * @param targetFile target path
+         * @param reportFile report path, can be null
+         * @param sourceContent source content, null reads the source file
+         */
+        public ConversionTask(
+                String sourceFile, String targetFile, String reportFile, String sourceContent) {
+            this.sourceFile = sourceFile;
+            this.targetFile = targetFile;
+            this.reportFile = reportFile;
+            this.sourceContent = sourceContent;
+        }
+
+        public String getSourceFile() {
+            return sourceFile;
+        }
+
+        public String getTargetFile() {
+            return targetFile;
+        }
+
+        public String getReportFile() {
+            return reportFile;
+        }
+
+        /** Source content supplied with the task, null when it is read from the source file */
+        public String getSourceContent() {
+            return sourceContent;
+        }
+    }
+
+    /** A file moving through the pipeline, handed between stages by the executors */
+    private static class FileItem {
+        private final int sequence;
+        private final ConversionTask task;
+        private SourceContent sourceContent;
+        private ConversionOutput output;
+        private ConversionManifest.JobFingerprint fingerprint;
+        // Unchanged since the last incremental run
+        private boolean skipped;
+        // Completed by a previous run according to the journal
+        private boolean resumed;
+        // Set by the first stage that fails, later stages pass the item through
+        private Throwable error;
+        // Source file of the identical job whose output this one reuses
+        private String duplicateOf;
+
+        FileItem(int sequence, ConversionTask task) {
+            this.sequence = sequence;
+            this.task = task;
+        }
+    }
+
+    /** Names stage threads so batch logs can be attributed */
+    private static class StageThreadFactory implements ThreadFactory {
+        private final String stage;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        StageThreadFactory(String stage) {
+            this.stage = stage;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread =
+                    new Thread(runnable, "x2seatunnel-" + stage + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -18,38 +18,62 @@
 package org.apache.seatunnel.tools.x2seatunnel.core;
 
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
-import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.apache.seatunnel.tools.x2seatunnel.model.ConversionContext;
 import org.apache.seatunnel.tools.x2seatunnel.model.MappingResult;
 import org.apache.seatunnel.tools.x2seatunnel.model.MappingTracker;
 import org.apache.seatunnel.tools.x2seatunnel.report.MarkdownReportGenerator;
+import org.apache.seatunnel.tools.x2seatunnel.template.CompiledTemplate;
 import org.apache.seatunnel.tools.x2seatunnel.template.ConfigDrivenTemplateEngine;
 import org.apache.seatunnel.tools.x2seatunnel.template.ConfigDrivenTemplateEngine.TemplateConversionResult;
+import org.apache.seatunnel.tools.x2seatunnel.template.RenderContext;
+import org.apache.seatunnel.tools.x2seatunnel.template.TemplateLoader;
 import org.apache.seatunnel.tools.x2seatunnel.template.TemplateMappingManager;
 import org.apache.seatunnel.tools.x2seatunnel.template.TemplateVariableResolver;
 import org.apache.seatunnel.tools.x2seatunnel.util.FileUtils;
+import org.apache.seatunnel.tools.x2seatunnel.util.JsonProjection;
 import org.apache.seatunnel.tools.x2seatunnel.util.PathResolver;
+import org.apache.seatunnel.tools.x2seatunnel.util.SourceContent;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.util.List;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /** Core conversion engine */
 public class ConversionEngine {
 
     private static final Logger logger = LoggerFactory.getLogger(ConversionEngine.class);
 
-    private final TemplateVariableResolver templateResolver;
+    // Validation checks that every content entry has a reader and a writer
+    private static final String VALIDATED_READER_PATH = "job.content[%d].reader.name";
+    private static final String VALIDATED_WRITER_PATH = "job.content[%d].writer.name";
+    // Content entry a referenced path looks into
+    private static final Pattern CONTENT_INDEX_PATTERN =
+            Pattern.compile("^job\\.content\\[(\\d{1,4})]");
+
+    // Distinct custom templates whose projections are kept
+    private static final int MAX_PROJECTIONS = 64;
+
     private final ConfigDrivenTemplateEngine configDrivenEngine;
     private final TemplateMappingManager templateMappingManager;
+    // Stateless, renders every custom template
+    private final TemplateVariableResolver templateResolver;
+    // Custom template content -> paths the template looks up
+    private final Map<String, JsonProjection> projections = new ConcurrentHashMap<>();
 
     public ConversionEngine() {
         this.templateMappingManager = TemplateMappingManager.getInstance();
-        this.templateResolver = new TemplateVariableResolver(templateMappingManager);
         this.configDrivenEngine = new ConfigDrivenTemplateEngine();
+        this.templateResolver = new TemplateVariableResolver(templateMappingManager);
     }
 
     /**
@@ -87,110 +111,417 @@ public class ConversionEngine {
             String targetType,
             String customTemplate,
             String reportFile) {
-        logger.info("Starting configuration conversion...");
-        logger.info("Source file: {}", sourceFile);
-        logger.info("Target file: {}", targetFile);
-        logger.info("Source type: {}", sourceType);
-        logger.info("Target type: {}", targetType);
-        if (customTemplate != null) {
-            logger.info("Custom template: {}", customTemplate);
-        }
+        logConversionStart(sourceFile, targetFile, sourceType, targetType, customTemplate);
 
         try {
             // Read source file
             logger.info("Reading input file...");
-            String sourceContent = FileUtils.readFile(sourceFile);
+            // Parsed on this thread from its pooled buffer, without decoding a string
+            SourceContent sourceContent = FileUtils.readSource(sourceFile);
             logger.info("File read successfully, size: {} bytes", sourceContent.length());
 
-            // Validate DataX configuration format
-            logger.info("Validating {} configuration format...", sourceType);
-            validateDataXFormat(sourceContent);
-            logger.info("Configuration validation completed");
+            ConversionContext context =
+                    parseDataXContent(sourceContent, customTemplate, reportFile);
 
-            String targetContent;
-            MappingResult mappingResult = null;
-            TemplateConversionResult templateResult = null;
+            // Render straight into the target file, it replaces an existing one once complete
+            logger.info("Writing target file...");
+            ConversionOutput output =
+                    FileUtils.writeFile(
+                            targetFile,
+                            target ->
+                                    doConvert(
+                                            sourceFile,
+                                            context,
+                                            targetFile,
+                                            sourceType,
+                                            customTemplate,
+                                            reportFile,
+                                            hasReport(reportFile),
+                                            target));
+            logger.info("Output file generation completed: {}", targetFile);
 
-            if (customTemplate != null && !customTemplate.trim().isEmpty()) {
-                // Use custom template for conversion (simplified approach)
-                logger.info("Using custom template for conversion: {}", customTemplate);
-                targetContent = convertWithCustomTemplate(customTemplate, sourceContent);
-                logger.info("Custom template conversion completed");
-            } else {
-                // Use configuration-driven standard conversion process
-                logger.info("Using configuration-driven standard conversion process");
+            if (output.getReportContent() != null) {
+                FileUtils.writeFile(reportFile, output.getReportContent());
+                logger.info("Conversion report generation completed: {}", reportFile);
+            }
 
-                templateResult = configDrivenEngine.convertWithTemplate(sourceContent);
+        } catch (Exception e) {
+            logger.error("Configuration conversion failed: {}", e.getMessage(), e);
+            throw new RuntimeException("Configuration conversion failed", e);
+        }
+    }
 
-                if (!templateResult.isSuccess()) {
-                    throw new RuntimeException(
-                            "Configuration-driven template conversion failed: "
-                                    + templateResult.getErrorMessage());
-                }
+    /**
+     * Execute configuration conversion on content that has already been read, without touching the
+     * file system for the source, target or report. File names are only used for the report
+     * content.
+     *
+     * @param sourceFile Source file path
+     * @param sourceContent Source file content
+     * @param targetFile Target file path
+     * @param sourceType Source type
+     * @param targetType Target type
+     * @param customTemplate Custom template file name, can be null
+     * @param reportFile Report file path. When null no report content is generated and, as mappings
+     *     are then not tracked, the output has no mapping result
+     * @return Converted configuration content and report content
+     */
+    public ConversionOutput convertContent(
+            String sourceFile,
+            String sourceContent,
+            String targetFile,
+            String sourceType,
+            String targetType,
+            String customTemplate,
+            String reportFile) {
+        return convertContent(
+                sourceFile,
+                SourceContent.of(sourceContent),
+                targetFile,
+                sourceType,
+                targetType,
+                customTemplate,
+                reportFile);
+    }
 
-                targetContent = templateResult.getConfigContent();
-                mappingResult = templateResult.getMappingResult();
-            }
+    /**
+     * Execute configuration conversion on content that has already been read, parsing it straight
+     * from its bytes
+     *
+     * @param sourceFile Source file path
+     * @param sourceContent Source file content
+     * @param targetFile Target file path
+     * @param sourceType Source type
+     * @param targetType Target type
+     * @param customTemplate Custom template file name, can be null
+     * @param reportFile Report file path. When null no report content is generated and, as mappings
+     *     are then not tracked, the output has no mapping result
+     * @return Converted configuration content and report content
+     */
+    public ConversionOutput convertContent(
+            String sourceFile,
+            SourceContent sourceContent,
+            String targetFile,
+            String sourceType,
+            String targetType,
+            String customTemplate,
+            String reportFile) {
+        logConversionStart(sourceFile, targetFile, sourceType, targetType, customTemplate);
+        try {
+            return doConvert(
+                    sourceFile,
+                    parseDataXContent(sourceContent, customTemplate, reportFile),
+                    targetFile,
+                    sourceType,
+                    customTemplate,
+                    reportFile,
+                    hasReport(reportFile),
+                    null);
+        } catch (Exception e) {
+            logger.error("Configuration conversion failed: {}", e.getMessage(), e);
+            throw new RuntimeException("Configuration conversion failed", e);
+        }
+    }
 
-            // Generate report (if report file is specified)
-            if (reportFile != null && !reportFile.trim().isEmpty()) {
-                logger.info("Generating conversion report...");
-                if (mappingResult != null && templateResult != null) {
-                    // Detailed report for standard conversion
-                    generateDetailedConversionReport(
-                            mappingResult,
-                            sourceFile,
-                            targetFile,
-                            sourceType,
-                            customTemplate,
-                            templateResult.getSourceTemplate(),
-                            templateResult.getSinkTemplate(),
-                            reportFile);
-                } else {
-                    // Custom template conversion: analyze custom template to generate report data
-                    logger.info("Generating report data for custom template conversion...");
-                    MappingResult customMappingResult =
-                            analyzeCustomTemplate(customTemplate, sourceContent);
-                    generateDetailedConversionReport(
-                            customMappingResult,
-                            sourceFile,
-                            targetFile,
-                            sourceType,
-                            customTemplate,
-                            customTemplate, // Custom template as source template
-                            customTemplate, // Custom template as target template
-                            reportFile);
-                }
-                logger.info("Conversion report generation completed: {}", reportFile);
-            }
+    /**
+     * Execute configuration conversion on a DataX job that has already been parsed, e.g. to compute
+     * its dedup key. Every phase works on the same parsed tree.
+     *
+     * @param sourceFile Source file path
+     * @param context Parsed source job
+     * @param targetFile Target file path
+     * @param sourceType Source type
+     * @param targetType Target type
+     * @param customTemplate Custom template file name, can be null
+     * @param reportFile Report file path. When null no report content is generated and, as mappings
+     *     are then not tracked, the output has no mapping result
+     * @return Converted configuration content and report content
+     */
+    public ConversionOutput convertContent(
+            String sourceFile,
+            ConversionContext context,
+            String targetFile,
+            String sourceType,
+            String targetType,
+            String customTemplate,
+            String reportFile) {
+        return convertContent(
+                sourceFile,
+                context,
+                targetFile,
+                sourceType,
+                targetType,
+                customTemplate,
+                reportFile,
+                hasReport(reportFile));
+    }
 
-            // Write target file
-            logger.info("Writing target file...");
-            FileUtils.writeFile(targetFile, targetContent);
-            logger.info("Output file generation completed: {}", targetFile);
+    /**
+     * Execute configuration conversion on a DataX job that has already been parsed, tracking the
+     * field mappings even without a report, e.g. to summarize them. Without tracking nothing is
+     * recorded while rendering and the output has no mapping result.
+     *
+     * @param sourceFile Source file path
+     * @param context Parsed source job
+     * @param targetFile Target file path
+     * @param sourceType Source type
+     * @param targetType Target type
+     * @param customTemplate Custom template file name, can be null
+     * @param reportFile Report file path, no report content is generated when null
+     * @param trackMappings Whether to track field mappings, always done with a report
+     * @return Converted configuration content and report content
+     */
+    public ConversionOutput convertContent(
+            String sourceFile,
+            ConversionContext context,
+            String targetFile,
+            String sourceType,
+            String targetType,
+            String customTemplate,
+            String reportFile,
+            boolean trackMappings) {
+        logConversionStart(sourceFile, targetFile, sourceType, targetType, customTemplate);
+        try {
+            return doConvert(
+                    sourceFile,
+                    context,
+                    targetFile,
+                    sourceType,
+                    customTemplate,
+                    reportFile,
+                    trackMappings || hasReport(reportFile),
+                    null);
+        } catch (Exception e) {
+            logger.error("Configuration conversion failed: {}", e.getMessage(), e);
+            throw new RuntimeException("Configuration conversion failed", e);
+        }
+    }
 
+    /**
+     * Execute configuration conversion on a DataX job that has already been parsed and write the
+     * converted configuration straight into a writer, e.g. of a socket or an archive entry. Wrap an
+     * {@code OutputStream} in an {@code OutputStreamWriter} to stream bytes. The output carries no
+     * target content, and the writer may hold partial output if the conversion fails.
+     *
+     * @param sourceFile Source file path
+     * @param context Parsed source job
+     * @param targetFile Target file path shown in the report
+     * @param sourceType Source type
+     * @param targetType Target type
+     * @param customTemplate Custom template file name, can be null
+     * @param reportFile Report file path. When null no report content is generated and, as mappings
+     *     are then not tracked, the output has no mapping result
+     * @param target Writer the converted configuration is written to, not flushed or closed
+     * @return Report content and mapping result
+     */
+    public ConversionOutput convertContent(
+            String sourceFile,
+            ConversionContext context,
+            String targetFile,
+            String sourceType,
+            String targetType,
+            String customTemplate,
+            String reportFile,
+            Writer target) {
+        logConversionStart(sourceFile, targetFile, sourceType, targetType, customTemplate);
+        try {
+            return doConvert(
+                    sourceFile,
+                    context,
+                    targetFile,
+                    sourceType,
+                    customTemplate,
+                    reportFile,
+                    hasReport(reportFile),
+                    target);
         } catch (Exception e) {
             logger.error("Configuration conversion failed: {}", e.getMessage(), e);
             throw new RuntimeException("Configuration conversion failed", e);
         }
     }
 
+    private void logConversionStart(
+            String sourceFile,
+            String targetFile,
+            String sourceType,
+            String targetType,
+            String customTemplate) {
+        logger.info("Starting configuration conversion...");
+        logger.info("Source file: {}", sourceFile);
+        logger.info("Target file: {}", targetFile);
+        logger.info("Source type: {}", sourceType);
+        logger.info("Target type: {}", targetType);
+        if (customTemplate != null) {
+            logger.info("Custom template: {}", customTemplate);
+        }
+    }
+
+    private static boolean hasReport(String reportFile) {
+        return reportFile != null && !reportFile.trim().isEmpty();
+    }
+
+    /**
+     * Convert a parsed job, into the target writer if there is one, otherwise into the target
+     * content of the output. Field mappings are only tracked when asked to, a report needs them.
+     */
+    private ConversionOutput doConvert(
+            String sourceFile,
+            ConversionContext context,
+            String targetFile,
+            String sourceType,
+            String customTemplate,
+            String reportFile,
+            boolean trackMappings,
+            Writer target)
+            throws IOException {
+        // Validate DataX configuration format
+        logger.info("Validating {} configuration format...", sourceType);
+        validateDataXFormat(context);
+        logger.info("Configuration validation completed");
+
+        String targetContent;
+        MappingResult mappingResult = null;
+        TemplateConversionResult templateResult = null;
+        boolean generateReport = hasReport(reportFile);
+
+        if (customTemplate != null && !customTemplate.trim().isEmpty()) {
+            // Use custom template for conversion (simplified approach). When tracked, the same
+            // rendering pass records the mappings the report is generated from
+            logger.info("Using custom template for conversion: {}", customTemplate);
+            MappingTracker customTracker = trackMappings ? new MappingTracker() : null;
+            targetContent =
+                    convertWithCustomTemplate(customTemplate, context, customTracker, target);
+            if (customTracker != null) {
+                mappingResult = generateCustomMappingResult(customTracker);
+            }
+            logger.info("Custom template conversion completed");
+        } else {
+            // Use configuration-driven standard conversion process
+            logger.info("Using configuration-driven standard conversion process");
+
+            templateResult =
+                    target != null
+                            ? configDrivenEngine.convertWithTemplate(context, target, trackMappings)
+                            : configDrivenEngine.convertWithTemplate(context, trackMappings);
+
+            if (!templateResult.isSuccess()) {
+                throw new RuntimeException(
+                        "Configuration-driven template conversion failed: "
+                                + templateResult.getErrorMessage());
+            }
+
+            targetContent = templateResult.getConfigContent();
+            mappingResult = templateResult.getMappingResult();
+        }
+
+        // Generate report (if report file is specified)
+        String reportContent = null;
+        if (generateReport) {
+            logger.info("Generating conversion report...");
+            if (templateResult != null) {
+                // Detailed report for standard conversion
+                reportContent =
+                        generateDetailedConversionReport(
+                                mappingResult,
+                                sourceFile,
+                                targetFile,
+                                sourceType,
+                                customTemplate,
+                                templateResult.getSourceTemplate(),
+                                templateResult.getSinkTemplate());
+            } else {
+                // Custom template conversion, mappings recorded while rendering
+                reportContent =
+                        generateDetailedConversionReport(
+                                mappingResult,
+                                sourceFile,
+                                targetFile,
+                                sourceType,
+                                customTemplate,
+                                customTemplate, // Custom template as source template
+                                customTemplate); // Custom template as target template
+            }
+        }
+        return templateResult != null
+                ? new ConversionOutput(
+                        targetContent,
+                        reportContent,
+                        mappingResult,
+                        templateResult.getSourceTemplate(),
+                        templateResult.getSinkTemplate())
+                : new ConversionOutput(
+                        targetContent,
+                        reportContent,
+                        mappingResult,
+                        customTemplate,
+                        customTemplate);
+    }
+
+    /**
+     * Generate the report of a finished conversion for other source and target names, e.g. for a
+     * duplicate of an already converted job
+     *
+     * @param output Conversion output with a mapping result
+     * @param sourceFile Source file path shown in the report
+     * @param targetFile Target file path shown in the report
+     * @param sourceType Source type
+     * @param customTemplate Custom template file name, can be null
+     * @return Report content
+     */
+    public String generateReport(
+            ConversionOutput output,
+            String sourceFile,
+            String targetFile,
+            String sourceType,
+            String customTemplate) {
+        if (output.getMappingResult() == null) {
+            throw new IllegalArgumentException("Conversion output has no mapping result");
+        }
+        return generateDetailedConversionReport(
+                output.getMappingResult(),
+                sourceFile,
+                targetFile,
+                sourceType,
+                customTemplate,
+                output.getSourceTemplate(),
+                output.getSinkTemplate());
+    }
+
     /**
      * Convert using custom template
      *
      * @param customTemplate Custom template file name
-     * @param sourceContent Original DataX JSON content
-     * @return Converted configuration content
+     * @param context Parsed DataX job
+     * @param mappingTracker Tracker the field mappings are recorded into, null to not record them
+     * @param target Writer the configuration is rendered into, can be null
+     * @return Converted configuration content, null when it was written to the target
      */
-    private String convertWithCustomTemplate(String customTemplate, String sourceContent) {
+    private String convertWithCustomTemplate(
+            String customTemplate,
+            ConversionContext context,
+            MappingTracker mappingTracker,
+            Writer target)
+            throws IOException {
         try {
             // Load custom template
-            String templateContent = loadCustomTemplate(customTemplate);
+            CompiledTemplate template = loadCustomTemplate(customTemplate);
+            if (mappingTracker != null) {
+                logger.info(
+                        "Custom template contains {} field mappings",
+                        template.getMappedFieldCount());
+            }
 
             // Use template variable resolver for variable substitution (using original JSON
             // content)
-            return templateResolver.resolve(templateContent, sourceContent);
+            RenderContext renderContext = templateResolver.newRenderContext(mappingTracker, null);
+            if (target == null) {
+                return templateResolver.resolve(template, context, renderContext);
+            }
+            templateResolver.resolve(template, context, renderContext, target);
+            return null;
 
+        } catch (IOException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Custom template conversion failed: {}", e.getMessage(), e);
             throw new RuntimeException("Custom template conversion failed: " + e.getMessage(), e);
@@ -201,30 +532,20 @@ public class ConversionEngine {
      * Load custom template file
      *
      * @param templatePath Template file path (supports absolute and relative paths)
-     * @return Template content
+     * @return Compiled template, shared with other conversions using it
      */
-    private String loadCustomTemplate(String templatePath) {
+    private CompiledTemplate loadCustomTemplate(String templatePath) {
         logger.info("Loading custom template: {}", templatePath);
 
-        // 1. Use intelligent path resolver to find template in file system
-        String resolvedPath = PathResolver.resolveTemplatePath(templatePath);
-        if (resolvedPath != null && PathResolver.exists(resolvedPath)) {
-            logger.info("Loading template from file system: {}", resolvedPath);
-            return FileUtils.readFile(resolvedPath);
-        }
-
-        // 2. Load from classpath (built-in templates)
+        // 1. File system, then 2. classpath (built-in templates)
         try {
-            String resourcePath = PathResolver.buildResourcePath(templatePath);
-            logger.info("Attempting to load template from classpath: {}", resourcePath);
-
-            String content = FileUtils.readResourceFile(resourcePath);
-            if (content != null && !content.trim().isEmpty()) {
-                logger.info("Successfully loaded template from classpath: {}", resourcePath);
-                return content;
+            CompiledTemplate template = TemplateLoader.loadCompiled(templatePath);
+            if (template != null && !template.isBlank()) {
+                logger.info("Successfully loaded custom template: {}", templatePath);
+                return template;
             }
         } catch (Exception e) {
-            logger.debug("Failed to load template from classpath: {}", e.getMessage());
+            logger.debug("Failed to load custom template: {}", e.getMessage());
         }
 
         // 3. Generate detailed error information to help users debug
@@ -248,39 +569,103 @@ public class ConversionEngine {
                         PathResolver.buildResourcePath(templatePath)));
     }
 
-    /** Generate detailed conversion report */
-    private void generateDetailedConversionReport(
+    /** Generate detailed conversion report content */
+    private String generateDetailedConversionReport(
             MappingResult mappingResult,
             String sourceFile,
             String targetFile,
             String sourceType,
             String customTemplate,
             String sourceTemplate,
-            String sinkTemplate,
-            String reportFile) {
+            String sinkTemplate) {
         MarkdownReportGenerator reportGenerator = new MarkdownReportGenerator();
-        String reportContent =
-                reportGenerator.generateReport(
-                        mappingResult,
-                        sourceFile,
-                        targetFile,
-                        sourceType,
-                        customTemplate,
-                        sourceTemplate,
-                        sinkTemplate);
-        FileUtils.writeFile(reportFile, reportContent);
+        return reportGenerator.generateReport(
+                mappingResult,
+                sourceFile,
+                targetFile,
+                sourceType,
+                customTemplate,
+                sourceTemplate,
+                sinkTemplate);
     }
 
     /**
-     * Validate DataX configuration format
+     * Parse DataX configuration, once for all conversion phases. A custom template conversion
+     * without report only reads the paths the template looks up, so only those are parsed into a
+     * tree. Every other conversion tracks unmapped fields and needs the whole job.
      *
      * @param sourceContent DataX JSON content
+     * @param customTemplate Custom template file name, can be null
+     * @param reportFile Report file path, can be null
+     * @return Parsed job
+     * @throws IllegalArgumentException if the content is not valid JSON
+     */
+    private ConversionContext parseDataXContent(
+            SourceContent sourceContent, String customTemplate, String reportFile) {
+        JsonProjection projection =
+                customTemplate != null
+                                && !customTemplate.trim().isEmpty()
+                                && (reportFile == null || reportFile.trim().isEmpty())
+                        ? projectionFor(customTemplate)
+                        : null;
+        try {
+            return projection != null
+                    ? ConversionContext.parse(sourceContent, projection)
+                    : ConversionContext.parse(sourceContent);
+        } catch (Exception e) {
+            logger.error("DataX configuration validation failed: {}", e.getMessage());
+            throw new IllegalArgumentException(
+                    "Invalid DataX configuration format: " + e.getMessage(), e);
+        }
+    }
+
+    /** Projection of the paths a custom template looks up, null if it cannot be loaded */
+    private JsonProjection projectionFor(String customTemplate) {
+        CompiledTemplate template;
+        try {
+            template = TemplateLoader.loadCompiled(customTemplate);
+        } catch (Exception e) {
+            // Reported by the conversion itself, after the job was validated
+            return null;
+        }
+        if (template == null) {
+            return null;
+        }
+        JsonProjection projection = projections.get(template.getSource());
+        if (projection == null) {
+            Set<String> paths = new HashSet<>(template.getReferencedPaths());
+            // Entries up to the last referenced one are kept, the others are nulls unless their
+            // reader and writer are kept for the validation too
+            int lastContentIndex = 0;
+            for (String path : template.getReferencedPaths()) {
+                Matcher matcher = CONTENT_INDEX_PATTERN.matcher(path);
+                if (matcher.find()) {
+                    lastContentIndex =
+                            Math.max(lastContentIndex, Integer.parseInt(matcher.group(1)));
+                }
+            }
+            for (int i = 0; i <= lastContentIndex; i++) {
+                paths.add(String.format(VALIDATED_READER_PATH, i));
+                paths.add(String.format(VALIDATED_WRITER_PATH, i));
+            }
+            projection = JsonProjection.of(paths);
+            if (projections.size() >= MAX_PROJECTIONS) {
+                projections.clear();
+            }
+            projections.put(template.getSource(), projection);
+        }
+        return projection;
+    }
+
+    /**
+     * Validate DataX configuration format
+     *
+     * @param context Parsed DataX job
      * @throws IllegalArgumentException if configuration format is invalid
      */
-    private void validateDataXFormat(String sourceContent) {
+    private void validateDataXFormat(ConversionContext context) {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(sourceContent);
+            JsonNode rootNode = context.getRoot();
 
             // Validate basic structure
             if (!rootNode.has("job")) {
@@ -300,15 +685,20 @@ public class ConversionEngine {
                         "DataX configuration 'content' must be a non-empty array");
             }
 
-            // Validate first content item has reader and writer
-            JsonNode firstContent = contentNode.get(0);
-            if (!firstContent.has("reader")) {
-                throw new IllegalArgumentException(
-                        "DataX configuration missing required 'reader' configuration");
-            }
-            if (!firstContent.has("writer")) {
-                throw new IllegalArgumentException(
-                        "DataX configuration missing required 'writer' configuration");
+            // Validate every content item has reader and writer, each becomes a pipeline
+            for (int i = 0; i < contentNode.size(); i++) {
+                JsonNode content = contentNode.get(i);
+                String location = i == 0 ? "" : " in content[" + i + "]";
+                if (!content.has("reader")) {
+                    throw new IllegalArgumentException(
+                            "DataX configuration missing required 'reader' configuration"
+                                    + location);
+                }
+                if (!content.has("writer")) {
+                    throw new IllegalArgumentException(
+                            "DataX configuration missing required 'writer' configuration"
+                                    + location);
+                }
             }
 
         } catch (Exception e) {
@@ -318,51 +708,77 @@ public class ConversionEngine {
         }
     }
 
-    /** Analyze custom template and generate mapping result */
-    private MappingResult analyzeCustomTemplate(String customTemplate, String sourceContent) {
-        logger.info("Starting analysis of custom template: {}", customTemplate);
+    /** Generate the mapping result of a custom template from the mappings of its rendering */
+    private MappingResult generateCustomMappingResult(MappingTracker customTracker) {
+        MappingResult result = customTracker.generateMappingResult();
+        result.setSuccess(true);
+
+        logger.info(
+                "Custom template analysis completed: direct mappings({}), transform mappings({}), default values({}), missing({}), unmapped({})",
+                result.getSuccessMappings().size(),
+                result.getTransformMappings().size(),
+                result.getDefaultValues().size(),
+                result.getMissingRequiredFields().size(),
+                result.getUnmappedFields().size());
+        return result;
+    }
 
-        try {
-            // 1. Load custom template content
-            String templateContent = loadCustomTemplate(customTemplate);
-
-            // 2. Create dedicated mapping tracker and variable resolver
-            MappingTracker customTracker = new MappingTracker();
-            TemplateVariableResolver customResolver =
-                    new TemplateVariableResolver(templateMappingManager, customTracker);
-
-            // 3. Analyze template and extract field mapping relationships
-            logger.info("Analyzing field mapping relationships in custom template...");
-            Map<String, List<String>> fieldMappings =
-                    customResolver.analyzeTemplateFieldMappings(templateContent, "custom");
-            logger.info("Custom template contains {} field mappings", fieldMappings.size());
-
-            // 4. Parse template variables and trigger mapping tracking
-            logger.info("Parsing custom template variables...");
-            customResolver.resolveWithTemplateAnalysis(templateContent, "custom", sourceContent);
-
-            // 5. Generate mapping result
-            MappingResult result = customTracker.generateMappingResult();
-            result.setSuccess(true);
-
-            logger.info(
-                    "Custom template analysis completed: direct mappings({}), transform mappings({}), default values({}), missing({}), unmapped({})",
-                    result.getSuccessMappings().size(),
-                    result.getTransformMappings().size(),
-                    result.getDefaultValues().size(),
-                    result.getMissingRequiredFields().size(),
-                    result.getUnmappedFields().size());
-
-            return result;
+    /** Converted configuration content together with its report content */
+    public static class ConversionOutput {
+        private final String targetContent;
+        private final String reportContent;
+        private final MappingResult mappingResult;
+        private final String sourceTemplate;
+        private final String sinkTemplate;
 
-        } catch (Exception e) {
-            logger.error("Custom template analysis failed: {}", e.getMessage(), e);
-            // Return a basic success result to avoid report generation failure
-            MappingResult fallbackResult = new MappingResult();
-            fallbackResult.setSuccess(true);
-            fallbackResult.addDefaultValueField(
-                    "template.type", "custom", "Using custom template: " + customTemplate);
-            return fallbackResult;
+        public ConversionOutput(String targetContent, String reportContent) {
+            this(targetContent, reportContent, null);
+        }
+
+        public ConversionOutput(
+                String targetContent, String reportContent, MappingResult mappingResult) {
+            this(targetContent, reportContent, mappingResult, null, null);
+        }
+
+        public ConversionOutput(
+                String targetContent,
+                String reportContent,
+                MappingResult mappingResult,
+                String sourceTemplate,
+                String sinkTemplate) {
+            this.targetContent = targetContent;
+            this.reportContent = reportContent;
+            this.mappingResult = mappingResult;
+            this.sourceTemplate = sourceTemplate;
+            this.sinkTemplate = sinkTemplate;
+        }
+
+        /** Converted configuration, null when it was written to a target writer */
+        public String getTargetContent() {
+            return targetContent;
+        }
+
+        /** Report content, null when no report was requested */
+        public String getReportContent() {
+            return reportContent;
+        }
+
+        /**
+         * Field mapping result, null when the conversion did not track mappings, which it only does
+         * with a report unless asked to
+         */
+        public MappingResult getMappingResult() {
+            return mappingResult;
+        }
+
+        /** Template the source section was rendered from, the custom template if one was used */
+        public String getSourceTemplate() {
+            return sourceTemplate;
+        }
+
+        /** Template the sink section was rendered from, the custom template if one was used */
+        public String getSinkTemplate() {
+            return sinkTemplate;
         }
     }
 }
@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.core;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.tools.x2seatunnel.core.BatchConversionEngine.ConversionTask;
+import org.apache.seatunnel.tools.x2seatunnel.util.BatchConversionReport;
+import org.apache.seatunnel.tools.x2seatunnel.util.FileUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Append-only batch conversion journal, kept in the batch output directory. Every finished job is
+ * appended as one JSON line as soon as its outputs are written, so a batch that dies halfway can be
+ * resumed from the journal instead of starting over.
+ *
+ * <p>Each line is handed to the operating system immediately, which survives the process being
+ * killed; the journal is additionally synced to disk every {@value #SYNC_INTERVAL} entries and on
+ * close.
+ */
+public class ConversionJournal implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConversionJournal.class);
+
+    /** Journal file name, without a scanned extension so it never becomes a batch input */
+    public static final String JOURNAL_FILE_NAME = ".x2seatunnel.journal";
+
+    private static final int SYNC_INTERVAL = 100;
+
+    /** Outcome of a journaled job */
+    public enum Status {
+        SUCCESS,
+        FAILURE,
+        SKIPPED
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path journalPath;
+    private final FileChannel channel;
+    // Latest entry per source file from the journal being resumed
+    private final Map<String, Entry> resumedEntries;
+    private int unsyncedEntries;
+
+    private ConversionJournal(Path journalPath, Map<String, Entry> resumedEntries, boolean append)
+            throws IOException {
+        this.journalPath = journalPath;
+        this.resumedEntries = resumedEntries;
+        Files.createDirectories(journalPath.toAbsolutePath().getParent());
+        this.channel =
+                append
+                        ? FileChannel.open(
+                                journalPath,
+                                StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE,
+                                StandardOpenOption.APPEND)
+                        : FileChannel.open(
+                                journalPath,
+                                StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE,
+                                StandardOpenOption.TRUNCATE_EXISTING);
+        if (append) {
+            terminateTornLine();
+        }
+    }
+
+    /** Start appending on a new line if the previous run was killed in the middle of a line */
+    private void terminateTornLine() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return;
+        }
+        ByteBuffer lastByte = ByteBuffer.allocate(1);
+        try (FileChannel reader = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+            reader.read(lastByte, size - 1);
+        }
+        if (lastByte.get(0) != '\n') {
+            channel.write(ByteBuffer.wrap(new byte[] {'\n'}));
+        }
+    }
+
+    /**
+     * Open the journal of an output directory
+     *
+     * @param outputDir batch output directory
+     * @param resume true to keep the existing journal and skip the jobs it lists as completed,
+     *     false to start a new journal
+     * @return journal
+     */
+    public static ConversionJournal open(String outputDir, boolean resume) {
+        return open(Paths.get(outputDir, JOURNAL_FILE_NAME), resume);
+    }
+
+    /**
+     * Open a journal file
+     *
+     * @param journalPath journal file path
+     * @param resume true to keep the existing journal and skip the jobs it lists as completed,
+     *     false to start a new journal
+     * @return journal
+     */
+    public static ConversionJournal open(Path journalPath, boolean resume) {
+        try {
+            Map<String, Entry> resumedEntries = new HashMap<>();
+            if (resume && Files.exists(journalPath)) {
+                readEntries(journalPath, resumedEntries);
+                logger.info(
+                        "Resuming batch conversion, journal contains {} files: {}",
+                        resumedEntries.size(),
+                        journalPath);
+            } else if (resume) {
+                logger.warn("No journal to resume from, converting all files: {}", journalPath);
+            }
+            return new ConversionJournal(journalPath, resumedEntries, resume);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open conversion journal: " + journalPath, e);
+        }
+    }
+
+    private static void readEntries(Path journalPath, Map<String, Entry> entries)
+            throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    JsonNode node = objectMapper.readTree(line);
+                    Entry entry =
+                            new Entry(
+                                    Status.valueOf(node.path("status").asText()),
+                                    textOrNull(node, "targetFile"),
+                                    textOrNull(node, "reportFile"),
+                                    textOrNull(node, "error"));
+                    // A later entry for the same file (a retry) replaces the earlier one
+                    entries.put(node.path("sourceFile").asText(), entry);
+                } catch (Exception e) {
+                    // The last line may be torn if the previous run was killed while writing it
+                    logger.warn(
+                            "Ignoring unreadable journal line {}: {}", lineNumber, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Record the latest outcome of every job in a journal into a batch report, in journal order.
+     * Used to merge partial reports into one summary.
+     *
+     * @param journalPath journal file path
+     * @param batchReport batch report to record results in
+     */
+    public static void replay(Path journalPath, BatchConversionReport batchReport) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        try {
+            readEntries(journalPath, entries);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read conversion journal: " + journalPath, e);
+        }
+        entries.forEach(
+                (sourceFile, entry) -> {
+                    switch (entry.status) {
+                        case SUCCESS:
+                            batchReport.recordSuccess(
+                                    sourceFile, entry.targetFile, entry.reportFile);
+                            break;
+                        case SKIPPED:
+                            batchReport.recordSkipped(
+                                    sourceFile, entry.targetFile, entry.reportFile);
+                            break;
+                        default:
+                            batchReport.recordFailure(sourceFile, entry.error);
+                    }
+                });
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * Check whether the resumed journal lists a task as converted or skipped with the same outputs,
+     * and its target file still exists
+     *
+     * @param task conversion task
+     * @return true if the task does not need to run again
+     */
+    public boolean isCompleted(ConversionTask task) {
+        Entry entry = resumedEntries.get(task.getSourceFile());
+        return entry != null
+                && entry.status != Status.FAILURE
+                && Objects.equals(entry.targetFile, task.getTargetFile())
+                && Objects.equals(entry.reportFile, task.getReportFile())
+                && FileUtils.exists(task.getTargetFile());
+    }
+
+    /**
+     * Append a finished job to the journal
+     *
+     * @param task conversion task
+     * @param status outcome of the job
+     * @param error failure reason, null unless the job failed
+     */
+    public synchronized void append(ConversionTask task, Status status, String error) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("status", status.name());
+        node.put("sourceFile", task.getSourceFile());
+        node.put("targetFile", task.getTargetFile());
+        node.put("reportFile", task.getReportFile());
+        if (error != null) {
+            node.put("error", error);
+        }
+        try {
+            ByteBuffer line =
+                    ByteBuffer.wrap(
+                            (objectMapper.writeValueAsString(node) + "\n")
+                                    .getBytes(StandardCharsets.UTF_8));
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            if (++unsyncedEntries >= SYNC_INTERVAL) {
+                channel.force(false);
+                unsyncedEntries = 0;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to append to conversion journal: " + journalPath, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to close conversion journal: " + journalPath, e);
+        }
+    }
+
+    /** Journaled outcome of a single job */
+    private static class Entry {
+        private final Status status;
+        private final String targetFile;
+        private final String reportFile;
+        private final String error;
+
+        Entry(Status status, String targetFile, String reportFile, String error) {
+            this.status = status;
+            this.targetFile = targetFile;
+            this.reportFile = reportFile;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.core;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.tools.x2seatunnel.core.BatchConversionEngine.ConversionTask;
+import org.apache.seatunnel.tools.x2seatunnel.template.TemplateLoader;
+import org.apache.seatunnel.tools.x2seatunnel.template.TemplateMappingManager;
+import org.apache.seatunnel.tools.x2seatunnel.util.FileUtils;
+import org.apache.seatunnel.tools.x2seatunnel.util.HashUtils;
+import org.apache.seatunnel.tools.x2seatunnel.util.SourceContent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Incremental conversion manifest, kept in the batch output directory. For every converted job it
+ * records the hash of the source file and of each template the job resolved to; together with the
+ * hash of template-mapping.yaml and the tool version this decides whether a job has to be converted
+ * again.
+ */
+public class ConversionManifest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConversionManifest.class);
+
+    /** Manifest file name, without a scanned extension so it never becomes a batch input */
+    public static final String MANIFEST_FILE_NAME = ".x2seatunnel.manifest";
+
+    private static final String TOOL_VERSION = resolveToolVersion();
+
+    // DataX jobs are always converted with the batch environment template
+    private static final String JOB_TYPE = "batch";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path manifestPath;
+    private final TemplateMappingManager mappingManager;
+    private final String mappingConfigHash;
+    private final Map<String, Entry> previousEntries;
+    private final Map<String, Entry> currentEntries = new ConcurrentHashMap<>();
+    private final Map<String, String> templateHashes = new ConcurrentHashMap<>();
+
+    private ConversionManifest(
+            Path manifestPath,
+            TemplateMappingManager mappingManager,
+            Map<String, Entry> previousEntries) {
+        this.manifestPath = manifestPath;
+        this.mappingManager = mappingManager;
+        this.mappingConfigHash = HashUtils.sha256(mappingManager.getMappingConfigContent());
+        this.previousEntries = previousEntries;
+    }
+
+    /**
+     * Load the manifest of an output directory. A missing or unreadable manifest, or one written by
+     * another tool version or for another template-mapping.yaml, is treated as empty.
+     *
+     * @param outputDir batch output directory
+     * @return manifest
+     */
+    public static ConversionManifest load(String outputDir) {
+        Path manifestPath = Paths.get(outputDir, MANIFEST_FILE_NAME);
+        TemplateMappingManager mappingManager = TemplateMappingManager.getInstance();
+        ConversionManifest manifest =
+                new ConversionManifest(manifestPath, mappingManager, new ConcurrentHashMap<>());
+        if (Files.exists(manifestPath)) {
+            manifest.readPreviousEntries();
+        }
+        return manifest;
+    }
+
+    private void readPreviousEntries() {
+        try {
+            JsonNode root = FileUtils.readSource(manifestPath.toString()).readTree(objectMapper);
+            if (!TOOL_VERSION.equals(root.path("toolVersion").asText())) {
+                logger.info("Manifest was written by another tool version, converting all files");
+                return;
+            }
+            if (!mappingConfigHash.equals(root.path("mappingConfigHash").asText())) {
+                logger.info("Template mapping configuration changed, converting all files");
+                return;
+            }
+            Iterator<Map.Entry<String, JsonNode>> entries = root.path("entries").fields();
+            while (entries.hasNext()) {
+                Map.Entry<String, JsonNode> entry = entries.next();
+                previousEntries.put(entry.getKey(), Entry.fromJson(entry.getValue()));
+            }
+            logger.info(
+                    "Loaded manifest with {} entries: {}", previousEntries.size(), manifestPath);
+        } catch (Exception e) {
+            logger.warn("Ignoring unreadable manifest {}: {}", manifestPath, e.getMessage());
+            previousEntries.clear();
+        }
+    }
+
+    /**
+     * Compute the fingerprint of a job from its source content and the templates it resolves to
+     *
+     * @param sourceContent DataX JSON content
+     * @param customTemplate custom template, can be null
+     * @return fingerprint, null if the job cannot be fingerprinted (it is then always converted)
+     */
+    public JobFingerprint fingerprint(String sourceContent, String customTemplate) {
+        return fingerprint(SourceContent.of(sourceContent), customTemplate);
+    }
+
+    /**
+     * Compute the fingerprint of a job from the bytes it was read as, hashed and parsed without
+     * decoding them into a string
+     *
+     * @param sourceContent DataX JSON content
+     * @param customTemplate custom template, can be null
+     * @return fingerprint, null if the job cannot be fingerprinted (it is then always converted)
+     */
+    public JobFingerprint fingerprint(SourceContent sourceContent, String customTemplate) {
+        try {
+            Map<String, String> templates = new TreeMap<>();
+            if (customTemplate != null && !customTemplate.trim().isEmpty()) {
+                templates.put(customTemplate, templateHash(customTemplate));
+            } else {
+                JsonNode content = sourceContent.readTree(objectMapper).path("job").path("content");
+                // Every content entry is rendered with its own source and sink templates
+                for (int i = 0; i < Math.max(1, content.size()); i++) {
+                    JsonNode entry = content.path(i);
+                    String readerType = entry.path("reader").path("name").asText();
+                    String writerType = entry.path("writer").path("name").asText();
+                    for (String template :
+                            new String[] {
+                                mappingManager.getSourceTemplate(readerType),
+                                mappingManager.getSinkTemplate(writerType)
+                            }) {
+                        templates.put(template, templateHash(template));
+                    }
+                }
+                String envTemplate = mappingManager.getEnvTemplate(JOB_TYPE);
+                templates.put(envTemplate, templateHash(envTemplate));
+            }
+            return new JobFingerprint(sourceContent.sha256(), customTemplate, templates);
+        } catch (Exception e) {
+            logger.debug("Unable to fingerprint job: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** Forget cached template hashes, so edited templates are hashed again */
+    public void invalidateTemplateHashes() {
+        templateHashes.clear();
+    }
+
+    /**
+     * Keep the entries of jobs not recorded in this run, for runs that only convert some of the
+     * jobs. Without this, saving drops every job that was not recorded.
+     */
+    public void keepUnrecordedEntries() {
+        previousEntries.forEach(currentEntries::putIfAbsent);
+    }
+
+    private String templateHash(String templatePath) {
+        return templateHashes.computeIfAbsent(
+                templatePath, path -> HashUtils.sha256(TemplateLoader.load(path)));
+    }
+
+    /**
+     * Check whether a job was converted from the same inputs before and its outputs still exist
+     *
+     * @param task conversion task
+     * @param fingerprint current fingerprint of the job, can be null
+     * @return true if the job does not need to be converted again
+     */
+    public boolean isUpToDate(ConversionTask task, JobFingerprint fingerprint) {
+        if (fingerprint == null) {
+            return false;
+        }
+        Entry previous = previousEntries.get(task.getSourceFile());
+        return previous != null
+                && previous.equals(new Entry(task, fingerprint))
+                && FileUtils.exists(task.getTargetFile())
+                && (task.getReportFile() == null || FileUtils.exists(task.getReportFile()));
+    }
+
+    /**
+     * Record a job that was converted or found up to date in this run. Jobs that are not recorded
+     * are dropped from the manifest when it is saved.
+     *
+     * @param task conversion task
+     * @param fingerprint fingerprint of the job, nothing is recorded if null
+     */
+    public void record(ConversionTask task, JobFingerprint fingerprint) {
+        if (fingerprint != null) {
+            currentEntries.put(task.getSourceFile(), new Entry(task, fingerprint));
+        }
+    }
+
+    /**
+     * Atomically replace the manifest file with the jobs recorded in this run. The saved entries
+     * become the baseline of the next run of this manifest instance.
+     */
+    public void save() {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("toolVersion", TOOL_VERSION);
+        root.put("mappingConfigHash", mappingConfigHash);
+        ObjectNode entries = root.putObject("entries");
+        new TreeMap<>(currentEntries)
+                .forEach((source, entry) -> entries.set(source, entry.toJson(objectMapper)));
+        Path tempPath = manifestPath.resolveSibling(MANIFEST_FILE_NAME + ".tmp");
+        try {
+            FileUtils.writeFile(
+                    tempPath.toString(),
+                    objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(root));
+            Files.move(
+                    tempPath,
+                    manifestPath,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Manifest saved with {} entries: {}", currentEntries.size(), manifestPath);
+            previousEntries.clear();
+            previousEntries.putAll(currentEntries);
+            currentEntries.clear();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to save manifest: " + manifestPath, e);
+        }
+    }
+
+    private static String resolveToolVersion() {
+        String version = ConversionManifest.class.getPackage().getImplementationVersion();
+        return version != null ? version : "dev";
+    }
+
+    /** Inputs a job was converted from */
+    public static class JobFingerprint {
+        private final String sourceHash;
+        private final String customTemplate;
+        private final Map<String, String> templateHashes;
+
+        public JobFingerprint(
+                String sourceHash, String customTemplate, Map<String, String> templateHashes) {
+            this.sourceHash = sourceHash;
+            this.customTemplate = customTemplate;
+            this.templateHashes = Collections.unmodifiableMap(new TreeMap<>(templateHashes));
+        }
+
+        public String getSourceHash() {
+            return sourceHash;
+        }
+
+        public String getCustomTemplate() {
+            return customTemplate;
+        }
+
+        /** Hashes of the resolved templates, keyed by template path */
+        public Map<String, String> getTemplateHashes() {
+            return templateHashes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof JobFingerprint)) {
+                return false;
+            }
+            JobFingerprint that = (JobFingerprint) o;
+            return Objects.equals(sourceHash, that.sourceHash)
+                    && Objects.equals(customTemplate, that.customTemplate)
+                    && Objects.equals(templateHashes, that.templateHashes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sourceHash, customTemplate, templateHashes);
+        }
+    }
+
+    /** Manifest entry of a single job: its outputs and the inputs they were converted from */
+    private static class Entry {
+        private final String targetFile;
+        private final String reportFile;
+        private final JobFingerprint fingerprint;
+
+        Entry(ConversionTask task, JobFingerprint fingerprint) {
+            this(task.getTargetFile(), task.getReportFile(), fingerprint);
+        }
+
+        Entry(String targetFile, String reportFile, JobFingerprint fingerprint) {
+            this.targetFile = targetFile;
+            this.reportFile = reportFile;
+            this.fingerprint = fingerprint;
+        }
+
+        static Entry fromJson(JsonNode node) {
+            Map<String, String> templates = new TreeMap<>();
+            node.path("templates")
+                    .fields()
+                    .forEachRemaining(t -> templates.put(t.getKey(), t.getValue().asText()));
+            return new Entry(
+                    textOrNull(node, "targetFile"),
+                    textOrNull(node, "reportFile"),
+                    new JobFingerprint(
+                            textOrNull(node, "sourceHash"),
+                            textOrNull(node, "customTemplate"),
+                            templates));
+        }
+
+        ObjectNode toJson(ObjectMapper objectMapper) {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("sourceHash", fingerprint.getSourceHash());
+            node.put("targetFile", targetFile);
+            node.put("reportFile", reportFile);
+            node.put("customTemplate", fingerprint.getCustomTemplate());
+            ObjectNode templates = node.putObject("templates");
+            fingerprint.getTemplateHashes().forEach(templates::put);
+            return node;
+        }
+
+        private static String textOrNull(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry that = (Entry) o;
+            return Objects.equals(targetFile, that.targetFile)
+                    && Objects.equals(reportFile, that.reportFile)
+                    && Objects.equals(fingerprint, that.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(targetFile, reportFile, fingerprint);
+        }
+    }
+}
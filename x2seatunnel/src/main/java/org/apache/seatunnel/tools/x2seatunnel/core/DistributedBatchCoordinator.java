@@ -0,0 +1,415 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.core;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.tools.x2seatunnel.core.BatchConversionEngine.ConversionTask;
+import org.apache.seatunnel.tools.x2seatunnel.util.BatchConversionReport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Distributed batch coordinator - lets several x2seatunnel processes, on one or more hosts, share a
+ * batch through lease files in a coordination directory on a shared file system:
+ *
+ * <ul>
+ *   <li>batch.plan - sorted source file list and chunk size, published once by the first worker
+ *   <li>chunk-N.lease - held by the worker converting chunk N, renewed by a heartbeat
+ *   <li>chunk-N.WORKER.journal - journal of chunk N written by WORKER, the partial report
+ *   <li>chunk-N.done - completion marker naming the worker whose journal is merged
+ *   <li>merge.lease / merge.done - the same protocol for writing the merged summary
+ * </ul>
+ *
+ * <p>A lease not renewed within the lease timeout is taken over by another worker, so the chunks of
+ * a dead worker are converted again. Expiry is judged by file modification time, so host clocks
+ * must agree within a small fraction of the timeout. At worst a chunk is converted twice, which
+ * only rewrites the same outputs.
+ */
+public class DistributedBatchCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DistributedBatchCoordinator.class);
+
+    private static final String PLAN_FILE = "batch.plan";
+    private static final String MERGE_STEP = "merge";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path coordinationDir;
+    private final String workerId;
+    private final int chunkSize;
+    private final long leaseTimeoutMillis;
+    private final long pollIntervalMillis;
+
+    // Lease currently held by this worker, renewed by the heartbeat thread
+    private volatile Path heldLease;
+
+    /**
+     * @param coordinationDir coordination directory shared by all workers of one batch run
+     * @param workerId unique worker name, characters unsafe in file names are replaced
+     * @param chunkSize number of files per chunk, only used by the worker publishing the plan
+     * @param leaseTimeoutMillis time after which a lease that was not renewed can be taken over
+     */
+    public DistributedBatchCoordinator(
+            String coordinationDir, String workerId, int chunkSize, long leaseTimeoutMillis) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1: " + chunkSize);
+        }
+        if (leaseTimeoutMillis < 1) {
+            throw new IllegalArgumentException(
+                    "Lease timeout must be positive: " + leaseTimeoutMillis);
+        }
+        this.coordinationDir = Paths.get(coordinationDir);
+        this.workerId = workerId.replaceAll("[^A-Za-z0-9._-]", "_");
+        this.chunkSize = chunkSize;
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        this.pollIntervalMillis = Math.max(100, Math.min(5000, leaseTimeoutMillis / 10));
+    }
+
+    /** Default worker name: process id and host name of this JVM */
+    public static String defaultWorkerId() {
+        return ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * Convert chunks of the shared plan until every chunk is done, then merge the partial reports.
+     * Returns once the merged summary has been written, by this or another worker.
+     *
+     * @param sourceLister lists the source files, only called by the worker publishing the plan
+     * @param taskFactory maps a source file to its conversion task
+     * @param batchEngine engine converting each chunk
+     * @param customTemplate custom template applied to every file, can be null
+     * @param mergedReport report the partial reports are merged into
+     * @param summaryWriter writes the merged report, called by exactly one worker
+     * @return number of chunks converted by this worker
+     */
+    public int run(
+            Supplier<List<String>> sourceLister,
+            Function<String, ConversionTask> taskFactory,
+            BatchConversionEngine batchEngine,
+            String customTemplate,
+            BatchConversionReport mergedReport,
+            Consumer<BatchConversionReport> summaryWriter) {
+        ScheduledExecutorService heartbeat =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "x2seatunnel-lease-heartbeat");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        long renewInterval = Math.max(1, leaseTimeoutMillis / 3);
+        heartbeat.scheduleAtFixedRate(
+                this::renewLease, renewInterval, renewInterval, TimeUnit.MILLISECONDS);
+        try {
+            Files.createDirectories(coordinationDir);
+            List<String> files = loadOrPublishPlan(sourceLister);
+            int chunks = (files.size() + chunkSize - 1) / chunkSize;
+            logger.info(
+                    "Worker {} joined distributed batch: {} files in {} chunks",
+                    workerId,
+                    files.size(),
+                    chunks);
+
+            int converted = 0;
+            boolean pending = true;
+            while (pending) {
+                pending = false;
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    String step = "chunk-" + chunk;
+                    if (isDone(step)) {
+                        continue;
+                    }
+                    if (!tryClaim(step)) {
+                        // Held by another worker, check again later in case it dies
+                        pending = true;
+                        continue;
+                    }
+                    try {
+                        if (!isDone(step)) {
+                            int from = chunk * chunkSize;
+                            List<String> chunkFiles =
+                                    files.subList(from, Math.min(from + chunkSize, files.size()));
+                            if (convertChunk(
+                                    step, chunkFiles, taskFactory, batchEngine, customTemplate)) {
+                                converted++;
+                            } else {
+                                // Lease lost, whoever holds it now completes the chunk
+                                pending = true;
+                            }
+                        }
+                    } finally {
+                        release(step);
+                    }
+                }
+                if (pending) {
+                    Thread.sleep(pollIntervalMillis);
+                }
+            }
+
+            while (!isDone(MERGE_STEP)) {
+                if (tryClaim(MERGE_STEP)) {
+                    try {
+                        if (!isDone(MERGE_STEP) && holdsLease(MERGE_STEP)) {
+                            merge(chunks, mergedReport);
+                            summaryWriter.accept(mergedReport);
+                            markDone(MERGE_STEP);
+                        }
+                    } finally {
+                        release(MERGE_STEP);
+                    }
+                } else {
+                    Thread.sleep(pollIntervalMillis);
+                }
+            }
+            return converted;
+        } catch (IOException e) {
+            throw new RuntimeException(
+                    "Distributed batch coordination failed in: " + coordinationDir, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Distributed batch conversion interrupted", e);
+        } finally {
+            heartbeat.shutdownNow();
+        }
+    }
+
+    /** Read the shared plan, publishing it first if this is the first worker of the run */
+    private List<String> loadOrPublishPlan(Supplier<List<String>> sourceLister) throws IOException {
+        Path planPath = coordinationDir.resolve(PLAN_FILE);
+        if (!Files.exists(planPath)) {
+            List<String> files = new ArrayList<>(sourceLister.get());
+            Collections.sort(files);
+            ObjectNode plan = objectMapper.createObjectNode();
+            plan.put("chunkSize", chunkSize);
+            ArrayNode fileArray = plan.putArray("files");
+            files.forEach(fileArray::add);
+
+            // Publish a complete plan atomically, without replacing one published concurrently
+            Path tempPath = coordinationDir.resolve(PLAN_FILE + "." + workerId + ".tmp");
+            Files.write(tempPath, objectMapper.writeValueAsBytes(plan));
+            try {
+                Files.createLink(planPath, tempPath);
+                logger.info("Published batch plan with {} files: {}", files.size(), planPath);
+            } catch (FileAlreadyExistsException e) {
+                logger.info("Batch plan was published by another worker");
+            } catch (UnsupportedOperationException | IOException e) {
+                // File systems without hard links: a plain move does not replace a plan either
+                try {
+                    Files.move(tempPath, planPath);
+                } catch (FileAlreadyExistsException alreadyPublished) {
+                    logger.info("Batch plan was published by another worker");
+                }
+            } finally {
+                Files.deleteIfExists(tempPath);
+            }
+        }
+
+        JsonNode plan = objectMapper.readTree(Files.readAllBytes(planPath));
+        List<String> files = new ArrayList<>();
+        plan.path("files").forEach(file -> files.add(file.asText()));
+        int planChunkSize = plan.path("chunkSize").asInt(chunkSize);
+        if (planChunkSize != chunkSize) {
+            throw new IllegalStateException(
+                    String.format(
+                            "Batch plan uses chunk size %d but this worker was started with %d",
+                            planChunkSize, chunkSize));
+        }
+        return files;
+    }
+
+    /**
+     * Convert one claimed chunk and mark it done
+     *
+     * @return false if the lease of the chunk was lost, the chunk is then not marked done
+     */
+    private boolean convertChunk(
+            String step,
+            List<String> chunkFiles,
+            Function<String, ConversionTask> taskFactory,
+            BatchConversionEngine batchEngine,
+            String customTemplate)
+            throws IOException {
+        if (!holdsLease(step)) {
+            return false;
+        }
+        logger.info("Worker {} converting {} ({} files)", workerId, step, chunkFiles.size());
+        Path journalPath = coordinationDir.resolve(step + "." + workerId + ".journal");
+        try (ConversionJournal journal = ConversionJournal.open(journalPath, false)) {
+            batchEngine.setJournal(journal);
+            batchEngine.convert(
+                    chunkFiles.stream().map(taskFactory),
+                    customTemplate,
+                    new BatchConversionReport());
+        } finally {
+            batchEngine.setJournal(null);
+        }
+        if (!holdsLease(step)) {
+            logger.warn("Worker {} lost the lease of {}, not marking it done", workerId, step);
+            return false;
+        }
+        markDone(step);
+        return true;
+    }
+
+    /** Merge the journals named by the chunk completion markers, in chunk order */
+    private void merge(int chunks, BatchConversionReport mergedReport) throws IOException {
+        logger.info("Worker {} merging {} partial reports", workerId, chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            String step = "chunk-" + chunk;
+            String owner =
+                    new String(
+                                    Files.readAllBytes(coordinationDir.resolve(step + ".done")),
+                                    StandardCharsets.UTF_8)
+                            .trim();
+            ConversionJournal.replay(
+                    coordinationDir.resolve(step + "." + owner + ".journal"), mergedReport);
+        }
+    }
+
+    private boolean isDone(String step) {
+        return Files.exists(coordinationDir.resolve(step + ".done"));
+    }
+
+    private void markDone(String step) throws IOException {
+        try {
+            Files.write(
+                    coordinationDir.resolve(step + ".done"),
+                    workerId.getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE_NEW);
+        } catch (FileAlreadyExistsException e) {
+            // Another worker that took over an expired lease finished first, its result is merged
+            logger.info("{} was already completed by another worker", step);
+        }
+    }
+
+    /** Claim a step by creating its lease file, taking over the lease if it expired */
+    private boolean tryClaim(String step) throws IOException {
+        Path lease = coordinationDir.resolve(step + ".lease");
+        if (createLease(lease)) {
+            return true;
+        }
+        if (!isExpired(lease)) {
+            return false;
+        }
+        // Renaming is atomic, so only one worker can take over an expired lease
+        Path expired = coordinationDir.resolve(step + ".lease." + workerId + ".expired");
+        try {
+            Files.move(lease, expired, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException | FileAlreadyExistsException e) {
+            return false;
+        }
+        logger.warn("Worker {} taking over expired lease of {}", workerId, step);
+        Files.deleteIfExists(expired);
+        return createLease(lease);
+    }
+
+    private boolean createLease(Path lease) throws IOException {
+        try {
+            Files.write(
+                    lease,
+                    workerId.getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE_NEW);
+            heldLease = lease;
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        }
+    }
+
+    private boolean isExpired(Path lease) throws IOException {
+        try {
+            long lastRenewed = Files.getLastModifiedTime(lease).toMillis();
+            return System.currentTimeMillis() - lastRenewed > leaseTimeoutMillis;
+        } catch (NoSuchFileException e) {
+            // Released meanwhile, the next attempt can simply create it
+            return false;
+        }
+    }
+
+    private void release(String step) throws IOException {
+        heldLease = null;
+        Path lease = coordinationDir.resolve(step + ".lease");
+        // Leave the lease alone if another worker took it over meanwhile
+        if (isOwner(lease)) {
+            Files.deleteIfExists(lease);
+        }
+    }
+
+    /** Whether this worker still holds the lease of a step, which expiry may have handed over */
+    private boolean holdsLease(String step) throws IOException {
+        Path lease = coordinationDir.resolve(step + ".lease");
+        return lease.equals(heldLease) && isOwner(lease);
+    }
+
+    private boolean isOwner(Path lease) throws IOException {
+        try {
+            String owner = new String(Files.readAllBytes(lease), StandardCharsets.UTF_8);
+            return workerId.equals(owner);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private void renewLease() {
+        Path lease = heldLease;
+        if (lease == null) {
+            return;
+        }
+        try {
+            // Renewing a lease taken over by another worker would keep it from expiring
+            if (!isOwner(lease)) {
+                logger.warn("Worker {} lost its lease {}", workerId, lease.getFileName());
+                if (lease.equals(heldLease)) {
+                    heldLease = null;
+                }
+                return;
+            }
+            Files.setLastModifiedTime(lease, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            logger.warn("Failed to renew lease {}: {}", lease.getFileName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.core;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.tools.x2seatunnel.model.ConversionContext;
+import org.apache.seatunnel.tools.x2seatunnel.model.MappingResult;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streaming conversion of newline-delimited JSON. Every input line is a record holding an {@code
+ * id} and the DataX job, either as {@code "source"} (object or string) or as the remaining fields
+ * of the record, e.g. {@code {"id": "a", "job": {...}}}. Every record produces one output line with
+ * the same id, the status, the rendered config and a mapping summary, in input order.
+ *
+ * <p>Reading, converting and writing overlap, and at most {@code parallelism * 4} records are held
+ * in memory however long the stream is.
+ */
+public class NdjsonConversionEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(NdjsonConversionEngine.class);
+
+    /** Records in flight per converter, enough to keep converters busy while the writer waits */
+    private static final int RECORDS_PER_WORKER = 4;
+
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConversionEngine conversionEngine;
+    private final int parallelism;
+
+    public NdjsonConversionEngine(int parallelism) {
+        this(new ConversionEngine(), parallelism);
+    }
+
+    public NdjsonConversionEngine(ConversionEngine conversionEngine, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.conversionEngine = conversionEngine;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Convert every record of the input stream until it ends
+     *
+     * @param in NDJSON input, one record per line, blank lines are ignored
+     * @param out NDJSON output, one result per record
+     * @param customTemplate custom template applied to every record, can be null
+     * @return number of records processed
+     */
+    public int convert(InputStream in, OutputStream out, String customTemplate) {
+        int capacity = parallelism * RECORDS_PER_WORKER;
+        // Futures enter in input order, so the writer drains them in input order; the bounded
+        // queue is what keeps memory constant
+        BlockingQueue<Future<byte[]>> pending = new ArrayBlockingQueue<>(capacity);
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService converters =
+                Executors.newFixedThreadPool(
+                        parallelism,
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "x2seatunnel-ndjson-worker-"
+                                                    + threadCounter.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        AtomicInteger failures = new AtomicInteger();
+        RecordWriter writer = new RecordWriter(pending, out);
+        Thread writerThread = new Thread(writer, "x2seatunnel-ndjson-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        int records = 0;
+        try {
+            BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            long lineNumber = 0;
+            while (writer.error == null && (line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                String record = line;
+                long recordLine = lineNumber;
+                pending.put(
+                        converters.submit(
+                                () -> convertRecord(record, recordLine, customTemplate, failures)));
+                records++;
+            }
+            pending.put(CompletableFuture.completedFuture(null));
+            writerThread.join();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read NDJSON input", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("NDJSON conversion interrupted", e);
+        } finally {
+            converters.shutdownNow();
+            writerThread.interrupt();
+        }
+        if (writer.error != null) {
+            throw new RuntimeException("Failed to write NDJSON output", writer.error);
+        }
+        logger.info("NDJSON conversion completed: {} records, {} failed", records, failures.get());
+        return records;
+    }
+
+    private byte[] convertRecord(
+            String line, long lineNumber, String customTemplate, AtomicInteger failures)
+            throws IOException {
+        ObjectNode result = objectMapper.createObjectNode();
+        try {
+            JsonNode record = parseRecord(line);
+            JsonNode id = record.get("id");
+            if (id != null) {
+                result.set("id", id);
+            } else {
+                result.put("id", lineNumber);
+            }
+            String name = id != null ? id.asText() : "line-" + lineNumber;
+            ConversionEngine.ConversionOutput output = convertSource(name, record, customTemplate);
+            result.put("status", "SUCCESS");
+            result.put("target", output.getTargetContent());
+            if (output.getMappingResult() != null) {
+                result.set("mapping", mappingSummary(output.getMappingResult()));
+            }
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            if (!result.has("id")) {
+                result.put("id", lineNumber);
+            }
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            result.put("status", "FAILURE");
+            result.put("error", cause.getMessage());
+        }
+        return objectMapper.writeValueAsBytes(result);
+    }
+
+    private JsonNode parseRecord(String line) {
+        JsonNode record;
+        try {
+            record = objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid JSON record: " + e.getMessage(), e);
+        }
+        if (record == null || !record.isObject()) {
+            throw new IllegalArgumentException("Record must be a JSON object");
+        }
+        return record;
+    }
+
+    /** Convert the job of a record, a job embedded as JSON is converted without parsing it again */
+    private ConversionEngine.ConversionOutput convertSource(
+            String name, JsonNode record, String customTemplate) {
+        JsonNode source = record.get("source");
+        if (source == null) {
+            ObjectNode job = ((ObjectNode) record).deepCopy();
+            job.remove("id");
+            source = job;
+        }
+        ConversionContext context;
+        if (source.isTextual()) {
+            try {
+                context = ConversionContext.parse(source.asText());
+            } catch (IOException e) {
+                throw new IllegalArgumentException(
+                        "Invalid DataX configuration format: " + e.getMessage(), e);
+            }
+        } else {
+            context = ConversionContext.of(source);
+        }
+        // No report, but the mappings are tracked for the summary of the record
+        return conversionEngine.convertContent(
+                name, context, name + ".conf", "datax", "seatunnel", customTemplate, null, true);
+    }
+
+    private ObjectNode mappingSummary(MappingResult mappingResult) {
+        ObjectNode summary = objectMapper.createObjectNode();
+        summary.put("readerType", mappingResult.getReaderType());
+        summary.put("writerType", mappingResult.getWriterType());
+        summary.put("successMappings", mappingResult.getSuccessMappings().size());
+        summary.put("transformMappings", mappingResult.getTransformMappings().size());
+        summary.put("defaultValues", mappingResult.getDefaultValues().size());
+        summary.put("missingRequiredFields", mappingResult.getMissingRequiredFields().size());
+        summary.put("unmappedFields", mappingResult.getUnmappedFields().size());
+        return summary;
+    }
+
+    /** Writes finished records in input order, flushing whenever no further record is ready */
+    private static class RecordWriter implements Runnable {
+        private final BlockingQueue<Future<byte[]>> pending;
+        private final OutputStream out;
+        private volatile Throwable error;
+
+        RecordWriter(BlockingQueue<Future<byte[]>> pending, OutputStream out) {
+            this.pending = pending;
+            this.out = new BufferedOutputStream(out);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Future<byte[]> next = pending.take();
+                    // Keep draining after an error, so the reader never blocks on a dead writer
+                    try {
+                        byte[] record = next.get();
+                        if (record == null) {
+                            break;
+                        }
+                        if (error == null) {
+                            out.write(record);
+                            out.write(NEWLINE);
+                            if (pending.isEmpty()) {
+                                out.flush();
+                            }
+                        }
+                    } catch (IOException e) {
+                        error = e;
+                    } catch (ExecutionException e) {
+                        error = e.getCause();
+                    }
+                }
+                if (error == null) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                error = e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.core;
+
+import org.apache.seatunnel.tools.x2seatunnel.template.TemplateMappingManager;
+import org.apache.seatunnel.tools.x2seatunnel.util.BatchConversionReport;
+import org.apache.seatunnel.tools.x2seatunnel.util.DirectoryProcessor;
+import org.apache.seatunnel.tools.x2seatunnel.util.PathResolver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Watch mode: keeps the output directory in sync with the source directory from one long-lived JVM.
+ * Bursts of file system events are debounced into rounds; a round re-converts only the created or
+ * modified jobs, while a template change re-converts the jobs whose rendered templates changed and
+ * a template-mapping.yaml change reloads the mapping and re-converts every job. Rounds go through a
+ * {@link ConversionManifest}, so files touched without a content change are skipped.
+ */
+public class WatchConversionService implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WatchConversionService.class);
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 300;
+
+    /** Upper bound of a debounced round, as a multiple of the quiet period */
+    private static final int MAX_DEBOUNCE_PERIODS = 10;
+
+    private static final String MAPPING_FILE_NAME = "template-mapping.yaml";
+
+    private final Path sourceRoot;
+    private final String outputDir;
+    private final Predicate<String> sourceFilter;
+    private final Function<String, BatchConversionEngine.ConversionTask> taskFactory;
+    private final BatchConversionEngine engine;
+    private final String customTemplate;
+    private final long debounceMillis;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirs = new ConcurrentHashMap<>();
+
+    private Path templatesRoot;
+    private Path customTemplateFile;
+    private ConversionManifest manifest;
+    // Latest outcome of every file converted since the service started
+    private BatchConversionReport summary;
+    private volatile boolean closed;
+
+    public WatchConversionService(
+            String sourceDir,
+            String outputDir,
+            Predicate<String> sourceFilter,
+            Function<String, BatchConversionEngine.ConversionTask> taskFactory,
+            BatchConversionEngine engine,
+            String customTemplate,
+            long debounceMillis) {
+        if (debounceMillis < 0) {
+            throw new IllegalArgumentException("Debounce must not be negative: " + debounceMillis);
+        }
+        this.sourceRoot = Paths.get(sourceDir);
+        this.outputDir = outputDir;
+        this.sourceFilter = sourceFilter;
+        this.taskFactory = taskFactory;
+        this.engine = engine;
+        this.customTemplate = customTemplate;
+        this.debounceMillis = debounceMillis;
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create watch service", e);
+        }
+    }
+
+    /**
+     * Bring the output directory up to date, then re-convert on every change until {@link #close()}
+     * is called.
+     *
+     * @param reportFactory creates the report of a round, and the summary of all rounds
+     * @param roundListener receives the report of every round that converted something, {@link
+     *     #getSummary()} then covers that round too
+     */
+    public void run(
+            Supplier<BatchConversionReport> reportFactory,
+            Consumer<BatchConversionReport> roundListener) {
+        // Register before the first round, so edits made during it are not missed
+        registerWatches();
+        summary = reportFactory.get();
+        manifest = ConversionManifest.load(outputDir);
+        engine.setManifest(manifest);
+        runRound(null, reportFactory, roundListener);
+
+        while (!closed) {
+            Changes changes;
+            try {
+                changes = awaitChanges();
+            } catch (ClosedWatchServiceException e) {
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            try {
+                if (changes.mappingChanged) {
+                    logger.info("{} changed, reloading template mappings", MAPPING_FILE_NAME);
+                    TemplateMappingManager.getInstance().reload();
+                    // A manifest loaded for the new mapping treats every job as changed
+                    manifest = ConversionManifest.load(outputDir);
+                    engine.setManifest(manifest);
+                    runRound(null, reportFactory, roundListener);
+                } else if (changes.templatesChanged) {
+                    logger.info("Templates changed, re-converting affected jobs");
+                    manifest.invalidateTemplateHashes();
+                    runRound(null, reportFactory, roundListener);
+                } else if (!changes.sources.isEmpty()) {
+                    runRound(changes.sources, reportFactory, roundListener);
+                }
+            } catch (RuntimeException e) {
+                // Keep watching, the next edit may well fix the problem
+                logger.error("Watch round failed: {}", e.getMessage(), e);
+            }
+        }
+        logger.info("Watch mode stopped");
+    }
+
+    /**
+     * Results of all rounds so far, the latest outcome of each file, for a summary that keeps
+     * covering files that did not change in the last round
+     *
+     * @return summary report, null before {@link #run} started
+     */
+    public BatchConversionReport getSummary() {
+        return summary;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close watch service: {}", e.getMessage());
+        }
+    }
+
+    private void registerWatches() {
+        registerTree(sourceRoot);
+        Path templates = Paths.get(PathResolver.getConfigTemplatesDir()).toAbsolutePath();
+        if (Files.isDirectory(templates)) {
+            templatesRoot = templates.normalize();
+            registerTree(templatesRoot);
+        } else {
+            logger.warn(
+                    "Template directory not found, template changes are not watched: {}",
+                    templates);
+        }
+        if (customTemplate != null) {
+            String resolved = PathResolver.resolveTemplatePath(customTemplate);
+            if (resolved != null) {
+                customTemplateFile = Paths.get(resolved).toAbsolutePath().normalize();
+                Path parent = customTemplateFile.getParent();
+                if (templatesRoot == null || !parent.startsWith(templatesRoot)) {
+                    register(parent);
+                }
+            }
+        }
+        logger.info("Watching {} directories under {} for changes", watchedDirs.size(), sourceRoot);
+    }
+
+    private void registerTree(Path root) {
+        try (Stream<Path> dirs = Files.walk(root)) {
+            dirs.filter(Files::isDirectory).forEach(this::register);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to watch directory: " + root, e);
+        }
+    }
+
+    private void register(Path dir) {
+        try {
+            WatchKey key =
+                    dir.register(
+                            watchService,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY);
+            watchedDirs.put(key, dir);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to watch directory: " + dir, e);
+        }
+    }
+
+    /** Block until something changed, then collect events until a quiet period has passed */
+    private Changes awaitChanges() throws InterruptedException {
+        Changes changes = new Changes();
+        WatchKey key = watchService.take();
+        long deadline =
+                System.nanoTime()
+                        + TimeUnit.MILLISECONDS.toNanos(debounceMillis * MAX_DEBOUNCE_PERIODS);
+        while (key != null) {
+            collect(key, changes);
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                break;
+            }
+            key = watchService.poll(Math.min(debounceMillis, remaining), TimeUnit.MILLISECONDS);
+        }
+        return changes;
+    }
+
+    private void collect(WatchKey key, Changes changes) {
+        Path dir = watchedDirs.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (dir == null) {
+                continue;
+            }
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost, only a full pass is reliable
+                logger.warn("Watch events overflowed in {}, re-checking all jobs", dir);
+                changes.templatesChanged = true;
+                continue;
+            }
+            Path child = dir.resolve((Path) event.context());
+            if (customTemplateFile != null
+                    && child.toAbsolutePath().normalize().equals(customTemplateFile)) {
+                changes.templatesChanged = true;
+            } else if (templatesRoot != null
+                    && dir.toAbsolutePath().normalize().startsWith(templatesRoot)) {
+                collectTemplateChange(event, dir, child, changes);
+            } else if (dir.startsWith(sourceRoot)) {
+                collectSourceChange(event, child, changes);
+            }
+        }
+        if (!key.reset()) {
+            watchedDirs.remove(key);
+        }
+    }
+
+    private void collectTemplateChange(WatchEvent<?> event, Path dir, Path child, Changes changes) {
+        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(child)) {
+            registerTree(child);
+        }
+        if (MAPPING_FILE_NAME.equals(child.getFileName().toString())
+                && dir.toAbsolutePath().normalize().equals(templatesRoot)) {
+            changes.mappingChanged = true;
+        } else {
+            changes.templatesChanged = true;
+        }
+    }
+
+    private void collectSourceChange(WatchEvent<?> event, Path child, Changes changes) {
+        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(child)) {
+            // Files copied into a new directory may predate its registration
+            registerTree(child);
+            try (Stream<Path> files = Files.walk(child)) {
+                files.filter(Files::isRegularFile)
+                        .map(Path::toString)
+                        .filter(this::isWatchedSource)
+                        .forEach(changes.sources::add);
+            } catch (IOException e) {
+                logger.warn("Failed to scan new directory {}: {}", child, e.getMessage());
+            }
+            return;
+        }
+        String path = child.toString();
+        if (isWatchedSource(path)) {
+            changes.sources.add(path);
+        }
+    }
+
+    private boolean isWatchedSource(String path) {
+        return DirectoryProcessor.isSourceFile(path) && sourceFilter.test(path);
+    }
+
+    /**
+     * Convert the given sources, or every source under the watched directory when null, and save
+     * the manifest.
+     */
+    private void runRound(
+            Set<String> sources,
+            Supplier<BatchConversionReport> reportFactory,
+            Consumer<BatchConversionReport> roundListener) {
+        long start = System.currentTimeMillis();
+        BatchConversionReport report = reportFactory.get();
+        if (sources == null) {
+            DirectoryProcessor dp = new DirectoryProcessor(sourceRoot.toString(), outputDir);
+            try (Stream<String> all = dp.streamSourceFiles()) {
+                engine.convert(
+                        all.filter(sourceFilter).map(taskFactory),
+                        () -> dp.countSourceFiles(sourceFilter),
+                        customTemplate,
+                        report);
+            }
+        } else {
+            // Files deleted again within the debounce window have nothing left to convert
+            List<BatchConversionEngine.ConversionTask> tasks =
+                    sources.stream()
+                            .filter(path -> Files.isRegularFile(Paths.get(path)))
+                            .map(taskFactory)
+                            .collect(Collectors.toCollection(ArrayList::new));
+            if (tasks.isEmpty()) {
+                return;
+            }
+            engine.convert(tasks, customTemplate, report);
+            manifest.keepUnrecordedEntries();
+        }
+        manifest.save();
+        logger.info(
+                "Watch round finished in {} ms: {} converted, {} unchanged, {} failed",
+                System.currentTimeMillis() - start,
+                report.getSuccessRecords().size(),
+                report.getSkippedRecords().size(),
+                report.getFailures().size());
+        summary.merge(report);
+        if (!report.getSuccessRecords().isEmpty() || !report.getFailures().isEmpty()) {
+            roundListener.accept(report);
+        }
+    }
+
+    /** Changes collected during one debounced round */
+    private static class Changes {
+        private final Set<String> sources = new LinkedHashSet<>();
+        private boolean templatesChanged;
+        private boolean mappingChanged;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.model;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.tools.x2seatunnel.util.FieldPathIndex;
+import org.apache.seatunnel.tools.x2seatunnel.util.JsonProjection;
+import org.apache.seatunnel.tools.x2seatunnel.util.SourceContent;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A DataX job parsed once and shared by every conversion phase: validation, template selection,
+ * variable resolution and field reference tracking. The parsed tree must be treated as read-only,
+ * so one context can be used by several threads.
+ */
+public class ConversionContext {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final JsonNode root;
+    private final String readerType;
+    private final String writerType;
+    // Flattened path index, built on first use, reports only
+    private volatile FieldPathIndex fieldIndex;
+
+    private ConversionContext(JsonNode root) {
+        this.root = root;
+        JsonNode firstContent = root.path("job").path("content").path(0);
+        this.readerType = textOrNull(firstContent.path("reader").get("name"));
+        this.writerType = textOrNull(firstContent.path("writer").get("name"));
+    }
+
+    /**
+     * Parse DataX JSON content
+     *
+     * @param sourceContent DataX JSON content
+     * @return conversion context
+     * @throws IOException if the content is not valid JSON
+     */
+    public static ConversionContext parse(String sourceContent) throws IOException {
+        return new ConversionContext(OBJECT_MAPPER.readTree(sourceContent));
+    }
+
+    /**
+     * Parse DataX JSON content straight from the bytes it was read as
+     *
+     * @param sourceContent DataX JSON content
+     * @return conversion context
+     * @throws IOException if the content is not valid JSON
+     */
+    public static ConversionContext parse(SourceContent sourceContent) throws IOException {
+        return new ConversionContext(sourceContent.readTree(OBJECT_MAPPER));
+    }
+
+    /**
+     * Parse only the parts of DataX JSON content a projection keeps. Lookups of the projected paths
+     * give the same results as on the full job, the field index only covers the projected parts.
+     *
+     * @param sourceContent DataX JSON content
+     * @param projection paths to keep
+     * @return conversion context
+     * @throws IOException if the content is not valid JSON
+     */
+    public static ConversionContext parse(String sourceContent, JsonProjection projection)
+            throws IOException {
+        return new ConversionContext(projection.parse(sourceContent));
+    }
+
+    /**
+     * Parse only the parts of DataX JSON content a projection keeps, straight from its bytes
+     *
+     * @param sourceContent DataX JSON content
+     * @param projection paths to keep
+     * @return conversion context
+     * @throws IOException if the content is not valid JSON
+     */
+    public static ConversionContext parse(SourceContent sourceContent, JsonProjection projection)
+            throws IOException {
+        return new ConversionContext(projection.parse(sourceContent));
+    }
+
+    /**
+     * Create a context from an already parsed DataX job
+     *
+     * @param root JSON root node
+     * @return conversion context
+     */
+    public static ConversionContext of(JsonNode root) {
+        return new ConversionContext(root);
+    }
+
+    /** JSON root node of the DataX job */
+    public JsonNode getRoot() {
+        return root;
+    }
+
+    /** Name of the first reader, e.g. "mysqlreader", null if the job has none */
+    public String getReaderType() {
+        return readerType;
+    }
+
+    /** Name of the first writer, e.g. "hdfswriter", null if the job has none */
+    public String getWriterType() {
+        return writerType;
+    }
+
+    /** Number of {@code job.content[]} entries, each one a reader and writer pair */
+    public int getContentCount() {
+        JsonNode content = root.path("job").path("content");
+        return content.isArray() ? content.size() : 0;
+    }
+
+    /**
+     * Name of the reader of a content entry
+     *
+     * @param contentIndex index in {@code job.content[]}
+     * @return reader name, null if the entry has none
+     */
+    public String getReaderType(int contentIndex) {
+        return contentIndex == 0
+                ? readerType
+                : textOrNull(contentEntry(contentIndex).path("reader").get("name"));
+    }
+
+    /**
+     * Name of the writer of a content entry
+     *
+     * @param contentIndex index in {@code job.content[]}
+     * @return writer name, null if the entry has none
+     */
+    public String getWriterType(int contentIndex) {
+        return contentIndex == 0
+                ? writerType
+                : textOrNull(contentEntry(contentIndex).path("writer").get("name"));
+    }
+
+    /** All leaf fields of the job keyed by path, e.g. "job.content[0].reader.name" */
+    public Map<String, String> getFieldValues() {
+        return getFieldIndex().getLeafValues();
+    }
+
+    /** Flattened path index of the job, shared by variable lookups and reference tracking */
+    public FieldPathIndex getFieldIndex() {
+        FieldPathIndex index = fieldIndex;
+        if (index == null) {
+            index = FieldPathIndex.of(root);
+            fieldIndex = index;
+        }
+        return index;
+    }
+
+    /** Whether the flattened path index has already been built */
+    public boolean hasFieldIndex() {
+        return fieldIndex != null;
+    }
+
+    private JsonNode contentEntry(int contentIndex) {
+        return root.path("job").path("content").path(contentIndex);
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node != null ? node.asText() : null;
+    }
+}
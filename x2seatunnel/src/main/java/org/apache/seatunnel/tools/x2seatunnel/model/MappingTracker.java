@@ -134,6 +134,20 @@ public class MappingTracker {
         return result;
     }
 
+    /**
+     * Append the mappings recorded by another tracker, e.g. one used to render another content
+     * entry of the same job
+     *
+     * @param other tracker to copy from
+     */
+    public void merge(MappingTracker other) {
+        directMappings.addAll(other.directMappings);
+        transformMappings.addAll(other.transformMappings);
+        defaultValues.addAll(other.defaultValues);
+        missingFields.addAll(other.missingFields);
+        unmappedFields.addAll(other.unmappedFields);
+    }
+
     /** Reset mapping tracker state for new conversion process */
     public void reset() {
         directMappings.clear();
@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.server;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.tools.x2seatunnel.core.ConversionEngine;
+import org.apache.seatunnel.tools.x2seatunnel.model.ConversionContext;
+import org.apache.seatunnel.tools.x2seatunnel.template.TemplateMappingManager;
+import org.apache.seatunnel.tools.x2seatunnel.util.PathResolver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local HTTP/JSON conversion server. One warm JVM serves many conversions, so callers no longer pay
+ * JVM startup and template-mapping.yaml parsing per job.
+ *
+ * <ul>
+ *   <li>{@code POST /convert} with {@code {"source": <DataX JSON object or string>, "template":
+ *       optional custom template, "report": optional boolean}} returns {@code {"target": ...,
+ *       "report": ..., "elapsedMillis": ...}}. The template is a name relative to the templates
+ *       directory or a built-in template.
+ *   <li>{@code GET /metrics} returns request counters and latency percentiles
+ *   <li>{@code GET /health} returns OK
+ * </ul>
+ */
+public class ConversionServer implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConversionServer.class);
+
+    /** Largest accepted request body */
+    private static final int MAX_REQUEST_BYTES = 16 * 1024 * 1024;
+
+    private static final String DEFAULT_SOURCE_NAME = "request.json";
+    private static final String DEFAULT_TARGET_NAME = "request.conf";
+    private static final String DEFAULT_REPORT_NAME = "request.md";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConversionEngine engine = new ConversionEngine();
+    private final RequestMetrics metrics = new RequestMetrics();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Create a server bound to the given address, it accepts requests after {@link #start()}
+     *
+     * @param host address to bind, e.g. 127.0.0.1
+     * @param port port to bind, 0 picks a free port
+     * @param threads number of requests converted concurrently
+     */
+    public ConversionServer(String host, int port, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Server threads must be at least 1: " + threads);
+        }
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        } catch (IOException e) {
+            throw new RuntimeException(
+                    "Failed to bind conversion server to " + host + ":" + port, e);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        this.executor =
+                Executors.newFixedThreadPool(
+                        threads,
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "x2seatunnel-server-" + counter.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        server.setExecutor(executor);
+        server.createContext("/convert", this::handleConvert);
+        server.createContext("/metrics", this::handleMetrics);
+        server.createContext("/health", this::handleHealth);
+    }
+
+    public void start() {
+        // Parse template-mapping.yaml before the first request arrives
+        TemplateMappingManager.getInstance();
+        server.start();
+        logger.info("Conversion server listening on {}", server.getAddress());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public RequestMetrics getMetrics() {
+        return metrics;
+    }
+
+    /** Block until the server is closed */
+    public void awaitTermination() throws InterruptedException {
+        stopped.await();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        stopped.countDown();
+        logger.info("Conversion server stopped after {} requests", metrics.getRequests());
+    }
+
+    private void handleConvert(HttpExchange exchange) throws IOException {
+        if (!checkRequest(exchange, "/convert", "POST")) {
+            return;
+        }
+        long start = System.nanoTime();
+        metrics.requestStarted();
+        boolean success = false;
+        try {
+            JsonNode request = parseRequest(exchange);
+            JsonNode source = request.get("source");
+            if (source == null || source.isNull()) {
+                throw new IllegalArgumentException("Missing required field: source");
+            }
+            String sourceName = textOrDefault(request, "name", DEFAULT_SOURCE_NAME);
+            boolean report = request.path("report").asBoolean(false);
+            String sourceType = textOrDefault(request, "sourceType", "datax");
+            String template = checkTemplate(textOrDefault(request, "template", null));
+            String reportName = report ? DEFAULT_REPORT_NAME : null;
+            // A job embedded as JSON was parsed with the request and is not parsed again
+            ConversionEngine.ConversionOutput output =
+                    source.isTextual()
+                            ? engine.convertContent(
+                                    sourceName,
+                                    source.asText(),
+                                    DEFAULT_TARGET_NAME,
+                                    sourceType,
+                                    "seatunnel",
+                                    template,
+                                    reportName)
+                            : engine.convertContent(
+                                    sourceName,
+                                    ConversionContext.of(source),
+                                    DEFAULT_TARGET_NAME,
+                                    sourceType,
+                                    "seatunnel",
+                                    template,
+                                    reportName);
+
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("target", output.getTargetContent());
+            if (output.getReportContent() != null) {
+                response.put("report", output.getReportContent());
+            }
+            response.put("elapsedMillis", (System.nanoTime() - start) / 1_000_000.0);
+            success = true;
+            sendJson(exchange, 200, response);
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (RequestTooLargeException e) {
+            sendError(exchange, 413, e.getMessage());
+        } catch (RuntimeException e) {
+            // Conversion failures carry the cause, e.g. an unsupported reader
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            sendError(exchange, 422, cause.getMessage());
+        } finally {
+            metrics.requestFinished(System.nanoTime() - start, success);
+        }
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        if (!checkRequest(exchange, "/metrics", "GET")) {
+            return;
+        }
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("requests", metrics.getRequests());
+        response.put("failures", metrics.getFailures());
+        response.put("inFlight", metrics.getInFlight());
+        response.put("uptimeSeconds", metrics.getUptimeSeconds());
+        ObjectNode latency = response.putObject("latencyMillis");
+        latency.put("mean", metrics.getMeanMillis());
+        latency.put("p50", metrics.getPercentileMillis(50));
+        latency.put("p90", metrics.getPercentileMillis(90));
+        latency.put("p99", metrics.getPercentileMillis(99));
+        latency.put("max", metrics.getMaxMillis());
+        sendJson(exchange, 200, response);
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        if (!checkRequest(exchange, "/health", "GET")) {
+            return;
+        }
+        send(exchange, 200, "text/plain; charset=utf-8", "OK".getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Reject unknown sub-paths and wrong methods, contexts match by prefix */
+    private boolean checkRequest(HttpExchange exchange, String path, String method)
+            throws IOException {
+        if (!path.equals(exchange.getRequestURI().getPath())) {
+            sendError(exchange, 404, "Not found: " + exchange.getRequestURI().getPath());
+            return false;
+        }
+        if (!method.equalsIgnoreCase(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", method);
+            sendError(exchange, 405, "Method not allowed: " + exchange.getRequestMethod());
+            return false;
+        }
+        return true;
+    }
+
+    private JsonNode parseRequest(HttpExchange exchange) throws IOException {
+        byte[] body = readBody(exchange.getRequestBody());
+        JsonNode request;
+        try {
+            request = objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid JSON request: " + e.getMessage(), e);
+        }
+        if (request == null || !request.isObject()) {
+            throw new IllegalArgumentException("Request body must be a JSON object");
+        }
+        return request;
+    }
+
+    private byte[] readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (out.size() + read > MAX_REQUEST_BYTES) {
+                throw new RequestTooLargeException(
+                        "Request body exceeds " + MAX_REQUEST_BYTES + " bytes");
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Check the custom template of a request. Clients only name templates of the template
+     * directories or built-in ones, never other files of the server.
+     *
+     * @param template requested template name, can be null
+     * @return template to convert with, null for none
+     * @throws IllegalArgumentException if the template is not such a template
+     */
+    private static String checkTemplate(String template) {
+        if (template == null) {
+            return null;
+        }
+        String name = template.trim();
+        Path path = Paths.get(name);
+        boolean parentStep = false;
+        for (Path part : path) {
+            parentStep |= "..".equals(part.toString());
+        }
+        if (name.isEmpty() || path.getRoot() != null || parentStep) {
+            throw new IllegalArgumentException(
+                    "Template must be a relative name in the templates directory: " + template);
+        }
+        // The file the engine would pick, the classpath when there is none
+        String resolved = PathResolver.resolveTemplatePath(name);
+        if (resolved != null && PathResolver.exists(resolved)) {
+            if (!PathResolver.isInTemplateDirectory(resolved)) {
+                throw new IllegalArgumentException(
+                        "Template is not in the templates directory: " + template);
+            }
+            return resolved;
+        }
+        if (ConversionServer.class.getResource(PathResolver.buildResourcePath(name)) == null) {
+            throw new IllegalArgumentException("Template not found: " + template);
+        }
+        return name;
+    }
+
+    private static String textOrDefault(JsonNode request, String field, String defaultValue) {
+        JsonNode node = request.get(field);
+        return node == null || node.isNull() ? defaultValue : node.asText();
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("error", message);
+        sendJson(exchange, status, response);
+    }
+
+    private void sendJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        send(
+                exchange,
+                status,
+                "application/json; charset=utf-8",
+                objectMapper.writeValueAsBytes(body));
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, byte[] body)
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static class RequestTooLargeException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        RequestTooLargeException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.server;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free request counters and latency histogram. Latencies are kept in logarithmic buckets with
+ * four buckets per power of two, so percentiles are accurate to about 19%.
+ */
+public class RequestMetrics {
+
+    private static final int BUCKETS_PER_OCTAVE = 4;
+    private static final int BUCKET_COUNT = 64 * BUCKETS_PER_OCTAVE;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final long startNanos = System.nanoTime();
+
+    public void requestStarted() {
+        inFlight.increment();
+    }
+
+    /**
+     * Record a finished request
+     *
+     * @param elapsedNanos request latency in nanoseconds
+     * @param success whether the request succeeded
+     */
+    public void requestFinished(long elapsedNanos, boolean success) {
+        inFlight.decrement();
+        requests.increment();
+        if (!success) {
+            failures.increment();
+        }
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        buckets.incrementAndGet(bucketOf(elapsedNanos));
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    public long getUptimeSeconds() {
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos);
+    }
+
+    /** Mean latency in milliseconds, 0 before the first request */
+    public double getMeanMillis() {
+        long count = requests.sum();
+        return count == 0 ? 0 : toMillis(totalNanos.sum()) / count;
+    }
+
+    public double getMaxMillis() {
+        return toMillis(maxNanos.get());
+    }
+
+    /**
+     * Latency percentile in milliseconds, reported as the upper bound of its histogram bucket
+     *
+     * @param percentile percentile between 0 and 100
+     * @return latency in milliseconds, 0 before the first request
+     */
+    public double getPercentileMillis(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(toMillis(upperBound(i)), getMaxMillis());
+            }
+        }
+        return getMaxMillis();
+    }
+
+    private static int bucketOf(long nanos) {
+        if (nanos <= 1) {
+            return 0;
+        }
+        double log2 = Math.log(nanos) / Math.log(2);
+        return Math.min(BUCKET_COUNT - 1, (int) Math.ceil(log2 * BUCKETS_PER_OCTAVE));
+    }
+
+    private static long upperBound(int bucket) {
+        return (long) Math.pow(2, (double) bucket / BUCKETS_PER_OCTAVE);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,776 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template;
+
+import org.apache.seatunnel.tools.x2seatunnel.template.filter.CompiledFilter;
+import org.apache.seatunnel.tools.x2seatunnel.template.filter.FilterRegistry;
+import org.apache.seatunnel.tools.x2seatunnel.util.PathAccessor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A template compiled once into lines of literal text and variable expressions. All the regex
+ * work, filter chain parsing and target context inference happens here, so rendering a job only
+ * walks the lines. Compiled templates are immutable and cached process-wide by content.
+ *
+ * <p>Lines keep the smart context semantics of the resolver: the configuration path of a line
+ * comes from the indentation and the {@code key {} blocks above it, filter variables of a line
+ * are evaluated before its plain variables, and {@code {% set name = expr %}} statements are
+ * evaluated before the first line and can be referenced as {@code {{ name }}}.
+ */
+public final class CompiledTemplate {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompiledTemplate.class);
+
+    // Jinja2 variable pattern: {{ datax.path.to.value }}
+    private static final Pattern JINJA2_VARIABLE_PATTERN =
+            Pattern.compile("\\{\\{\\s*([^}|]+)\\s*\\}\\}");
+
+    // Jinja2 filter pattern: {{ datax.path.to.value | filter }}
+    private static final Pattern JINJA2_FILTER_PATTERN =
+            Pattern.compile("\\{\\{\\s*([^}|]+)\\s*\\|\\s*([^}]+)\\s*\\}\\}");
+
+    // Other patterns
+    private static final Pattern SET_PATTERN =
+            Pattern.compile("\\{%\\s*set\\s+(\\w+)\\s*=\\s*(.*?)\\s*%\\}");
+    private static final Pattern FILTER_PATTERN =
+            Pattern.compile("\\|\\s*([a-zA-Z_][a-zA-Z0-9_]*)");
+    private static final Pattern ANY_VARIABLE_PATTERN = Pattern.compile("\\{\\{[^}]+\\}\\}");
+    private static final Pattern KEY_VALUE_PATTERN = Pattern.compile(".*=\\s*(.+)\\s*$");
+
+    private static final int INDENT_SIZE = 2;
+    private static final int TAB_SIZE = 4;
+    private static final String EQUALS_SIGN = "=";
+    private static final String PIPE_SYMBOL = "|";
+    private static final String OPEN_BRACE = "{";
+    private static final String CLOSE_BRACE = "}";
+    private static final String COMMENT_PREFIX = "#";
+    private static final String QUOTE_DOUBLE = "\"";
+    private static final String TEMPLATE_VAR_START = "{{";
+    private static final String TEMPLATE_VAR_END = "}}";
+    private static final String DATAX_PREFIX = "datax.";
+    private static final String DATAX_JOB_PREFIX = "datax.job.";
+    private static final String JOB_PREFIX = "job.";
+
+    private static final CompiledFilter[] NO_FILTERS = new CompiledFilter[0];
+
+    // Distinct templates kept compiled, a conversion only uses a handful
+    private static final int MAX_CACHED_TEMPLATES = 256;
+
+    private static final Map<String, CompiledTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private final String source;
+    private final List<Binding> bindings;
+    private final List<Line> lines;
+    private final Set<String> referencedPaths;
+    private final int mappedFieldCount;
+    private final boolean valid;
+
+    private CompiledTemplate(String source, List<Binding> bindings, List<Line> lines) {
+        this.source = source;
+        this.bindings = bindings;
+        this.lines = lines;
+
+        Set<String> paths = new HashSet<>();
+        Set<String> mappedFields = new HashSet<>();
+        for (Binding binding : bindings) {
+            for (Expression expression : binding.getExpressions()) {
+                paths.add(expression.getAccessor().getPath());
+            }
+        }
+        for (Line line : lines) {
+            for (Expression expression : line.getExpressions()) {
+                if (!expression.isLocal()) {
+                    paths.add(expression.getAccessor().getPath());
+                }
+            }
+            if (!line.getExpressions().isEmpty()) {
+                mappedFields.add(line.getTargetContext());
+            }
+        }
+        this.referencedPaths = Collections.unmodifiableSet(paths);
+        this.mappedFieldCount = mappedFields.size();
+        this.valid = isBlank() || validate(source);
+    }
+
+    /**
+     * Get the compiled form of a template
+     *
+     * @param content template content
+     * @return shared compiled template
+     */
+    public static CompiledTemplate of(String content) {
+        CompiledTemplate template = CACHE.get(content);
+        if (template == null) {
+            template = compile(content);
+            if (CACHE.size() >= MAX_CACHED_TEMPLATES) {
+                CACHE.clear();
+            }
+            CACHE.put(content, template);
+        }
+        return template;
+    }
+
+    /**
+     * Compile a template without caching
+     *
+     * @param content template content
+     * @return compiled template
+     */
+    public static CompiledTemplate compile(String content) {
+        // 1. {% set var = expr %} statements, evaluated before the first line
+        List<Binding> bindings = new ArrayList<>();
+        Set<String> localNames = new HashSet<>();
+        String body = content;
+        Matcher setMatcher = SET_PATTERN.matcher(content);
+        if (setMatcher.find()) {
+            do {
+                List<Segment> segments =
+                        compileSegments(
+                                TEMPLATE_VAR_START + " " + setMatcher.group(2) + " }}", localNames);
+                bindings.add(new Binding(setMatcher.group(1), segments, expressionsOf(segments)));
+                localNames.add(setMatcher.group(1));
+            } while (setMatcher.find());
+            body = setMatcher.replaceAll("");
+        }
+
+        // 2. Lines, with the configuration path each of them belongs to
+        List<Line> lines = new ArrayList<>();
+        List<String> configPath = new ArrayList<>();
+        for (String text : body.split("\n")) {
+            String trimmedLine = text.trim();
+            updateConfigPath(configPath, trimmedLine, getIndentLevel(text));
+            if (containsVariable(text)) {
+                lines.add(compileVariableLine(text, trimmedLine, configPath, localNames));
+            } else if (isHardcodedDefaultValue(trimmedLine)) {
+                lines.add(
+                        Line.defaultValue(
+                                text,
+                                buildTargetContext(configPath, trimmedLine),
+                                extractDefaultValue(trimmedLine)));
+            } else {
+                lines.add(Line.literal(text));
+            }
+        }
+        return new CompiledTemplate(
+                content,
+                Collections.unmodifiableList(bindings),
+                Collections.unmodifiableList(lines));
+    }
+
+    /** Template content this was compiled from */
+    public String getSource() {
+        return source;
+    }
+
+    /** Check if the template has no content to render */
+    public boolean isBlank() {
+        return source == null || source.trim().isEmpty();
+    }
+
+    /**
+     * The DataX paths the template can look up, in the form they are looked up from the job root,
+     * e.g. {@code job.content[0].reader.name}
+     */
+    public Set<String> getReferencedPaths() {
+        return referencedPaths;
+    }
+
+    /** Number of distinct target fields that take their value from variables */
+    public int getMappedFieldCount() {
+        return mappedFieldCount;
+    }
+
+    /** Whether the template conforms to the Jinja2 syntax the resolver supports */
+    public boolean isValid() {
+        return valid;
+    }
+
+    List<Binding> getBindings() {
+        return bindings;
+    }
+
+    List<Line> getLines() {
+        return lines;
+    }
+
+    /** Validate template syntax (based on Jinja2 pattern) */
+    private static boolean validate(String templateContent) {
+        try {
+            // Check for unclosed template variables
+            long openCount = templateContent.chars().filter(ch -> ch == '{').count();
+            long closeCount = templateContent.chars().filter(ch -> ch == '}').count();
+
+            if (openCount != closeCount) {
+                logger.warn("Template validation failed: mismatched braces");
+                return false;
+            }
+
+            // Check if variable syntax is correct
+            Matcher matcher = JINJA2_VARIABLE_PATTERN.matcher(templateContent);
+            while (matcher.find()) {
+                String variable = matcher.group(1).trim();
+                if (variable.isEmpty()) {
+                    logger.warn("Template validation failed: found empty variable");
+                    return false;
+                }
+            }
+
+            Matcher filterMatcher = JINJA2_FILTER_PATTERN.matcher(templateContent);
+            while (filterMatcher.find()) {
+                String variable = filterMatcher.group(1).trim();
+                String filter = filterMatcher.group(2).trim();
+                if (variable.isEmpty() || filter.isEmpty()) {
+                    logger.warn("Template validation failed: found empty variable or filter");
+                    return false;
+                }
+            }
+
+            return true;
+        } catch (Exception e) {
+            logger.error("Template validation exception: {}", e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private static Line compileVariableLine(
+            String text, String trimmedLine, List<String> configPath, Set<String> localNames) {
+        List<Segment> segments = compileSegments(text, localNames);
+        String targetContext = buildTargetContext(configPath, trimmedLine);
+        if (text.contains(PIPE_SYMBOL) && isReallyComplexTransform(text)) {
+            String templateExpression = extractTemplateExpression(text);
+            return Line.variables(
+                    segments,
+                    expressionsOf(segments),
+                    targetContext,
+                    escapeMarkdownTableContent(templateExpression),
+                    extractFiltersFromExpression(templateExpression));
+        }
+        return Line.variables(segments, expressionsOf(segments), targetContext, null, null);
+    }
+
+    /** Split text into literals and variables, filter variables are matched first */
+    private static List<Segment> compileSegments(String text, Set<String> localNames) {
+        List<Segment> segments = new ArrayList<>();
+        int filteredCount = 0;
+        int last = 0;
+        Matcher filterMatcher = JINJA2_FILTER_PATTERN.matcher(text);
+        while (filterMatcher.find()) {
+            compilePlainSegments(text.substring(last, filterMatcher.start()), localNames, segments);
+            String path = filterMatcher.group(1).trim();
+            segments.add(
+                    Segment.expression(
+                            new Expression(
+                                    path,
+                                    compileFilterChain(filterMatcher.group(2).trim()),
+                                    localNames.contains(path),
+                                    filteredCount++)));
+            last = filterMatcher.end();
+        }
+        compilePlainSegments(text.substring(last), localNames, segments);
+
+        // Plain variables are evaluated after every filter variable of the line
+        int slot = filteredCount;
+        for (int i = 0; i < segments.size(); i++) {
+            Expression expression = segments.get(i).getExpression();
+            if (expression != null && expression.getSlot() < 0) {
+                segments.set(i, Segment.expression(expression.withSlot(slot++)));
+            }
+        }
+        return Collections.unmodifiableList(segments);
+    }
+
+    private static void compilePlainSegments(
+            String text, Set<String> localNames, List<Segment> segments) {
+        int last = 0;
+        Matcher variableMatcher = JINJA2_VARIABLE_PATTERN.matcher(text);
+        while (variableMatcher.find()) {
+            if (variableMatcher.start() > last) {
+                segments.add(Segment.literal(text.substring(last, variableMatcher.start())));
+            }
+            String path = variableMatcher.group(1).trim();
+            segments.add(
+                    Segment.expression(
+                            new Expression(path, NO_FILTERS, localNames.contains(path), -1)));
+            last = variableMatcher.end();
+        }
+        if (last < text.length()) {
+            segments.add(Segment.literal(text.substring(last)));
+        }
+    }
+
+    /** Expressions of the segments in evaluation order */
+    private static List<Expression> expressionsOf(List<Segment> segments) {
+        Expression[] expressions = new Expression[segments.size()];
+        int count = 0;
+        for (Segment segment : segments) {
+            Expression expression = segment.getExpression();
+            if (expression != null) {
+                expressions[expression.getSlot()] = expression;
+                count++;
+            }
+        }
+        List<Expression> ordered = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ordered.add(expressions[i]);
+        }
+        return Collections.unmodifiableList(ordered);
+    }
+
+    /** Compile every filter of a filter chain, so rendering never parses filter arguments */
+    private static CompiledFilter[] compileFilterChain(String filterExpression) {
+        String[] filters = parseFilterChain(filterExpression);
+        CompiledFilter[] compiled = new CompiledFilter[filters.length];
+        for (int i = 0; i < filters.length; i++) {
+            compiled[i] = FilterRegistry.compile(filters[i]);
+        }
+        return compiled;
+    }
+
+    /** Intelligently parse filter chain, correctly handle pipe symbols within parentheses */
+    static String[] parseFilterChain(String filterExpression) {
+        List<String> filters = new ArrayList<>();
+        StringBuilder currentFilter = new StringBuilder();
+        int depth = 0;
+        boolean inQuotes = false;
+        char quoteChar = '\0';
+
+        for (int i = 0; i < filterExpression.length(); i++) {
+            char c = filterExpression.charAt(i);
+
+            if (!inQuotes && (c == '\'' || c == '"')) {
+                inQuotes = true;
+                quoteChar = c;
+                currentFilter.append(c);
+            } else if (inQuotes && c == quoteChar) {
+                inQuotes = false;
+                quoteChar = '\0';
+                currentFilter.append(c);
+            } else if (!inQuotes && c == '(') {
+                depth++;
+                currentFilter.append(c);
+            } else if (!inQuotes && c == ')') {
+                depth--;
+                currentFilter.append(c);
+            } else if (!inQuotes && c == '|' && depth == 0) {
+                filters.add(currentFilter.toString().trim());
+                currentFilter.setLength(0);
+            } else {
+                currentFilter.append(c);
+            }
+        }
+
+        if (currentFilter.length() > 0) {
+            filters.add(currentFilter.toString().trim());
+        }
+
+        return filters.toArray(new String[0]);
+    }
+
+    /**
+     * Normalize DataX path, remove datax prefix and convert to job prefix
+     *
+     * @param path original path
+     * @return normalized path
+     */
+    static String normalizeDataXPath(String path) {
+        if (path.startsWith(DATAX_JOB_PREFIX)) {
+            return path.substring(DATAX_PREFIX.length());
+        } else if (path.startsWith(DATAX_PREFIX)) {
+            return path.replace(DATAX_PREFIX, JOB_PREFIX);
+        }
+        return path;
+    }
+
+    /** Check if line contains template variables */
+    private static boolean containsVariable(String line) {
+        return line.contains(TEMPLATE_VAR_START) && line.contains(TEMPLATE_VAR_END);
+    }
+
+    /** Get indentation level of line */
+    private static int getIndentLevel(String line) {
+        int indent = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == ' ') {
+                indent++;
+            } else if (c == '\t') {
+                indent += TAB_SIZE; // tab is considered as TAB_SIZE spaces
+            } else {
+                break;
+            }
+        }
+        return indent;
+    }
+
+    /** Update configuration path stack */
+    private static void updateConfigPath(
+            List<String> configPath, String trimmedLine, int indentLevel) {
+        // Ignore empty lines and comment lines, don't let them affect configuration path
+        if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_PREFIX)) {
+            return;
+        }
+
+        // Adjust path depth based on indentation (every INDENT_SIZE spaces is one level)
+        int targetDepth = indentLevel / INDENT_SIZE;
+        while (configPath.size() > targetDepth) {
+            configPath.remove(configPath.size() - 1);
+        }
+
+        // If this is the start of a configuration block, add to path
+        if (trimmedLine.endsWith(OPEN_BRACE)) {
+            String configKey = trimmedLine.substring(0, trimmedLine.indexOf(OPEN_BRACE)).trim();
+            if (!configKey.isEmpty()) {
+                configPath.add(configKey);
+            }
+        }
+    }
+
+    /** Build target context path */
+    private static String buildTargetContext(List<String> configPath, String trimmedLine) {
+        StringBuilder targetPath = new StringBuilder(String.join(".", configPath));
+
+        // If current line contains specific configuration item (key = value format), add
+        // configuration key
+        String configKey = extractConfigKey(trimmedLine);
+        if (configKey != null && !configKey.isEmpty()) {
+            if (targetPath.length() > 0) {
+                targetPath.append(".");
+            }
+            targetPath.append(configKey);
+        }
+        return targetPath.toString();
+    }
+
+    /** Extract configuration key name */
+    private static String extractConfigKey(String trimmedLine) {
+        if (trimmedLine.contains(EQUALS_SIGN)) {
+            // key = value format
+            return trimmedLine.substring(0, trimmedLine.indexOf(EQUALS_SIGN)).trim();
+        }
+        return null;
+    }
+
+    /** Check if it's a real complex transformation (multiple variables or complex expressions) */
+    private static boolean isReallyComplexTransform(String line) {
+        Matcher matcher = ANY_VARIABLE_PATTERN.matcher(line);
+        if (!matcher.find()) {
+            return false;
+        }
+        String variable = matcher.group();
+
+        // If there are multiple variables, consider it a complex transformation
+        if (matcher.find()) {
+            return true;
+        }
+
+        // If there's only one variable, more than 2 filters make it a complex transformation
+        long pipeCount = variable.chars().filter(ch -> ch == '|').count();
+        return pipeCount > 2;
+    }
+
+    /** Check if it's a hardcoded default value configuration line */
+    private static boolean isHardcodedDefaultValue(String trimmedLine) {
+        if (trimmedLine.isEmpty()
+                || trimmedLine.startsWith(COMMENT_PREFIX)
+                || !trimmedLine.contains(EQUALS_SIGN)) {
+            return false;
+        }
+
+        // Exclude structural lines (such as "}" etc.)
+        if (trimmedLine.equals(CLOSE_BRACE) || trimmedLine.equals(OPEN_BRACE)) {
+            return false;
+        }
+
+        // General pattern: any key = value configuration line that doesn't contain variables is
+        // considered a hardcoded default value
+        return KEY_VALUE_PATTERN.matcher(trimmedLine).matches();
+    }
+
+    /** Value of a hardcoded default value line, without quotes */
+    private static String extractDefaultValue(String trimmedLine) {
+        String value = trimmedLine.split(EQUALS_SIGN, 2)[1].trim();
+        if (value.startsWith(QUOTE_DOUBLE) && value.endsWith(QUOTE_DOUBLE)) {
+            value = value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    /** Extract template expression */
+    private static String extractTemplateExpression(String line) {
+        // Extract part after =, remove quotes
+        if (line.contains(EQUALS_SIGN)) {
+            String value = line.substring(line.indexOf(EQUALS_SIGN) + 1).trim();
+            if (value.startsWith(QUOTE_DOUBLE) && value.endsWith(QUOTE_DOUBLE)) {
+                value = value.substring(1, value.length() - 1);
+            }
+            return value;
+        }
+        return line.trim();
+    }
+
+    /** Extract filter list from template expression */
+    private static String extractFiltersFromExpression(String templateExpression) {
+        if (!templateExpression.contains(PIPE_SYMBOL)) {
+            return "";
+        }
+
+        Set<String> filters = new LinkedHashSet<>();
+        Matcher matcher = FILTER_PATTERN.matcher(templateExpression);
+        while (matcher.find()) {
+            filters.add(matcher.group(1));
+        }
+
+        // Convert filter list to string, separated by commas
+        return String.join(", ", filters);
+    }
+
+    /** Escape Markdown table content */
+    private static String escapeMarkdownTableContent(String content) {
+        // Escape special characters in Markdown table
+        return content.replace("|", "\\|") // Escape pipe symbol
+                .replace("\n", " ") // Replace newlines with spaces
+                .replace("\r", "") // Remove carriage returns
+                .trim();
+    }
+
+    /** A template line */
+    static final class Line {
+        private final String text;
+        private final List<Segment> segments;
+        private final List<Expression> expressions;
+        private final String targetContext;
+        private final String defaultValue;
+        private final String transformExpression;
+        private final String transformFilters;
+
+        private Line(
+                String text,
+                List<Segment> segments,
+                List<Expression> expressions,
+                String targetContext,
+                String defaultValue,
+                String transformExpression,
+                String transformFilters) {
+            this.text = text;
+            this.segments = segments;
+            this.expressions = expressions;
+            this.targetContext = targetContext;
+            this.defaultValue = defaultValue;
+            this.transformExpression = transformExpression;
+            this.transformFilters = transformFilters;
+        }
+
+        static Line literal(String text) {
+            return new Line(
+                    text, Collections.emptyList(), Collections.emptyList(), null, null, null, null);
+        }
+
+        static Line defaultValue(String text, String targetContext, String defaultValue) {
+            return new Line(
+                    text,
+                    Collections.emptyList(),
+                    Collections.emptyList(),
+                    targetContext,
+                    defaultValue,
+                    null,
+                    null);
+        }
+
+        static Line variables(
+                List<Segment> segments,
+                List<Expression> expressions,
+                String targetContext,
+                String transformExpression,
+                String transformFilters) {
+            return new Line(
+                    null,
+                    segments,
+                    expressions,
+                    targetContext,
+                    null,
+                    transformExpression,
+                    transformFilters);
+        }
+
+        /** Text of a line without variables, null for variable lines */
+        String getText() {
+            return text;
+        }
+
+        boolean hasVariables() {
+            return text == null;
+        }
+
+        List<Segment> getSegments() {
+            return segments;
+        }
+
+        /** Variables of the line in evaluation order */
+        List<Expression> getExpressions() {
+            return expressions;
+        }
+
+        /** Target field path, e.g. {@code source.Jdbc.url}, null for plain lines */
+        String getTargetContext() {
+            return targetContext;
+        }
+
+        /** Hardcoded value of a line without variables, null if it has none */
+        String getDefaultValue() {
+            return defaultValue;
+        }
+
+        /** Whether the line combines several variables or a long filter chain */
+        boolean isComplexTransform() {
+            return transformExpression != null;
+        }
+
+        /** Template expression of a complex transformation, escaped for Markdown */
+        String getTransformExpression() {
+            return transformExpression;
+        }
+
+        /** Filters used by a complex transformation, separated by commas */
+        String getTransformFilters() {
+            return transformFilters;
+        }
+    }
+
+    /** Literal text or a variable */
+    static final class Segment {
+        private final String literal;
+        private final Expression expression;
+
+        private Segment(String literal, Expression expression) {
+            this.literal = literal;
+            this.expression = expression;
+        }
+
+        static Segment literal(String text) {
+            return new Segment(text, null);
+        }
+
+        static Segment expression(Expression expression) {
+            return new Segment(null, expression);
+        }
+
+        String getLiteral() {
+            return literal;
+        }
+
+        /** Variable, null for literal text */
+        Expression getExpression() {
+            return expression;
+        }
+    }
+
+    /** A variable with its filter chain */
+    static final class Expression {
+        private final String path;
+        private final PathAccessor accessor;
+        private final String referencePath;
+        private final CompiledFilter[] filters;
+        private final boolean local;
+        private final int slot;
+
+        private Expression(String path, CompiledFilter[] filters, boolean local, int slot) {
+            this.path = path;
+            this.accessor = PathAccessor.of(path);
+            this.referencePath = path.startsWith(DATAX_PREFIX) ? normalizeDataXPath(path) : null;
+            this.filters = filters;
+            this.local = local;
+            this.slot = slot;
+        }
+
+        private Expression withSlot(int slot) {
+            return new Expression(path, filters, local, slot);
+        }
+
+        /** Variable path as written in the template */
+        String getPath() {
+            return path;
+        }
+
+        PathAccessor getAccessor() {
+            return accessor;
+        }
+
+        /** Field reference path, null if the variable is not a DataX path */
+        String getReferencePath() {
+            return referencePath;
+        }
+
+        CompiledFilter[] getFilters() {
+            return filters;
+        }
+
+        /** If the first filter is default, a missing field is not recorded */
+        boolean isMissingSuppressed() {
+            return filters.length > 0 && "default".equals(filters[0].getName());
+        }
+
+        /** Whether the variable is a {@code {% set %}} binding rather than a DataX path */
+        boolean isLocal() {
+            return local;
+        }
+
+        /** Position in the evaluation order of its line */
+        int getSlot() {
+            return slot;
+        }
+    }
+
+    /** A {@code {% set name = expr %}} statement */
+    static final class Binding {
+        private final String name;
+        private final List<Segment> segments;
+        private final List<Expression> expressions;
+
+        private Binding(String name, List<Segment> segments, List<Expression> expressions) {
+            this.name = name;
+            this.segments = segments;
+            this.expressions = expressions;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        List<Segment> getSegments() {
+            return segments;
+        }
+
+        /** Variables of the bound expression in evaluation order */
+        List<Expression> getExpressions() {
+            return expressions;
+        }
+    }
+}
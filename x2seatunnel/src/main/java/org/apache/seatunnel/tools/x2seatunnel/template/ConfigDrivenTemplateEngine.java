@@ -17,17 +17,30 @@
 
 package org.apache.seatunnel.tools.x2seatunnel.template;
 
-import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
-import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
-
+import org.apache.seatunnel.tools.x2seatunnel.model.ConversionContext;
 import org.apache.seatunnel.tools.x2seatunnel.model.MappingResult;
 import org.apache.seatunnel.tools.x2seatunnel.model.MappingTracker;
-import org.apache.seatunnel.tools.x2seatunnel.util.FileUtils;
-import org.apache.seatunnel.tools.x2seatunnel.util.PathResolver;
+import org.apache.seatunnel.tools.x2seatunnel.util.DataXFieldExtractor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Configuration-driven template conversion engine based on template-mapping.yaml configuration file
  * to automatically select and apply templates
@@ -36,102 +49,210 @@ public class ConfigDrivenTemplateEngine {
 
     private static final Logger logger = LoggerFactory.getLogger(ConfigDrivenTemplateEngine.class);
 
+    // Jobs with fewer content entries render them in turn, a thread handoff costs more
+    private static final int PARALLEL_CONTENT_THRESHOLD = 4;
+
     private final TemplateMappingManager mappingManager;
+
+    // Stateless, shared by every conversion and content entry
     private final TemplateVariableResolver variableResolver;
-    private final MappingTracker mappingTracker; // Added: mapping tracker
+
+    // Renders the content entries of large jobs for every conversion of this engine, its threads
+    // are started on demand and stop when idle
+    private final ExecutorService contentExecutor = newContentExecutor();
 
     public ConfigDrivenTemplateEngine() {
         this.mappingManager = TemplateMappingManager.getInstance();
-        this.mappingTracker = new MappingTracker(); // Initialize mapping tracker
-        this.variableResolver =
-                new TemplateVariableResolver(this.mappingManager, this.mappingTracker);
+        this.variableResolver = new TemplateVariableResolver(mappingManager);
+    }
+
+    private static ExecutorService newContentExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        30L,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            "x2seatunnel-content-" + counter.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     /**
-     * Convert DataX configuration using configuration-driven approach
+     * Convert DataX configuration using configuration-driven approach. The mapping tracker and
+     * render context are created per call, so one engine instance can be shared by concurrent
+     * conversions.
      *
      * @param sourceContent Original DataX JSON content
      * @return Conversion result
      */
     public TemplateConversionResult convertWithTemplate(String sourceContent) {
+        ConversionContext context;
+        try {
+            context = ConversionContext.parse(sourceContent);
+        } catch (Exception e) {
+            logger.error("Configuration-driven template conversion failed: {}", e.getMessage(), e);
+            TemplateConversionResult result = new TemplateConversionResult();
+            result.setSuccess(false);
+            result.setErrorMessage(e.getMessage());
+            return result;
+        }
+        return convertWithTemplate(context);
+    }
+
+    /**
+     * Convert an already parsed DataX job using configuration-driven approach, every phase works on
+     * the same parsed tree
+     *
+     * @param context parsed DataX job
+     * @return Conversion result
+     */
+    public TemplateConversionResult convertWithTemplate(ConversionContext context) {
+        return convertWithTemplate(context, true);
+    }
+
+    /**
+     * Convert an already parsed DataX job using configuration-driven approach
+     *
+     * @param context parsed DataX job
+     * @param trackMappings whether to track field mappings, the result has no mapping result
+     *     without
+     * @return Conversion result
+     */
+    public TemplateConversionResult convertWithTemplate(
+            ConversionContext context, boolean trackMappings) {
+        StringWriter out = new StringWriter();
+        TemplateConversionResult result = convertWithTemplate(context, out, trackMappings);
+        if (result.isSuccess()) {
+            result.setConfigContent(out.toString());
+        }
+        return result;
+    }
+
+    /**
+     * Convert an already parsed DataX job and write the configuration straight into a writer, e.g.
+     * of a file, socket or archive entry. A single content entry is rendered line by line into the
+     * writer, so memory is bounded by the templates rather than the output. The result carries no
+     * config content, and the writer may hold partial output if the conversion fails.
+     *
+     * @param context parsed DataX job
+     * @param out writer the configuration is written to, not flushed or closed
+     * @return Conversion result
+     */
+    public TemplateConversionResult convertWithTemplate(ConversionContext context, Writer out) {
+        return convertWithTemplate(context, out, true);
+    }
+
+    /**
+     * Convert an already parsed DataX job and write the configuration straight into a writer.
+     * Without mapping tracking no field reference tracker is built over the job and nothing is
+     * recorded while rendering, for conversions that produce no report.
+     *
+     * @param context parsed DataX job
+     * @param out writer the configuration is written to, not flushed or closed
+     * @param trackMappings whether to track field mappings, the result has no mapping result
+     *     without
+     * @return Conversion result
+     */
+    public TemplateConversionResult convertWithTemplate(
+            ConversionContext context, Writer out, boolean trackMappings) {
         logger.info("Starting configuration-driven template conversion...");
 
         TemplateConversionResult result = new TemplateConversionResult();
 
         try {
-            // Reset mapping tracker state
-            mappingTracker.reset();
-            logger.info("Mapping tracker has been reset, starting new conversion process");
+            // Per-conversion mapping state, none when mappings are not tracked
+            MappingTracker mappingTracker = trackMappings ? new MappingTracker() : null;
 
             // Create field reference tracker
-            org.apache.seatunnel.tools.x2seatunnel.util.DataXFieldExtractor dataXExtractor =
-                    new org.apache.seatunnel.tools.x2seatunnel.util.DataXFieldExtractor();
-            org.apache.seatunnel.tools.x2seatunnel.util.DataXFieldExtractor.FieldReferenceTracker
-                    fieldTracker = dataXExtractor.createFieldReferenceTracker(sourceContent);
-            variableResolver.setFieldReferenceTracker(fieldTracker);
-
-            // Extract reader and writer types from JSON
-            String readerType = extractReaderType(sourceContent);
-            String writerType = extractWriterType(sourceContent);
-
-            // 1. Select source template based on reader type
-            String sourceTemplate = mappingManager.getSourceTemplate(readerType);
-            logger.info(
-                    "Selected source template for reader type {}: {}", readerType, sourceTemplate);
-
-            // 2. Select sink template based on writer type
-            String sinkTemplate = mappingManager.getSinkTemplate(writerType);
-            logger.info("Selected sink template for writer type {}: {}", writerType, sinkTemplate);
-
-            // 3. Load template content
-            String sourceTemplateContent = loadTemplate(sourceTemplate);
-            String sinkTemplateContent = loadTemplate(sinkTemplate);
-
-            // 4. Generate env configuration
-            String envConfig = generateEnvConfig(sourceContent);
-
-            // 5. Validate and parse source template
-            if (!variableResolver.validateTemplate(sourceTemplateContent)) {
-                throw new RuntimeException(
-                        "Source template format error, does not conform to Jinja2 syntax standard. Please check template file: "
-                                + sourceTemplate);
+            DataXFieldExtractor.FieldReferenceTracker fieldTracker =
+                    trackMappings
+                            ? new DataXFieldExtractor().createFieldReferenceTracker(context)
+                            : null;
+            RenderContext renderContext =
+                    variableResolver.newRenderContext(mappingTracker, fieldTracker);
+
+            // Reader and writer types of every content entry, checked before any rendering
+            int contentCount = Math.max(1, context.getContentCount());
+            for (int i = 0; i < contentCount; i++) {
+                extractReaderType(context, i);
+                extractWriterType(context, i);
             }
-            logger.info("Using template analyzer to parse source template");
-            String resolvedSourceConfig =
-                    variableResolver.resolveWithTemplateAnalysis(
-                            sourceTemplateContent, "source", sourceContent);
 
-            // 6. Validate and parse sink template
-            if (!variableResolver.validateTemplate(sinkTemplateContent)) {
-                throw new RuntimeException(
-                        "Sink template format error, does not conform to Jinja2 syntax standard. Please check template file: "
-                                + sinkTemplate);
+            // Add header comments
+            writeHeader(out);
+
+            // 1. Generate env configuration
+            generateEnvConfig(renderContext, context, out);
+            out.write("\n");
+
+            // 2. Select, load and parse the source and sink templates of each content entry. A
+            // single entry is rendered straight into the output, a few in turn with the render
+            // context of the conversion. Many entries render in parallel with their own mapping
+            // trackers, merged in content order afterwards
+            List<RenderedContent> contents = new ArrayList<>(contentCount);
+            if (contentCount < PARALLEL_CONTENT_THRESHOLD) {
+                for (int i = 0; i < contentCount; i++) {
+                    contents.add(
+                            renderContent(
+                                    i, renderContext, context, contentCount == 1 ? out : null));
+                }
+            } else {
+                contents.addAll(
+                        renderInParallel(contentCount, context, trackMappings, fieldTracker));
+                if (trackMappings) {
+                    for (RenderedContent rendered : contents) {
+                        mappingTracker.merge(rendered.mappingTracker);
+                    }
+                }
             }
-            logger.info("Using template analyzer to parse sink template");
-            String resolvedSinkConfig =
-                    variableResolver.resolveWithTemplateAnalysis(
-                            sinkTemplateContent, "sink", sourceContent);
 
-            // 7. Assemble complete SeaTunnel configuration
-            String finalConfig =
-                    assembleConfig(envConfig, resolvedSourceConfig, resolvedSinkConfig);
+            // 3. Assemble complete SeaTunnel configuration, one pipeline per content entry. The
+            // pipelines bind their tables by rewriting the rendered entries, so those are buffered
+            if (contentCount > 1) {
+                List<String> sources = new ArrayList<>(contentCount);
+                List<String> sinks = new ArrayList<>(contentCount);
+                List<String> labels = new ArrayList<>(contentCount);
+                for (RenderedContent rendered : contents) {
+                    sources.add(rendered.resolvedSource);
+                    sinks.add(rendered.resolvedSink);
+                    labels.add(rendered.readerType + " -> " + rendered.writerType);
+                }
+                out.write(ContentPipelines.assembleSources(sources, labels));
+                out.write("\n");
+                out.write(ContentPipelines.assembleSinks(sinks, sources, labels));
+                out.write("\n");
+                logger.info("Assembled {} content entries into one SeaTunnel job", contentCount);
+            }
 
-            // 8. Calculate unmapped fields (based on reference count)
-            mappingTracker.calculateUnmappedFieldsFromTracker(fieldTracker);
+            // Pass template content instead of path, the templates of the first entry
+            RenderedContent first = contents.get(0);
+            result.setSuccess(true);
+            result.setSourceTemplate(first.sourceTemplateContent.getSource());
+            result.setSinkTemplate(first.sinkTemplateContent.getSource());
 
-            // 9. Generate mapping result (for reporting) - now integrated with MappingTracker data
-            MappingResult mappingResult =
-                    generateMappingResult(readerType, writerType, sourceTemplate, sinkTemplate);
+            if (trackMappings) {
+                // 4. Calculate unmapped fields (based on reference count)
+                mappingTracker.calculateUnmappedFieldsFromTracker(fieldTracker);
 
-            result.setSuccess(true);
-            result.setConfigContent(finalConfig);
-            result.setMappingResult(mappingResult);
-            result.setSourceTemplate(
-                    sourceTemplateContent); // Pass template content instead of path
-            result.setSinkTemplate(sinkTemplateContent); // Pass template content instead of path
+                // 5. Generate mapping result (for reporting) - integrated with MappingTracker data
+                result.setMappingResult(generateMappingResult(mappingTracker, contents));
+            }
 
             logger.info("Configuration-driven template conversion completed");
-            logger.info("Mapping tracking statistics: {}", mappingTracker.getStatisticsText());
+            if (trackMappings) {
+                logger.info("Mapping tracking statistics: {}", mappingTracker.getStatisticsText());
+            }
 
         } catch (Exception e) {
             logger.error("Configuration-driven template conversion failed: {}", e.getMessage(), e);
@@ -142,88 +263,208 @@ public class ConfigDrivenTemplateEngine {
         return result;
     }
 
-    /** Load template file content */
-    private String loadTemplate(String templatePath) {
-        logger.debug("Loading template file: {}", templatePath);
+    /**
+     * Select, load and parse the source and sink templates of one content entry. The built-in
+     * templates are written for the first entry and are pointed at the given one.
+     *
+     * @param out writer the source and sink are rendered into, null to keep them in the result
+     */
+    private RenderedContent renderContent(
+            int contentIndex, RenderContext renderContext, ConversionContext context, Writer out)
+            throws IOException {
+        RenderedContent rendered = new RenderedContent();
+        rendered.readerType = extractReaderType(context, contentIndex);
+        rendered.writerType = extractWriterType(context, contentIndex);
+
+        // 1. Select source template based on reader type
+        rendered.sourceTemplate = mappingManager.getSourceTemplate(rendered.readerType);
+        logger.info(
+                "Selected source template for reader type {}: {}",
+                rendered.readerType,
+                rendered.sourceTemplate);
 
-        // 1. Try to load from file system
-        String resolvedPath = PathResolver.resolveTemplatePath(templatePath);
-        if (resolvedPath != null && PathResolver.exists(resolvedPath)) {
-            logger.debug("Loading template from file system: {}", resolvedPath);
-            return FileUtils.readFile(resolvedPath);
+        // 2. Select sink template based on writer type
+        rendered.sinkTemplate = mappingManager.getSinkTemplate(rendered.writerType);
+        logger.info(
+                "Selected sink template for writer type {}: {}",
+                rendered.writerType,
+                rendered.sinkTemplate);
+
+        // 3. Load template content, compiled and validated once per process
+        rendered.sourceTemplateContent = loadTemplate(rendered.sourceTemplate);
+        rendered.sinkTemplateContent = loadTemplate(rendered.sinkTemplate);
+
+        // 4. Validate and parse source template
+        if (!rendered.sourceTemplateContent.isValid()) {
+            throw new RuntimeException(
+                    "Source template format error, does not conform to Jinja2 syntax standard. Please check template file: "
+                            + rendered.sourceTemplate);
+        }
+        logger.info("Using template analyzer to parse source template");
+        CompiledTemplate sourceTemplate = loadTemplate(rendered.sourceTemplate, contentIndex);
+        if (out != null) {
+            variableResolver.resolveWithTemplateAnalysis(
+                    sourceTemplate, "source", context, renderContext, out);
+            out.write("\n");
+        } else {
+            rendered.resolvedSource =
+                    variableResolver.resolveWithTemplateAnalysis(
+                            sourceTemplate, "source", context, renderContext);
         }
 
-        // 2. Load from classpath (built-in templates)
+        // 5. Validate and parse sink template
+        if (!rendered.sinkTemplateContent.isValid()) {
+            throw new RuntimeException(
+                    "Sink template format error, does not conform to Jinja2 syntax standard. Please check template file: "
+                            + rendered.sinkTemplate);
+        }
+        logger.info("Using template analyzer to parse sink template");
+        CompiledTemplate sinkTemplate = loadTemplate(rendered.sinkTemplate, contentIndex);
+        if (out != null) {
+            variableResolver.resolveWithTemplateAnalysis(
+                    sinkTemplate, "sink", context, renderContext, out);
+            out.write("\n");
+        } else {
+            rendered.resolvedSink =
+                    variableResolver.resolveWithTemplateAnalysis(
+                            sinkTemplate, "sink", context, renderContext);
+        }
+        return rendered;
+    }
+
+    /**
+     * Render all content entries on the content executor, each into the result and with its own
+     * mapping tracker
+     *
+     * @return rendered entries, in content order
+     */
+    private List<RenderedContent> renderInParallel(
+            int contentCount,
+            ConversionContext context,
+            boolean trackMappings,
+            DataXFieldExtractor.FieldReferenceTracker fieldTracker)
+            throws IOException {
+        List<Callable<RenderedContent>> tasks = new ArrayList<>(contentCount);
+        for (int i = 0; i < contentCount; i++) {
+            int contentIndex = i;
+            tasks.add(
+                    () -> {
+                        MappingTracker tracker = trackMappings ? new MappingTracker() : null;
+                        RenderedContent rendered =
+                                renderContent(
+                                        contentIndex,
+                                        variableResolver.newRenderContext(tracker, fieldTracker),
+                                        context,
+                                        null);
+                        rendered.mappingTracker = tracker;
+                        return rendered;
+                    });
+        }
+        List<RenderedContent> contents = new ArrayList<>(contentCount);
         try {
-            String resourcePath = PathResolver.buildResourcePath(templatePath);
-            logger.debug("Loading template from classpath: {}", resourcePath);
-            return FileUtils.readResourceFile(resourcePath);
+            for (Future<RenderedContent> future : contentExecutor.invokeAll(tasks)) {
+                contents.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Content rendering interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+        return contents;
+    }
+
+    /** Load template file content */
+    private CompiledTemplate loadTemplate(String templatePath) {
+        return loadTemplate(templatePath, 0);
+    }
+
+    /** Load template file content, pointed at a content entry */
+    private CompiledTemplate loadTemplate(String templatePath, int contentIndex) {
+        logger.debug("Loading template file: {}", templatePath);
+        CompiledTemplate template;
+        try {
+            template = TemplateLoader.loadCompiled(templatePath, contentIndex);
         } catch (Exception e) {
             throw new RuntimeException("Unable to load template file: " + templatePath, e);
         }
+        if (template == null) {
+            throw new RuntimeException("Template file not found: " + templatePath);
+        }
+        return template;
     }
 
     /** Generate environment configuration section */
-    private String generateEnvConfig(String sourceContent) {
+    private void generateEnvConfig(
+            RenderContext renderContext, ConversionContext context, Writer out) throws IOException {
         // Dynamically select environment template based on job type (default is batch)
         String jobType = "batch"; // DataX defaults to batch processing
         String envTemplatePath = mappingManager.getEnvTemplate(jobType);
         logger.info("Selected environment template for job type {}: {}", jobType, envTemplatePath);
 
         // Load environment configuration template
-        String envTemplate = loadTemplate(envTemplatePath);
+        CompiledTemplate envTemplate = loadTemplate(envTemplatePath);
 
         // Use template variable resolver to process environment configuration
-        String resolvedEnvConfig =
-                variableResolver.resolveWithTemplateAnalysis(envTemplate, "env", sourceContent);
-
-        return resolvedEnvConfig;
+        variableResolver.resolveWithTemplateAnalysis(
+                envTemplate, "env", context, renderContext, out);
     }
 
-    /** Assemble complete SeaTunnel configuration */
-    private String assembleConfig(String envConfig, String sourceConfig, String sinkConfig) {
-        StringBuilder finalConfig = new StringBuilder();
-
-        // Add header comments
-        finalConfig.append("# SeaTunnel Configuration File\n");
-        finalConfig.append("# Auto-generated by X2SeaTunnel Configuration-Driven Engine\n");
-        finalConfig.append("# Generated at: ").append(java.time.LocalDateTime.now()).append("\n");
-        finalConfig.append("\n");
-
-        // Add env configuration
-        finalConfig.append(envConfig).append("\n");
-
-        // Add source configuration
-        finalConfig.append(sourceConfig).append("\n");
-
-        // Add sink configuration
-        finalConfig.append(sinkConfig).append("\n");
-
-        return finalConfig.toString();
+    /** Write the header comments of the SeaTunnel configuration */
+    private void writeHeader(Writer out) throws IOException {
+        out.write("# SeaTunnel Configuration File\n");
+        out.write("# Auto-generated by X2SeaTunnel Configuration-Driven Engine\n");
+        out.write("# Generated at: " + java.time.LocalDateTime.now() + "\n");
+        out.write("\n");
     }
 
     /** Generate mapping result (for report generation) */
     private MappingResult generateMappingResult(
-            String readerType, String writerType, String sourceTemplate, String sinkTemplate) {
+            MappingTracker mappingTracker, List<RenderedContent> contents) {
 
         // First get basic mapping result from MappingTracker
         MappingResult result = mappingTracker.generateMappingResult();
 
-        // Set template information (these are basic info, not field mappings)
-        result.setSourceTemplate(sourceTemplate);
-        result.setSinkTemplate(sinkTemplate);
-        result.setReaderType(readerType);
-        result.setWriterType(writerType);
+        // Set template information (these are basic info, not field mappings), distinct values of
+        // all content entries in content order
+        Set<String> readerTypes = new LinkedHashSet<>();
+        Set<String> writerTypes = new LinkedHashSet<>();
+        Set<String> sourceTemplates = new LinkedHashSet<>();
+        Set<String> sinkTemplates = new LinkedHashSet<>();
+        for (RenderedContent rendered : contents) {
+            readerTypes.add(rendered.readerType);
+            writerTypes.add(rendered.writerType);
+            sourceTemplates.add(rendered.sourceTemplate);
+            sinkTemplates.add(rendered.sinkTemplate);
+        }
+        result.setSourceTemplate(String.join(", ", sourceTemplates));
+        result.setSinkTemplate(String.join(", ", sinkTemplates));
+        result.setReaderType(String.join(", ", readerTypes));
+        result.setWriterType(String.join(", ", writerTypes));
 
         // All configurations are template-driven, no hardcoded configuration items in Java code
 
         // Check if the types are supported
-        if (!mappingManager.isReaderSupported(readerType)) {
-            result.addUnmappedField("reader.name", readerType, "Using default JDBC template");
+        for (String readerType : readerTypes) {
+            if (!mappingManager.isReaderSupported(readerType)) {
+                result.addUnmappedField("reader.name", readerType, "Using default JDBC template");
+            }
         }
 
-        if (!mappingManager.isWriterSupported(writerType)) {
-            result.addUnmappedField("writer.name", writerType, "Using default HDFS template");
+        for (String writerType : writerTypes) {
+            if (!mappingManager.isWriterSupported(writerType)) {
+                result.addUnmappedField("writer.name", writerType, "Using default HDFS template");
+            }
         }
 
         result.setSuccess(true);
@@ -254,6 +495,21 @@ public class ConfigDrivenTemplateEngine {
         return info.toString();
     }
 
+    /** Templates and resolved configuration of one content entry */
+    private static class RenderedContent {
+        private String readerType;
+        private String writerType;
+        private String sourceTemplate;
+        private String sinkTemplate;
+        private CompiledTemplate sourceTemplateContent;
+        private CompiledTemplate sinkTemplateContent;
+        // Null when the entry was rendered straight into the output
+        private String resolvedSource;
+        private String resolvedSink;
+        // Set for entries rendered with their own tracker
+        private MappingTracker mappingTracker;
+    }
+
     public static class TemplateConversionResult {
         private boolean success;
         private String configContent;
@@ -313,56 +569,42 @@ public class ConfigDrivenTemplateEngine {
     }
 
     /**
-     * Extract reader type from DataX JSON configuration
+     * Extract reader type of a content entry from DataX JSON configuration
      *
-     * @param sourceContent DataX JSON content
+     * @param context parsed DataX job
+     * @param contentIndex index in {@code job.content[]}
      * @return Reader type (e.g., "mysqlreader")
      */
-    private String extractReaderType(String sourceContent) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(sourceContent);
-
-            JsonNode contentNode = rootNode.path("job").path("content");
-            if (contentNode.isArray() && contentNode.size() > 0) {
-                JsonNode readerNode = contentNode.get(0).path("reader");
-                if (readerNode.has("name")) {
-                    return readerNode.get("name").asText();
-                }
-            }
-
-            throw new IllegalArgumentException(
-                    "Cannot extract reader type from DataX configuration");
-        } catch (Exception e) {
-            logger.error("Failed to extract reader type: {}", e.getMessage());
-            throw new RuntimeException("Failed to extract reader type from DataX configuration", e);
+    private String extractReaderType(ConversionContext context, int contentIndex) {
+        String readerType = context.getReaderType(contentIndex);
+        if (readerType == null) {
+            logger.error(
+                    "Failed to extract reader type: Cannot extract reader type from DataX configuration");
+            throw new RuntimeException(
+                    "Failed to extract reader type from DataX configuration",
+                    new IllegalArgumentException(
+                            "Cannot extract reader type from DataX configuration"));
         }
+        return readerType;
     }
 
     /**
-     * Extract writer type from DataX JSON configuration
+     * Extract writer type of a content entry from DataX JSON configuration
      *
-     * @param sourceContent DataX JSON content
+     * @param context parsed DataX job
+     * @param contentIndex index in {@code job.content[]}
      * @return Writer type (e.g., "mysqlwriter")
      */
-    private String extractWriterType(String sourceContent) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(sourceContent);
-
-            JsonNode contentNode = rootNode.path("job").path("content");
-            if (contentNode.isArray() && contentNode.size() > 0) {
-                JsonNode writerNode = contentNode.get(0).path("writer");
-                if (writerNode.has("name")) {
-                    return writerNode.get("name").asText();
-                }
-            }
-
-            throw new IllegalArgumentException(
-                    "Cannot extract writer type from DataX configuration");
-        } catch (Exception e) {
-            logger.error("Failed to extract writer type: {}", e.getMessage());
-            throw new RuntimeException("Failed to extract writer type from DataX configuration", e);
+    private String extractWriterType(ConversionContext context, int contentIndex) {
+        String writerType = context.getWriterType(contentIndex);
+        if (writerType == null) {
+            logger.error(
+                    "Failed to extract writer type: Cannot extract writer type from DataX configuration");
+            throw new RuntimeException(
+                    "Failed to extract writer type from DataX configuration",
+                    new IllegalArgumentException(
+                            "Cannot extract writer type from DataX configuration"));
         }
+        return writerType;
     }
 }
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Combines the source and sink configurations rendered for each {@code job.content[]} entry of a
+ * DataX job into a single SeaTunnel job. Every entry becomes its own pipeline: its source writes to
+ * a table named after the entry and its sink reads from that table only.
+ */
+class ContentPipelines {
+
+    private static final String CONTENT_PATH_PREFIX = "datax.job.content[0].";
+    private static final String PLUGIN_OUTPUT = "plugin_output";
+    private static final String PLUGIN_INPUT = "plugin_input";
+    private static final String DEFAULT_TABLE_NAME = "source_table";
+
+    private static final Pattern PLUGIN_OUTPUT_PATTERN =
+            Pattern.compile("(?m)^([ \\t]*)" + PLUGIN_OUTPUT + "\\s*=\\s*\"([^\"]*)\"");
+    private static final Pattern PLUGIN_INPUT_PATTERN =
+            Pattern.compile("(?m)^([ \\t]*)" + PLUGIN_INPUT + "\\s*=\\s*\"([^\"]*)\"");
+
+    private ContentPipelines() {}
+
+    /**
+     * Point a built-in template, written for the first content entry, at another entry
+     *
+     * @param templateContent template content
+     * @param contentIndex index in {@code job.content[]}
+     * @return template content for the entry
+     */
+    static String forContent(String templateContent, int contentIndex) {
+        if (contentIndex == 0) {
+            return templateContent;
+        }
+        return templateContent.replace(
+                CONTENT_PATH_PREFIX, "datax.job.content[" + contentIndex + "].");
+    }
+
+    /**
+     * Compile a built-in template pointed at another content entry. Not cached, {@link
+     * TemplateLoader#loadCompiled(String, int)} keeps the variants of loaded templates.
+     *
+     * @param template compiled template
+     * @param contentIndex index in {@code job.content[]}
+     * @return compiled template for the entry
+     */
+    static CompiledTemplate forContent(CompiledTemplate template, int contentIndex) {
+        if (contentIndex == 0) {
+            return template;
+        }
+        return CompiledTemplate.compile(forContent(template.getSource(), contentIndex));
+    }
+
+    /**
+     * Assemble the source blocks of all content entries into one source block, each source writing
+     * to the table of its entry
+     *
+     * @param sourceConfigs resolved source configuration of each entry, in content order
+     * @param labels description of each entry, e.g. "mysqlreader -> hdfswriter"
+     * @return source block
+     */
+    static String assembleSources(List<String> sourceConfigs, List<String> labels) {
+        StringBuilder sources = new StringBuilder("source {\n");
+        for (int i = 0; i < sourceConfigs.size(); i++) {
+            String body = blockBody(sourceConfigs.get(i), "source");
+            String tableName = tableName(body, i);
+            sources.append(comment(i, labels))
+                    .append(bindTable(body, PLUGIN_OUTPUT_PATTERN, PLUGIN_OUTPUT, tableName))
+                    .append("\n");
+        }
+        return sources.append("}").toString();
+    }
+
+    /**
+     * Assemble the sink blocks of all content entries into one sink block, each sink reading from
+     * the table of its entry
+     *
+     * @param sinkConfigs resolved sink configuration of each entry, in content order
+     * @param sourceConfigs resolved source configuration of each entry, in content order
+     * @param labels description of each entry, e.g. "mysqlreader -> hdfswriter"
+     * @return sink block
+     */
+    static String assembleSinks(
+            List<String> sinkConfigs, List<String> sourceConfigs, List<String> labels) {
+        StringBuilder sinks = new StringBuilder("sink {\n");
+        for (int i = 0; i < sinkConfigs.size(); i++) {
+            String body = blockBody(sinkConfigs.get(i), "sink");
+            String tableName = tableName(blockBody(sourceConfigs.get(i), "source"), i);
+            sinks.append(comment(i, labels))
+                    .append(bindTable(body, PLUGIN_INPUT_PATTERN, PLUGIN_INPUT, tableName))
+                    .append("\n");
+        }
+        return sinks.append("}").toString();
+    }
+
+    /** Table name of an entry, the name its source template gives suffixed with the entry index */
+    private static String tableName(String sourceBody, int contentIndex) {
+        Matcher output = PLUGIN_OUTPUT_PATTERN.matcher(sourceBody);
+        return (output.find() ? output.group(2) : DEFAULT_TABLE_NAME) + "_" + contentIndex;
+    }
+
+    private static String comment(int contentIndex, List<String> labels) {
+        return "  # job.content[" + contentIndex + "]: " + labels.get(contentIndex) + "\n";
+    }
+
+    /** Set the table option of a connector, replacing it or adding it after the connector name */
+    private static String bindTable(String body, Pattern option, String key, String tableName) {
+        Matcher matcher = option.matcher(body);
+        if (matcher.find()) {
+            return body.substring(0, matcher.start())
+                    + matcher.group(1)
+                    + key
+                    + " = \""
+                    + tableName
+                    + "\""
+                    + body.substring(matcher.end());
+        }
+        int open = indexOfBrace(body);
+        if (open < 0) {
+            return body;
+        }
+        int lineEnd = body.indexOf('\n', open);
+        String line = "    " + key + " = \"" + tableName + "\"\n";
+        return lineEnd < 0
+                ? body + "\n" + line
+                : body.substring(0, lineEnd + 1) + line + body.substring(lineEnd + 1);
+    }
+
+    /** Index of the first brace outside strings and comments, -1 if there is none */
+    private static int indexOfBrace(String config) {
+        Scanner scanner = new Scanner(config);
+        while (scanner.next()) {
+            if (scanner.current() == '{') {
+                return scanner.position();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the content of a top-level block, e.g. everything inside {@code source { ... }}. Header
+     * comments and anything after the block are dropped.
+     *
+     * @param config resolved configuration
+     * @param blockName block name
+     * @return block content, the whole configuration if it has no such block
+     */
+    static String blockBody(String config, String blockName) {
+        Scanner scanner = new Scanner(config);
+        StringBuilder word = new StringBuilder();
+        String lastWord = null;
+        int depth = 0;
+        int bodyStart = -1;
+        while (scanner.next()) {
+            char c = scanner.current();
+            if (c == '{') {
+                if (word.length() > 0) {
+                    lastWord = word.toString();
+                    word.setLength(0);
+                }
+                if (depth == 0 && bodyStart < 0 && blockName.equals(lastWord)) {
+                    bodyStart = scanner.position() + 1;
+                }
+                depth++;
+            } else if (c == '}') {
+                depth--;
+                if (depth == 0 && bodyStart >= 0) {
+                    return trimNewlines(config.substring(bodyStart, scanner.position()));
+                }
+            } else if (depth == 0) {
+                if (Character.isLetterOrDigit(c) || c == '_') {
+                    word.append(c);
+                } else if (word.length() > 0) {
+                    lastWord = word.toString();
+                    word.setLength(0);
+                }
+            }
+        }
+        return config;
+    }
+
+    private static String trimNewlines(String body) {
+        int start = 0;
+        int end = body.length();
+        while (start < end && body.charAt(start) == '\n') {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(body.charAt(end - 1))) {
+            end--;
+        }
+        return body.substring(start, end);
+    }
+
+    /** Walks the structural characters of a HOCON document, skipping strings and comments */
+    private static class Scanner {
+        private final String text;
+        private int position = -1;
+
+        Scanner(String text) {
+            this.text = text;
+        }
+
+        boolean next() {
+            position++;
+            while (position < text.length()) {
+                char c = text.charAt(position);
+                if (text.startsWith("\"\"\"", position)) {
+                    int end = text.indexOf("\"\"\"", position + 3);
+                    position = end < 0 ? text.length() : end + 3;
+                } else if (c == '"') {
+                    position = skipString(position + 1);
+                } else if (c == '#' || text.startsWith("//", position)) {
+                    int end = text.indexOf('\n', position);
+                    position = end < 0 ? text.length() : end;
+                    return position < text.length();
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        char current() {
+            return text.charAt(position);
+        }
+
+        int position() {
+            return position;
+        }
+
+        private int skipString(int from) {
+            for (int i = from; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"' || c == '\n') {
+                    return i + 1;
+                }
+            }
+            return text.length();
+        }
+    }
+}
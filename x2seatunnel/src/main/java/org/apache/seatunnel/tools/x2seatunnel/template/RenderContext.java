@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template;
+
+import org.apache.seatunnel.tools.x2seatunnel.model.MappingTracker;
+import org.apache.seatunnel.tools.x2seatunnel.template.filter.FilterContext;
+import org.apache.seatunnel.tools.x2seatunnel.util.DataXFieldExtractor;
+import org.apache.seatunnel.tools.x2seatunnel.util.FieldPathIndex;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The state of rendering templates for one conversion: where mappings and field references are
+ * recorded and which line is being rendered. A {@link TemplateVariableResolver} is immutable and
+ * shared by any number of threads, each rendering gets its own context. A context can render
+ * several templates one after the other, but never two at the same time.
+ */
+public final class RenderContext implements FilterContext {
+
+    private static final Logger logger = LoggerFactory.getLogger(RenderContext.class);
+
+    private final TemplateMappingManager templateMappingManager;
+    private final MappingTracker mappingTracker;
+    private final DataXFieldExtractor.FieldReferenceTracker fieldReferenceTracker;
+
+    // Path index of the job being rendered, null when lookups walk the tree
+    FieldPathIndex fieldIndex;
+
+    // Target field path of the line being rendered
+    String targetContext;
+
+    // Whether the line being rendered is a complex transformation, recorded as a whole
+    boolean complexTransform;
+
+    // Suppress missing field recording when encountering default filter
+    boolean suppressMissing;
+
+    RenderContext(
+            TemplateMappingManager templateMappingManager,
+            MappingTracker mappingTracker,
+            DataXFieldExtractor.FieldReferenceTracker fieldReferenceTracker) {
+        this.templateMappingManager = templateMappingManager;
+        this.mappingTracker = mappingTracker;
+        this.fieldReferenceTracker = fieldReferenceTracker;
+    }
+
+    /** Mapping tracker, null when mappings are not recorded */
+    public MappingTracker getMappingTracker() {
+        return mappingTracker;
+    }
+
+    /** Field reference tracker, null when references are not counted */
+    public DataXFieldExtractor.FieldReferenceTracker getFieldReferenceTracker() {
+        return fieldReferenceTracker;
+    }
+
+    /** Whether a single value of the current line is recorded, complex lines are recorded whole */
+    boolean isRecordingValues() {
+        return mappingTracker != null && !complexTransform;
+    }
+
+    @Override
+    public String applyTransformer(
+            String transformerName, TransformerMatcher.Mode mode, String value) {
+        if (templateMappingManager == null) {
+            return null;
+        }
+        TransformerMatcher matcher = templateMappingManager.getTransformerMatcher(transformerName);
+        if (matcher == null) {
+            return null;
+        }
+
+        logger.debug(
+                "Applying transformer {} ({} rules, {} match) to process value: {}",
+                transformerName,
+                matcher.size(),
+                mode,
+                value);
+
+        String mappedValue = matcher.match(value, mode);
+        if (mappedValue != null) {
+            logger.debug(
+                    "Transformer {} matched successfully: {} -> {}",
+                    transformerName,
+                    value,
+                    mappedValue);
+            return mappedValue;
+        }
+
+        logger.debug(
+                "Transformer {} found no match, returning original value: {}",
+                transformerName,
+                value);
+        return value;
+    }
+
+    @Override
+    public void recordDefaultValue(String value, String reason) {
+        if (isRecordingValues()) {
+            mappingTracker.recordDefaultValue(targetContext, value, reason);
+        }
+    }
+
+    @Override
+    public void recordDirectMapping(String value, String reason) {
+        if (isRecordingValues()) {
+            mappingTracker.recordDirectMapping(null, targetContext, value, reason);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template;
+
+import org.apache.seatunnel.tools.x2seatunnel.util.FileUtils;
+import org.apache.seatunnel.tools.x2seatunnel.util.PathResolver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Template loader - looks templates up in the file system first, then in the classpath. Loaded
+ * templates are compiled and cached process-wide, so batch workers share one copy of each. A
+ * template read from the file system is read again once its modification time or size changes.
+ */
+public class TemplateLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(TemplateLoader.class);
+
+    // Distinct templates kept loaded, a conversion only uses a handful
+    private static final int MAX_CACHED_TEMPLATES = 256;
+
+    private static final Map<String, CachedTemplate> CACHE = new ConcurrentHashMap<>();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private TemplateLoader() {}
+
+    /**
+     * Load template content
+     *
+     * @param templatePath Template file path (supports absolute and relative paths)
+     * @return Template content, null if the template exists neither in the file system nor in the
+     *     classpath
+     */
+    public static String load(String templatePath) {
+        CompiledTemplate template = loadCompiled(templatePath);
+        return template != null ? template.getSource() : null;
+    }
+
+    /**
+     * Load a template compiled, from the cache while its file is unchanged
+     *
+     * @param templatePath Template file path (supports absolute and relative paths)
+     * @return Shared compiled template, null if the template exists neither in the file system nor
+     *     in the classpath
+     */
+    public static CompiledTemplate loadCompiled(String templatePath) {
+        CachedTemplate cached = loadCached(templatePath);
+        return cached != null ? cached.template : null;
+    }
+
+    private static CachedTemplate loadCached(String templatePath) {
+        CachedTemplate cached = CACHE.get(templatePath);
+        if (cached != null && cached.isCurrent()) {
+            HITS.incrementAndGet();
+            return cached;
+        }
+        if (cached == null && CACHE.size() >= MAX_CACHED_TEMPLATES) {
+            CACHE.clear();
+        }
+        // Workers missing the same template at once wait for a single read
+        cached =
+                CACHE.compute(
+                        templatePath,
+                        (path, current) -> {
+                            if (current != null && current.isCurrent()) {
+                                HITS.incrementAndGet();
+                                return current;
+                            }
+                            MISSES.incrementAndGet();
+                            return read(path);
+                        });
+        return cached;
+    }
+
+    /**
+     * Load a built-in template compiled for a content entry other than the first. The variant of
+     * each entry is compiled once and cached along with the template, so it is dropped when the
+     * template file changes.
+     *
+     * @param templatePath Template file path (supports absolute and relative paths)
+     * @param contentIndex index in {@code job.content[]}
+     * @return Shared compiled template for the entry, null if the template does not exist
+     */
+    public static CompiledTemplate loadCompiled(String templatePath, int contentIndex) {
+        CachedTemplate cached = loadCached(templatePath);
+        if (cached == null) {
+            return null;
+        }
+        return contentIndex == 0 ? cached.template : cached.forContent(contentIndex);
+    }
+
+    /** Number of template loads served from the cache */
+    public static long getHitCount() {
+        return HITS.get();
+    }
+
+    /** Number of template loads that had to read the template */
+    public static long getMissCount() {
+        return MISSES.get();
+    }
+
+    private static CachedTemplate read(String templatePath) {
+        // 1. Use intelligent path resolver to find template in file system
+        String resolvedPath = PathResolver.resolveTemplatePath(templatePath);
+        if (resolvedPath != null && PathResolver.exists(resolvedPath)) {
+            logger.debug("Loading template from file system: {}", resolvedPath);
+            // Taken before reading, an edit while reading is picked up by the next load
+            File file = new File(resolvedPath);
+            long lastModified = file.lastModified();
+            long size = file.length();
+            return new CachedTemplate(
+                    resolvedPath,
+                    lastModified,
+                    size,
+                    CompiledTemplate.compile(FileUtils.readFile(resolvedPath)));
+        }
+
+        // 2. Load from classpath (built-in templates)
+        String resourcePath = PathResolver.buildResourcePath(templatePath);
+        logger.debug("Loading template from classpath: {}", resourcePath);
+        String content = FileUtils.readResourceFile(resourcePath);
+        return content != null
+                ? new CachedTemplate(null, 0, 0, CompiledTemplate.compile(content))
+                : null;
+    }
+
+    /** A loaded template and the state of the file it was read from */
+    private static class CachedTemplate {
+        // Null for classpath templates, those never change
+        private final String resolvedPath;
+        private final long lastModified;
+        private final long size;
+        private final CompiledTemplate template;
+        // Content index -> template pointed at that content entry
+        private final Map<Integer, CompiledTemplate> contentVariants = new ConcurrentHashMap<>();
+
+        CachedTemplate(
+                String resolvedPath, long lastModified, long size, CompiledTemplate template) {
+            this.resolvedPath = resolvedPath;
+            this.lastModified = lastModified;
+            this.size = size;
+            this.template = template;
+        }
+
+        CompiledTemplate forContent(int contentIndex) {
+            return contentVariants.computeIfAbsent(
+                    contentIndex, index -> ContentPipelines.forContent(template, index));
+        }
+
+        boolean isCurrent() {
+            if (resolvedPath == null) {
+                return true;
+            }
+            File file = new File(resolvedPath);
+            return file.lastModified() == lastModified && file.length() == size;
+        }
+    }
+}
@@ -29,7 +29,8 @@ import java.util.Map;
 
 /**
  * Template mapping configuration manager responsible for loading and managing template-mapping.yaml
- * configuration file
+ * configuration file. The loaded configuration is an immutable snapshot that {@link #reload()}
+ * replaces as a whole, so readers on other threads see either the old or the new configuration.
  */
 public class TemplateMappingManager {
 
@@ -37,28 +38,34 @@ public class TemplateMappingManager {
 
     private static final String TEMPLATE_MAPPING_CONFIG = "template-mapping.yaml";
 
-    private static TemplateMappingManager instance;
+    /** Created on first use by the class loader */
+    private static final class InstanceHolder {
+        private static final TemplateMappingManager INSTANCE = new TemplateMappingManager();
+    }
+
+    /** One loaded template-mapping.yaml, never modified once published */
+    private static final class MappingConfig {
+        private String content;
+        private Map<String, String> sourceMappings;
+        private Map<String, String> sinkMappings;
+        private Map<String, String> envMappings;
+        private Map<String, Object> transformers;
+        // Transformers compiled for matching, by name
+        private Map<String, TransformerMatcher> transformerMatchers;
+    }
 
-    private Map<String, Object> mappingConfig;
-    private Map<String, String> sourceMappings;
-    private Map<String, String> sinkMappings;
-    private Map<String, String> envMappings;
-    private Map<String, Object> transformers;
+    private volatile MappingConfig config;
 
     private TemplateMappingManager() {
-        loadMappingConfig();
+        config = loadMappingConfig();
     }
 
-    public static synchronized TemplateMappingManager getInstance() {
-        if (instance == null) {
-            instance = new TemplateMappingManager();
-        }
-        return instance;
+    public static TemplateMappingManager getInstance() {
+        return InstanceHolder.INSTANCE;
     }
 
     /** Load template mapping configuration */
-    @SuppressWarnings("unchecked")
-    private void loadMappingConfig() {
+    private MappingConfig loadMappingConfig() {
         logger.info("Loading template mapping configuration...");
 
         try {
@@ -68,70 +75,87 @@ public class TemplateMappingManager {
                 logger.info(
                         "Loading template mapping configuration from file system: {}", configPath);
                 String content = FileUtils.readFile(configPath);
-                parseMappingConfig(content);
-                return;
+                return parseMappingConfig(content);
             }
 
             // 2. Load from classpath (built-in configuration)
-            String resourcePath = "templates/" + TEMPLATE_MAPPING_CONFIG;
+            String resourcePath = PathResolver.buildResourcePath(TEMPLATE_MAPPING_CONFIG);
             logger.info("Loading template mapping configuration from classpath: {}", resourcePath);
             String content = FileUtils.readResourceFile(resourcePath);
-            parseMappingConfig(content);
+            return parseMappingConfig(content);
 
         } catch (Exception e) {
             logger.error("Failed to load template mapping configuration: {}", e.getMessage(), e);
             // Use default configuration
-            initDefaultMappings();
+            return initDefaultMappings();
         }
     }
 
     /** Parse mapping configuration content */
     @SuppressWarnings("unchecked")
-    private void parseMappingConfig(String content) {
+    private MappingConfig parseMappingConfig(String content) {
         Yaml yaml = new Yaml();
-        mappingConfig = yaml.load(content);
+        Map<String, Object> mappingConfig = yaml.load(content);
+        MappingConfig loaded = new MappingConfig();
+        loaded.content = content;
 
         if (mappingConfig != null && mappingConfig.containsKey("datax")) {
             Map<String, Object> dataxConfig = (Map<String, Object>) mappingConfig.get("datax");
 
             // Load source mappings
             if (dataxConfig.containsKey("source_mappings")) {
-                sourceMappings = (Map<String, String>) dataxConfig.get("source_mappings");
-                logger.info("Loaded {} source mappings", sourceMappings.size());
+                loaded.sourceMappings = (Map<String, String>) dataxConfig.get("source_mappings");
+                logger.info("Loaded {} source mappings", loaded.sourceMappings.size());
             }
 
             // Load sink mappings
             if (dataxConfig.containsKey("sink_mappings")) {
-                sinkMappings = (Map<String, String>) dataxConfig.get("sink_mappings");
-                logger.info("Loaded {} sink mappings", sinkMappings.size());
+                loaded.sinkMappings = (Map<String, String>) dataxConfig.get("sink_mappings");
+                logger.info("Loaded {} sink mappings", loaded.sinkMappings.size());
             }
 
             // Load environment mappings
             if (dataxConfig.containsKey("env_mappings")) {
-                envMappings = (Map<String, String>) dataxConfig.get("env_mappings");
-                logger.info("Loaded {} environment mappings", envMappings.size());
+                loaded.envMappings = (Map<String, String>) dataxConfig.get("env_mappings");
+                logger.info("Loaded {} environment mappings", loaded.envMappings.size());
             }
         }
 
         // Load transformer configuration
         if (mappingConfig != null && mappingConfig.containsKey("transformers")) {
-            transformers = (Map<String, Object>) mappingConfig.get("transformers");
-            logger.info("Loaded {} transformers", transformers.size());
+            loaded.transformers = (Map<String, Object>) mappingConfig.get("transformers");
+            loaded.transformerMatchers = compileTransformers(loaded.transformers);
+            logger.info("Loaded {} transformers", loaded.transformers.size());
         }
 
         logger.info("Template mapping configuration loading completed");
+        return loaded;
+    }
+
+    /** Compile every transformer once, entries that are not rule maps are skipped */
+    private static Map<String, TransformerMatcher> compileTransformers(
+            Map<String, Object> transformers) {
+        Map<String, TransformerMatcher> matchers = new HashMap<>();
+        for (Map.Entry<String, Object> entry : transformers.entrySet()) {
+            if (entry.getValue() instanceof Map) {
+                matchers.put(
+                        entry.getKey(), TransformerMatcher.compile((Map<?, ?>) entry.getValue()));
+            }
+        }
+        return matchers;
     }
 
     /** Initialize default mappings (fallback) - use built-in configuration file */
-    private void initDefaultMappings() {
+    private MappingConfig initDefaultMappings() {
         logger.warn("Using built-in default template mapping configuration");
 
         try {
             // Try to load default configuration from built-in configuration file
-            String resourcePath = "templates/" + TEMPLATE_MAPPING_CONFIG;
+            String resourcePath = PathResolver.buildResourcePath(TEMPLATE_MAPPING_CONFIG);
             String content = FileUtils.readResourceFile(resourcePath);
-            parseMappingConfig(content);
+            MappingConfig loaded = parseMappingConfig(content);
             logger.info("Successfully loaded built-in default configuration");
+            return loaded;
         } catch (Exception e) {
             logger.error(
                     "Failed to load built-in default configuration, system cannot work properly: {}",
@@ -144,8 +168,14 @@ public class TemplateMappingManager {
         }
     }
 
+    /** Get the raw template-mapping.yaml content the mappings were loaded from */
+    public String getMappingConfigContent() {
+        return config.content;
+    }
+
     /** Get corresponding source template path based on reader type */
     public String getSourceTemplate(String readerType) {
+        Map<String, String> sourceMappings = config.sourceMappings;
         if (sourceMappings == null) {
             logger.warn("Source mappings not initialized, using default template");
             return "datax/sources/jdbc-source.conf";
@@ -165,6 +195,7 @@ public class TemplateMappingManager {
 
     /** Get corresponding sink template path based on writer type */
     public String getSinkTemplate(String writerType) {
+        Map<String, String> sinkMappings = config.sinkMappings;
         if (sinkMappings == null) {
             logger.warn("Sink mappings not initialized, using default template");
             return "datax/sinks/hdfs-sink.conf";
@@ -184,6 +215,7 @@ public class TemplateMappingManager {
 
     /** Get corresponding environment template path based on job type */
     public String getEnvTemplate(String jobType) {
+        Map<String, String> envMappings = config.envMappings;
         if (envMappings == null) {
             logger.warn("Environment mappings not initialized, using default template");
             return "datax/env/batch-env.conf";
@@ -204,6 +236,7 @@ public class TemplateMappingManager {
     /** Get transformer configuration */
     @SuppressWarnings("unchecked")
     public Map<String, String> getTransformer(String transformerName) {
+        Map<String, Object> transformers = config.transformers;
         if (transformers == null) {
             logger.warn("Transformer configuration not initialized");
             return new HashMap<>();
@@ -218,18 +251,32 @@ public class TemplateMappingManager {
         return new HashMap<>();
     }
 
+    /**
+     * Get the compiled matcher of a transformer
+     *
+     * @param transformerName transformer name
+     * @return matcher, null if there is no such transformer
+     */
+    public TransformerMatcher getTransformerMatcher(String transformerName) {
+        Map<String, TransformerMatcher> matchers = config.transformerMatchers;
+        return matchers != null ? matchers.get(transformerName) : null;
+    }
+
     /** Check if specified reader type is supported */
     public boolean isReaderSupported(String readerType) {
+        Map<String, String> sourceMappings = config.sourceMappings;
         return sourceMappings != null && sourceMappings.containsKey(readerType.toLowerCase());
     }
 
     /** Check if specified writer type is supported */
     public boolean isWriterSupported(String writerType) {
+        Map<String, String> sinkMappings = config.sinkMappings;
         return sinkMappings != null && sinkMappings.containsKey(writerType.toLowerCase());
     }
 
     /** Get all supported reader types */
     public String[] getSupportedReaders() {
+        Map<String, String> sourceMappings = config.sourceMappings;
         if (sourceMappings == null) {
             return new String[0];
         }
@@ -238,15 +285,19 @@ public class TemplateMappingManager {
 
     /** Get all supported writer types */
     public String[] getSupportedWriters() {
+        Map<String, String> sinkMappings = config.sinkMappings;
         if (sinkMappings == null) {
             return new String[0];
         }
         return sinkMappings.keySet().toArray(new String[0]);
     }
 
-    /** Reload configuration (for dynamic updates) */
-    public void reload() {
+    /**
+     * Reload configuration (for dynamic updates). The new configuration is loaded aside and then
+     * published at once, sections removed from the file do not survive the reload.
+     */
+    public synchronized void reload() {
         logger.info("Reloading template mapping configuration...");
-        loadMappingConfig();
+        config = loadMappingConfig();
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * A value flowing through a template filter chain: a scalar string, a list of strings (a DataX
+ * array or the result of {@code split}) or a JSON object node. Lists keep their elements until the
+ * value is emitted, so {@code join}, {@code get} and element-wise filters never re-split text and
+ * elements may contain commas.
+ */
+public final class TemplateValue {
+
+    /** Value kinds */
+    public enum Kind {
+        SCALAR,
+        LIST,
+        NODE
+    }
+
+    /** The empty string */
+    public static final TemplateValue EMPTY = new TemplateValue(Kind.SCALAR, "", null, null);
+
+    private static final String LIST_SEPARATOR = ",";
+
+    private final Kind kind;
+    private final List<String> items;
+    private final JsonNode node;
+    // Text form, computed on first use for lists and nodes
+    private String text;
+
+    private TemplateValue(Kind kind, String text, List<String> items, JsonNode node) {
+        this.kind = kind;
+        this.text = text;
+        this.items = items;
+        this.node = node;
+    }
+
+    /**
+     * Create a scalar value
+     *
+     * @param text value, null is the empty string
+     * @return value
+     */
+    public static TemplateValue scalar(String text) {
+        return text == null || text.isEmpty()
+                ? EMPTY
+                : new TemplateValue(Kind.SCALAR, text, null, null);
+    }
+
+    /**
+     * Create a list value, the elements are not copied
+     *
+     * @param items elements
+     * @return value
+     */
+    public static TemplateValue list(List<String> items) {
+        return new TemplateValue(Kind.LIST, null, Collections.unmodifiableList(items), null);
+    }
+
+    /**
+     * Create the value of a JSON node: arrays become lists of their element texts that remember the
+     * array, objects stay nodes and everything else becomes a scalar
+     *
+     * @param node JSON node
+     * @return value
+     */
+    public static TemplateValue of(JsonNode node) {
+        if (node.isArray()) {
+            List<String> elements = new ArrayList<>(node.size());
+            for (JsonNode element : node) {
+                elements.add(element.asText());
+            }
+            return new TemplateValue(Kind.LIST, null, Collections.unmodifiableList(elements), node);
+        }
+        if (node.isObject()) {
+            return new TemplateValue(Kind.NODE, null, null, node);
+        }
+        return scalar(node.asText());
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public boolean isList() {
+        return kind == Kind.LIST;
+    }
+
+    /** Elements of a list value, null for other kinds */
+    public List<String> getItems() {
+        return items;
+    }
+
+    /**
+     * JSON node of a node value or the array a list was read from, null otherwise. Filters that
+     * need the structure of array elements read it here.
+     */
+    public JsonNode getNode() {
+        return node;
+    }
+
+    /** Whether the text form is empty, without building it */
+    public boolean isEmpty() {
+        if (kind == Kind.LIST) {
+            return items.isEmpty() || (items.size() == 1 && items.get(0).isEmpty());
+        }
+        return asText().isEmpty();
+    }
+
+    /**
+     * Text form of the value, as emitted into the configuration: list elements are joined with
+     * commas
+     */
+    public String asText() {
+        String result = text;
+        if (result == null) {
+            result = kind == Kind.LIST ? String.join(LIST_SEPARATOR, items) : node.asText();
+            text = result;
+        }
+        return result;
+    }
+
+    /**
+     * Apply a string function to the value, element by element for lists
+     *
+     * @param function string function
+     * @return transformed value
+     */
+    public TemplateValue map(UnaryOperator<String> function) {
+        if (kind == Kind.LIST) {
+            List<String> mapped = new ArrayList<>(items.size());
+            for (String item : items) {
+                mapped.add(function.apply(item));
+            }
+            return list(mapped);
+        }
+        return scalar(function.apply(asText()));
+    }
+
+    /** Whether two values emit the same text, lists are compared element by element */
+    public boolean sameAs(TemplateValue other) {
+        if (other == null) {
+            return false;
+        }
+        if (kind == Kind.LIST && other.kind == Kind.LIST) {
+            return items.equals(other.items);
+        }
+        return asText().equals(other.asText());
+    }
+
+    @Override
+    public String toString() {
+        return asText();
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * The rules of one transformer of {@code template-mapping.yaml} compiled into a case-insensitive
+ * Aho-Corasick automaton, so a value is matched against every rule in a single pass over the value.
+ * When several rules match, the one listed first in the configuration wins, as it did when the
+ * rules were tried one after the other.
+ */
+public final class TransformerMatcher {
+
+    /** How a rule pattern has to occur in the value */
+    public enum Mode {
+        /** The value contains the pattern, the default */
+        CONTAINS,
+        /** The value is the pattern */
+        EXACT,
+        /** The value starts with the pattern */
+        PREFIX;
+
+        /**
+         * Parse a mode name, case-insensitive
+         *
+         * @param name mode name, empty for the default
+         * @return mode, null if there is no such mode
+         */
+        public static Mode parse(String name) {
+            if (name == null || name.trim().isEmpty()) {
+                return CONTAINS;
+            }
+            for (Mode mode : values()) {
+                if (mode.name().equalsIgnoreCase(name.trim())) {
+                    return mode;
+                }
+            }
+            return null;
+        }
+    }
+
+    // Rule order of the configuration, smaller wins
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final String[] values;
+    private final Node root = new Node();
+    private final Map<String, Integer> exact = new HashMap<>();
+
+    private TransformerMatcher(Map<?, ?> rules) {
+        List<String> mappedValues = new ArrayList<>(rules.size());
+        for (Map.Entry<?, ?> rule : rules.entrySet()) {
+            int index = mappedValues.size();
+            mappedValues.add(rule.getValue() != null ? String.valueOf(rule.getValue()) : "");
+
+            String pattern = lowerCase(String.valueOf(rule.getKey()));
+            exact.putIfAbsent(pattern, index);
+            Node node = root;
+            for (int i = 0; i < pattern.length(); i++) {
+                node = node.next.computeIfAbsent(pattern.charAt(i), c -> new Node());
+            }
+            node.rule = Math.min(node.rule, index);
+        }
+        this.values = mappedValues.toArray(new String[0]);
+        linkFailures();
+    }
+
+    /**
+     * Compile the rules of a transformer, pattern to mapped value in configuration order
+     *
+     * @param rules transformer rules
+     * @return matcher
+     */
+    public static TransformerMatcher compile(Map<?, ?> rules) {
+        return new TransformerMatcher(rules != null ? rules : Collections.emptyMap());
+    }
+
+    /** Number of rules */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Map a value with the first rule whose pattern it contains
+     *
+     * @param value input value
+     * @return mapped value, null if no rule matches
+     */
+    public String match(String value) {
+        return match(value, Mode.CONTAINS);
+    }
+
+    /**
+     * Map a value with the first matching rule
+     *
+     * @param value input value
+     * @param mode how patterns have to occur in the value
+     * @return mapped value, null if no rule matches
+     */
+    public String match(String value, Mode mode) {
+        if (value == null || values.length == 0) {
+            return null;
+        }
+        int rule;
+        switch (mode) {
+            case EXACT:
+                rule = exact.getOrDefault(lowerCase(value), NO_MATCH);
+                break;
+            case PREFIX:
+                rule = matchPrefix(value);
+                break;
+            default:
+                rule = matchContains(value);
+                break;
+        }
+        return rule == NO_MATCH ? null : values[rule];
+    }
+
+    /** Walk the trie along the value, every rule on the way is a prefix */
+    private int matchPrefix(String value) {
+        Node node = root;
+        int best = node.rule;
+        for (int i = 0; i < value.length() && node != null && best != 0; i++) {
+            node = node.next.get(Character.toLowerCase(value.charAt(i)));
+            if (node != null) {
+                best = Math.min(best, node.rule);
+            }
+        }
+        return best;
+    }
+
+    /** Run the automaton over the value, keeping the earliest rule seen */
+    private int matchContains(String value) {
+        Node node = root;
+        int best = root.output;
+        for (int i = 0; i < value.length() && best != 0; i++) {
+            char c = Character.toLowerCase(value.charAt(i));
+            Node next = node.next.get(c);
+            while (next == null && node != root) {
+                node = node.failure;
+                next = node.next.get(c);
+            }
+            node = next != null ? next : root;
+            best = Math.min(best, node.output);
+        }
+        return best;
+    }
+
+    /** Breadth-first failure links, outputs include every rule that ends at a suffix */
+    private void linkFailures() {
+        Queue<Node> queue = new ArrayDeque<>();
+        root.output = root.rule;
+        for (Node child : root.next.values()) {
+            child.failure = root;
+            child.output = Math.min(child.rule, root.output);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> edge : node.next.entrySet()) {
+                Node child = edge.getValue();
+                Node failure = node.failure;
+                while (failure != root && !failure.next.containsKey(edge.getKey())) {
+                    failure = failure.failure;
+                }
+                Node target = failure.next.get(edge.getKey());
+                child.failure = target != null && target != child ? target : root;
+                child.output = Math.min(child.rule, child.failure.output);
+                queue.add(child);
+            }
+        }
+    }
+
+    private static String lowerCase(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            result.append(Character.toLowerCase(text.charAt(i)));
+        }
+        return result.toString();
+    }
+
+    /** Trie node */
+    private static final class Node {
+        private final Map<Character, Node> next = new HashMap<>();
+        private Node failure;
+        // Earliest rule ending exactly here
+        private int rule = NO_MATCH;
+        // Earliest rule ending here or at a suffix of this node
+        private int output = NO_MATCH;
+    }
+}
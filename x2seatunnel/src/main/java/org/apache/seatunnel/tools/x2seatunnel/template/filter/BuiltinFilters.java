@@ -0,0 +1,409 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template.filter;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+
+import org.apache.seatunnel.tools.x2seatunnel.template.TemplateValue;
+import org.apache.seatunnel.tools.x2seatunnel.template.TransformerMatcher;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/** Filters that come with x2seatunnel */
+final class BuiltinFilters {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuiltinFilters.class);
+
+    private static final String DEFAULT_JOIN_SEPARATOR = ",";
+    private static final String DEFAULT_SPLIT_DELIMITER = "/";
+    private static final String DEFAULT_REGEX_REPLACEMENT = "$1";
+    private static final String DEFAULT_FILE_TYPE = "text";
+    private static final String DEFAULT_COLUMN_TYPE = "string";
+    private static final String ALL_COLUMNS = "*";
+
+    // Replacements that only concatenate groups, e.g. $1.$2
+    private static final Pattern GROUP_REFERENCES_PATTERN =
+            Pattern.compile("(\\$\\d+)(\\.\\$\\d+)*");
+
+    /** DataX file types to SeaTunnel file_format_type */
+    private static final Map<String, String> FILE_TYPES = new HashMap<>();
+
+    /** DataX column types to SeaTunnel schema types */
+    private static final Map<String, String> COLUMN_TYPES = new HashMap<>();
+
+    static {
+        FILE_TYPES.put("text", "text");
+        FILE_TYPES.put("csv", "csv");
+        FILE_TYPES.put("orc", "orc");
+        FILE_TYPES.put("parquet", "parquet");
+        FILE_TYPES.put("json", "json");
+        FILE_TYPES.put("excel", "excel");
+        FILE_TYPES.put("xlsx", "excel");
+        FILE_TYPES.put("xml", "xml");
+
+        COLUMN_TYPES.put("long", "bigint");
+        COLUMN_TYPES.put("bigint", "bigint");
+        COLUMN_TYPES.put("int", "int");
+        COLUMN_TYPES.put("integer", "int");
+        COLUMN_TYPES.put("tinyint", "tinyint");
+        COLUMN_TYPES.put("smallint", "smallint");
+        COLUMN_TYPES.put("double", "double");
+        COLUMN_TYPES.put("float", "float");
+        COLUMN_TYPES.put("decimal", "decimal(38, 18)");
+        COLUMN_TYPES.put("string", "string");
+        COLUMN_TYPES.put("varchar", "string");
+        COLUMN_TYPES.put("char", "string");
+        COLUMN_TYPES.put("boolean", "boolean");
+        COLUMN_TYPES.put("date", "date");
+        COLUMN_TYPES.put("timestamp", "timestamp");
+        COLUMN_TYPES.put("datetime", "timestamp");
+        COLUMN_TYPES.put("bytes", "bytes");
+        COLUMN_TYPES.put("binary", "bytes");
+    }
+
+    private BuiltinFilters() {}
+
+    /** All built-in filters */
+    static List<TemplateFilter> all() {
+        return Arrays.asList(
+                new Builtin("join", BuiltinFilters::join),
+                new Builtin("escape", args -> (value, ctx) -> value.map(BuiltinFilters::escape)),
+                new Builtin("default", BuiltinFilters::defaultValue, true),
+                new Builtin("upper", args -> (value, ctx) -> value.map(String::toUpperCase)),
+                new Builtin("lower", args -> (value, ctx) -> value.map(String::toLowerCase)),
+                new Builtin("regex_extract", BuiltinFilters::regexExtract),
+                new Builtin("split", BuiltinFilters::split),
+                new Builtin("get", BuiltinFilters::get),
+                new Builtin("replace", BuiltinFilters::replace),
+                new Builtin("file_type_mapper", args -> BuiltinFilters::mapFileType),
+                new Builtin("column_schema_mapper", args -> BuiltinFilters::mapColumnSchema));
+    }
+
+    /**
+     * Function of a filter name that is not registered: a transformer of {@code
+     * template-mapping.yaml}, e.g. {@code jdbc_driver_mapper} or {@code
+     * jdbc_driver_mapper('exact')}
+     */
+    static FilterFunction transformer(String name, String args) {
+        TransformerMatcher.Mode parsed =
+                TransformerMatcher.Mode.parse(FilterArguments.unquote(args));
+        if (parsed == null) {
+            logger.warn("Unknown match mode of transformer {}: {}, using contains", name, args);
+        }
+        TransformerMatcher.Mode mode = parsed != null ? parsed : TransformerMatcher.Mode.CONTAINS;
+        return (value, ctx) -> {
+            String mapped = ctx.applyTransformer(name, mode, value.asText());
+            if (mapped == null) {
+                logger.warn("Unsupported filter: {}", name);
+                return value;
+            }
+            return TemplateValue.scalar(mapped);
+        };
+    }
+
+    /** join(separator): join list elements, or the parts of a comma-separated string */
+    private static FilterFunction join(String args) {
+        String unquoted = FilterArguments.unquote(args);
+        String separator = unquoted.isEmpty() ? DEFAULT_JOIN_SEPARATOR : unquoted;
+        return (value, ctx) -> {
+            if (value.isList()) {
+                return TemplateValue.scalar(joinTrimmed(value.getItems(), separator));
+            }
+            String text = value.asText();
+            if (text.trim().isEmpty()) {
+                return TemplateValue.EMPTY;
+            }
+            // If the value itself is a comma-separated string, join its parts with the separator
+            if (text.contains(",")) {
+                return TemplateValue.scalar(joinTrimmed(Arrays.asList(text.split(",")), separator));
+            }
+            return value;
+        };
+    }
+
+    private static String joinTrimmed(List<String> items, String separator) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                result.append(separator);
+            }
+            String item = items.get(i);
+            result.append(item != null ? item.trim() : "");
+        }
+        return result.toString();
+    }
+
+    /** Escape control characters to literal sequences, e.g., newline -> \n, tab -> \t */
+    private static String escape(String input) {
+        String out = input;
+        // Important: backslash must be escaped first to avoid double-processing
+        out = out.replace("\\", "\\\\");
+        out = out.replace("\n", "\\n");
+        out = out.replace("\r", "\\r");
+        out = out.replace("\t", "\\t");
+        // Keep quotes safe in properties-like files
+        out = out.replace("\"", "\\\"");
+        return out;
+    }
+
+    /** default(value): the argument if the value is empty, records which one was used */
+    private static FilterFunction defaultValue(String args) {
+        String defaultValue = FilterArguments.unquote(args);
+        return (value, ctx) -> {
+            if (value.isEmpty()) {
+                TemplateValue result = TemplateValue.scalar(defaultValue);
+                ctx.recordDefaultValue(result.asText(), "Applied default value: " + defaultValue);
+                return result;
+            }
+            ctx.recordDirectMapping(
+                    value.asText(), "Used original value, default value not applied");
+            return value;
+        };
+    }
+
+    /**
+     * regex_extract('pattern') extracts the first group, regex_extract('pattern', 'replacement')
+     * uses a replacement, group references only like {@code $1.$2} concatenate the groups
+     */
+    private static FilterFunction regexExtract(String args) {
+        if (args.trim().isEmpty()) {
+            return (value, ctx) -> value;
+        }
+
+        List<String> parts = FilterArguments.split(args);
+        String patternText = parts.isEmpty() ? "" : parts.get(0).trim();
+        String replacement = parts.size() > 1 ? parts.get(1).trim() : DEFAULT_REGEX_REPLACEMENT;
+        boolean groupReferencesOnly = GROUP_REFERENCES_PATTERN.matcher(replacement).matches();
+
+        Pattern pattern;
+        try {
+            pattern = Pattern.compile(patternText);
+        } catch (PatternSyntaxException e) {
+            logger.error("Invalid regular expression in regex_extract: '{}'", patternText, e);
+            return (value, ctx) -> value;
+        }
+
+        return (value, ctx) -> {
+            String text = value.asText();
+            if (text.trim().isEmpty()) {
+                return value;
+            }
+            try {
+                Matcher matcher = pattern.matcher(text);
+                if (!matcher.find()) {
+                    logger.warn(
+                            "Regular expression extraction failed: pattern '{}' does not match input value '{}'",
+                            patternText,
+                            text);
+                    return value;
+                }
+                if (groupReferencesOnly) {
+                    String extracted = replacement;
+                    // Replace group references
+                    for (int i = 1; i <= matcher.groupCount(); i++) {
+                        extracted = extracted.replace("$" + i, matcher.group(i));
+                    }
+                    return TemplateValue.scalar(extracted);
+                }
+                return TemplateValue.scalar(matcher.replaceFirst(replacement));
+            } catch (Exception e) {
+                logger.error(
+                        "Regular expression extraction error: pattern='{}', value='{}'",
+                        patternText,
+                        text,
+                        e);
+                return value;
+            }
+        };
+    }
+
+    /** split(delimiter): split a string into a list, the delimiter is a regex, default "/" */
+    private static FilterFunction split(String args) {
+        String delimiter = FilterArguments.unquote(args).trim();
+        if (delimiter.isEmpty()) {
+            delimiter = DEFAULT_SPLIT_DELIMITER;
+        }
+
+        Pattern pattern;
+        try {
+            pattern = Pattern.compile(delimiter);
+        } catch (PatternSyntaxException e) {
+            logger.warn("Invalid split delimiter '{}', splitting at the literal text", delimiter);
+            pattern = Pattern.compile(Pattern.quote(delimiter));
+        }
+
+        Pattern compiled = pattern;
+        return (value, ctx) -> {
+            String text = value.asText();
+            if (text.trim().isEmpty()) {
+                return TemplateValue.list(Collections.emptyList());
+            }
+            return TemplateValue.list(Arrays.asList(compiled.split(text)));
+        };
+    }
+
+    /** get(index): element of a list, negative indexes count from the end */
+    private static FilterFunction get(String args) {
+        String indexText = FilterArguments.unquote(args);
+        int parsed;
+        try {
+            parsed = Integer.parseInt(indexText.trim());
+        } catch (NumberFormatException e) {
+            logger.error("Invalid array index: {}", indexText, e);
+            return (value, ctx) -> value.isList() ? TemplateValue.EMPTY : value;
+        }
+
+        int index = parsed;
+        return (value, ctx) -> {
+            // If not a list, return string form directly
+            if (!value.isList()) {
+                return value;
+            }
+            List<String> items = value.getItems();
+            int position = index < 0 ? items.size() + index : index;
+            if (position >= 0 && position < items.size()) {
+                return TemplateValue.scalar(items.get(position));
+            }
+            if (!items.isEmpty()) {
+                logger.warn(
+                        "Array index out of range: index={}, array length={}", index, items.size());
+            }
+            return TemplateValue.EMPTY;
+        };
+    }
+
+    /** replace('old,new'): replace every occurrence of a string */
+    private static FilterFunction replace(String args) {
+        String unquoted = FilterArguments.unquote(args);
+        if (unquoted.trim().isEmpty()) {
+            return (value, ctx) -> value;
+        }
+
+        String[] parts = unquoted.split(",", 2);
+        if (parts.length != 2) {
+            logger.warn(
+                    "replace filter parameter format error, should be 'old,new', actual: {}",
+                    unquoted);
+            return (value, ctx) -> value;
+        }
+
+        String oldStr = parts[0].trim();
+        String newStr = parts[1].trim();
+        return (value, ctx) -> TemplateValue.scalar(value.asText().replace(oldStr, newStr));
+    }
+
+    /** file_type_mapper: DataX fileType to SeaTunnel file_format_type */
+    private static TemplateValue mapFileType(TemplateValue value, FilterContext ctx) {
+        String fileType = value.asText().trim().toLowerCase(Locale.ROOT);
+        if (fileType.isEmpty()) {
+            return TemplateValue.scalar(DEFAULT_FILE_TYPE);
+        }
+        String mapped = FILE_TYPES.get(fileType);
+        if (mapped == null) {
+            logger.warn("Unknown DataX file type: {}, keeping it as is", value.asText());
+            return value;
+        }
+        return TemplateValue.scalar(mapped);
+    }
+
+    /**
+     * column_schema_mapper: DataX file reader columns, e.g. {@code [{"index": 0, "type": "long"}]},
+     * to SeaTunnel schema fields like {@code {name = "col0", type = "bigint"}}
+     */
+    private static TemplateValue mapColumnSchema(TemplateValue value, FilterContext ctx) {
+        List<String> fields = new ArrayList<>();
+        JsonNode columns = value.getNode();
+        if (columns != null && columns.isArray()) {
+            int position = 0;
+            for (JsonNode column : columns) {
+                if (column.isObject()) {
+                    String name =
+                            column.hasNonNull("name")
+                                    ? column.get("name").asText()
+                                    : "col" + column.path("index").asInt(position);
+                    fields.add(schemaField(name, columnType(column.path("type").asText())));
+                } else if (!ALL_COLUMNS.equals(column.asText())) {
+                    fields.add(schemaField(column.asText(), DEFAULT_COLUMN_TYPE));
+                }
+                position++;
+            }
+        } else if (value.isList()) {
+            for (String column : value.getItems()) {
+                if (!column.isEmpty() && !ALL_COLUMNS.equals(column)) {
+                    fields.add(schemaField(column, DEFAULT_COLUMN_TYPE));
+                }
+            }
+        }
+        return TemplateValue.scalar(String.join(", ", fields));
+    }
+
+    private static String columnType(String dataXType) {
+        String type = COLUMN_TYPES.get(dataXType.trim().toLowerCase(Locale.ROOT));
+        return type != null ? type : DEFAULT_COLUMN_TYPE;
+    }
+
+    private static String schemaField(String name, String type) {
+        return "{name = \"" + name + "\", type = \"" + type + "\"}";
+    }
+
+    /** A built-in filter, its function is made from the arguments */
+    private static final class Builtin implements TemplateFilter {
+
+        private final String name;
+        private final Function<String, FilterFunction> compiler;
+        private final boolean recordsMapping;
+
+        Builtin(String name, Function<String, FilterFunction> compiler) {
+            this(name, compiler, false);
+        }
+
+        Builtin(String name, Function<String, FilterFunction> compiler, boolean recordsMapping) {
+            this.name = name;
+            this.compiler = compiler;
+            this.recordsMapping = recordsMapping;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public FilterFunction compile(String arguments) {
+            return compiler.apply(arguments);
+        }
+
+        @Override
+        public boolean recordsMapping() {
+            return recordsMapping;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template.filter;
+
+import org.apache.seatunnel.tools.x2seatunnel.template.TemplateValue;
+
+/** One use of a filter in a template, with its arguments already parsed */
+public final class CompiledFilter {
+
+    private final String name;
+    private final FilterFunction function;
+    private final boolean recordsMapping;
+
+    CompiledFilter(String name, FilterFunction function, boolean recordsMapping) {
+        this.name = name;
+        this.function = function;
+        this.recordsMapping = recordsMapping;
+    }
+
+    /** Filter name, e.g. {@code join} */
+    public String getName() {
+        return name;
+    }
+
+    /** Whether the filter records its own mapping */
+    public boolean recordsMapping() {
+        return recordsMapping;
+    }
+
+    /**
+     * Apply the filter
+     *
+     * @param value input value, never null
+     * @param context rendering the value is part of
+     * @return filtered value
+     */
+    public TemplateValue apply(TemplateValue value, FilterContext context) {
+        return function.apply(value, context);
+    }
+}
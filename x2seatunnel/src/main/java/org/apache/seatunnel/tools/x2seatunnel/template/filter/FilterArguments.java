@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Parsing of the raw argument text of a filter, e.g. {@code 'pattern', '$1'} */
+public final class FilterArguments {
+
+    private FilterArguments() {}
+
+    /**
+     * The arguments as one value, trimmed and without surrounding quotes
+     *
+     * @param arguments raw argument text
+     * @return argument value
+     */
+    public static String unquote(String arguments) {
+        String value = arguments.trim();
+        if (value.length() >= 2
+                && ((value.startsWith("'") && value.endsWith("'"))
+                        || (value.startsWith("\"") && value.endsWith("\"")))) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    /**
+     * Split the arguments at commas outside quotes, each argument trimmed and without surrounding
+     * quotes
+     *
+     * @param arguments raw argument text
+     * @return arguments, empty if there are none
+     */
+    public static List<String> split(String arguments) {
+        List<String> result = new ArrayList<>();
+        if (arguments == null || arguments.trim().isEmpty()) {
+            return result;
+        }
+
+        StringBuilder currentArg = new StringBuilder();
+        boolean inQuotes = false;
+        char quoteChar = '\0';
+
+        for (int i = 0; i < arguments.length(); i++) {
+            char c = arguments.charAt(i);
+
+            if (!inQuotes && (c == '\'' || c == '"')) {
+                inQuotes = true;
+                quoteChar = c;
+            } else if (inQuotes && c == quoteChar) {
+                inQuotes = false;
+                quoteChar = '\0';
+            } else if (!inQuotes && c == ',') {
+                result.add(unquote(currentArg.toString()));
+                currentArg.setLength(0);
+                continue;
+            }
+
+            currentArg.append(c);
+        }
+
+        if (currentArg.length() > 0) {
+            result.add(unquote(currentArg.toString()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template.filter;
+
+import org.apache.seatunnel.tools.x2seatunnel.template.TransformerMatcher;
+
+/** What a filter can use from the rendering it is applied in */
+public interface FilterContext {
+
+    /**
+     * Map a value with a transformer configured in {@code template-mapping.yaml}
+     *
+     * @param transformerName transformer name
+     * @param mode how the patterns of the rules have to occur in the value
+     * @param value input value
+     * @return mapped value, the input if no rule matches, null if there is no such transformer
+     */
+    String applyTransformer(String transformerName, TransformerMatcher.Mode mode, String value);
+
+    /**
+     * Record that the target field of the current line got a default value, ignored when mappings
+     * are not tracked
+     *
+     * @param value default value
+     * @param reason description for the report
+     */
+    void recordDefaultValue(String value, String reason);
+
+    /**
+     * Record that the target field of the current line got its value from DataX, ignored when
+     * mappings are not tracked
+     *
+     * @param value value
+     * @param reason description for the report
+     */
+    void recordDirectMapping(String value, String reason);
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template.filter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * The filters templates can use: the built-in ones and those discovered with {@link ServiceLoader}.
+ * A filter name that is neither is looked up as a transformer of {@code template-mapping.yaml} when
+ * the filter is applied, its optional argument is the match mode, e.g. {@code
+ * jdbc_driver_mapper('prefix')}.
+ */
+public final class FilterRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(FilterRegistry.class);
+
+    private FilterRegistry() {}
+
+    /** Loaded on first use, discovery scans the classpath */
+    private static class Holder {
+        private static final Map<String, TemplateFilter> FILTERS = load();
+    }
+
+    /**
+     * Compile one filter of a filter chain, e.g. {@code join(', ')} or {@code upper}
+     *
+     * @param filterExpression filter expression
+     * @return compiled filter
+     */
+    public static CompiledFilter compile(String filterExpression) {
+        String filterName;
+        String arguments = "";
+
+        int openParenPos = filterExpression.indexOf('(');
+        if (openParenPos >= 0 && filterExpression.indexOf(')') >= 0) {
+            filterName = filterExpression.substring(0, openParenPos).trim();
+
+            // Find correct right parenthesis position (handle nested parentheses)
+            int closeParenPos = findMatchingCloseParen(filterExpression, openParenPos);
+            if (closeParenPos != -1) {
+                arguments = filterExpression.substring(openParenPos + 1, closeParenPos);
+            } else {
+                logger.warn("Unable to find matching closing parenthesis: {}", filterExpression);
+            }
+        } else {
+            filterName = filterExpression.trim();
+        }
+
+        TemplateFilter filter = Holder.FILTERS.get(filterName);
+        if (filter == null) {
+            return new CompiledFilter(
+                    filterName, BuiltinFilters.transformer(filterName, arguments), false);
+        }
+        return new CompiledFilter(filterName, filter.compile(arguments), filter.recordsMapping());
+    }
+
+    /**
+     * Get a filter by name
+     *
+     * @param name filter name
+     * @return filter, null if there is none with this name
+     */
+    public static TemplateFilter get(String name) {
+        return Holder.FILTERS.get(name);
+    }
+
+    /** Find matching right parenthesis position, handle nested parentheses */
+    private static int findMatchingCloseParen(String text, int openParenPos) {
+        int depth = 1;
+        for (int i = openParenPos + 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+                if (depth == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1; // No matching right parenthesis found
+    }
+
+    private static Map<String, TemplateFilter> load() {
+        Map<String, TemplateFilter> filters = new HashMap<>();
+        for (TemplateFilter filter : BuiltinFilters.all()) {
+            filters.put(filter.getName(), filter);
+        }
+
+        Iterator<TemplateFilter> discovered = ServiceLoader.load(TemplateFilter.class).iterator();
+        while (true) {
+            TemplateFilter filter;
+            try {
+                if (!discovered.hasNext()) {
+                    break;
+                }
+                filter = discovered.next();
+            } catch (ServiceConfigurationError e) {
+                // One broken provider must not hide the others
+                logger.error("Unable to load template filter: {}", e.getMessage(), e);
+                continue;
+            }
+            TemplateFilter replaced = filters.put(filter.getName(), filter);
+            logger.info(
+                    "Registered template filter {} ({}){}",
+                    filter.getName(),
+                    filter.getClass().getName(),
+                    replaced != null ? ", replacing the built-in filter" : "");
+        }
+        return Collections.unmodifiableMap(filters);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template.filter;
+
+/**
+ * A template filter, e.g. {@code upper} in {@code {{ datax.job.content[0].reader.name | upper }}}.
+ * Each use of a filter in a template is compiled once, so arguments are parsed and regular
+ * expressions compiled when the template is compiled, never per job.
+ *
+ * <p>Filters besides the built-in ones are discovered with {@link java.util.ServiceLoader}: list
+ * the implementation classes in {@code
+ * META-INF/services/org.apache.seatunnel.tools.x2seatunnel.template.filter.TemplateFilter}. A
+ * discovered filter replaces a built-in filter of the same name.
+ */
+public interface TemplateFilter {
+
+    /** Name the filter is used with in templates */
+    String getName();
+
+    /**
+     * Compile one use of the filter
+     *
+     * @param arguments raw text between the parentheses, empty if the filter has none. {@link
+     *     FilterArguments} unquotes and splits it.
+     * @return function applied to the values of every rendered job
+     */
+    FilterFunction compile(String arguments);
+
+    /**
+     * Whether the filter records its own mapping through the {@link FilterContext}. Otherwise a
+     * filter that changes a value is recorded as a transformation.
+     */
+    default boolean recordsMapping() {
+        return false;
+    }
+}
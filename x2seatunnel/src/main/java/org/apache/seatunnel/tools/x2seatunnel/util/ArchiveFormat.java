@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.util;
+
+import java.util.Locale;
+
+/** Archive formats batch mode reads jobs from and writes results to, detected by file name */
+public enum ArchiveFormat {
+    ZIP,
+    TAR,
+    TAR_GZ;
+
+    /**
+     * Detect the archive format of a path from its extension
+     *
+     * @param path file path
+     * @return archive format, null if the path is not an archive
+     */
+    public static ArchiveFormat of(String path) {
+        if (path == null) {
+            return null;
+        }
+        String name = path.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".zip")) {
+            return ZIP;
+        }
+        if (name.endsWith(".tar.gz") || name.endsWith(".tgz")) {
+            return TAR_GZ;
+        }
+        if (name.endsWith(".tar")) {
+            return TAR;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.util;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Sequential reader of the regular file entries of a zip, tar or tar.gz archive. Entries are
+ * decompressed while they are read, nothing is extracted to disk.
+ */
+public class ArchiveReader implements Closeable {
+
+    private static final int BLOCK_SIZE = 512;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ArchiveFormat format;
+    private final InputStream in;
+    private final ZipInputStream zip;
+    private final byte[] header = new byte[BLOCK_SIZE];
+
+    private ArchiveReader(ArchiveFormat format, InputStream in) throws IOException {
+        this.format = format;
+        InputStream buffered = new BufferedInputStream(in, BUFFER_SIZE);
+        if (format == ArchiveFormat.ZIP) {
+            this.zip = new ZipInputStream(buffered, StandardCharsets.UTF_8);
+            this.in = zip;
+        } else {
+            this.zip = null;
+            this.in =
+                    format == ArchiveFormat.TAR_GZ
+                            ? new GZIPInputStream(buffered, BUFFER_SIZE)
+                            : buffered;
+        }
+    }
+
+    /**
+     * Open an archive for reading, the format is detected from the file name
+     *
+     * @param path archive path
+     * @return archive reader
+     */
+    public static ArchiveReader open(String path) {
+        ArchiveFormat format = ArchiveFormat.of(path);
+        if (format == null) {
+            throw new IllegalArgumentException("Unsupported archive format: " + path);
+        }
+        try {
+            return new ArchiveReader(format, Files.newInputStream(Paths.get(path)));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open archive: " + path, e);
+        }
+    }
+
+    /**
+     * Read the next regular file entry, directories and other entry types are skipped
+     *
+     * @return next entry, null at the end of the archive
+     */
+    public Entry next() throws IOException {
+        return format == ArchiveFormat.ZIP ? nextZipEntry() : nextTarEntry();
+    }
+
+    /**
+     * Lazily stream the remaining entries, read errors surface as {@link UncheckedIOException}
+     *
+     * @return stream of entries
+     */
+    public Stream<Entry> entries() {
+        Iterator<Entry> iterator =
+                new Iterator<Entry>() {
+                    private Entry nextEntry;
+
+                    @Override
+                    public boolean hasNext() {
+                        if (nextEntry == null) {
+                            try {
+                                nextEntry = ArchiveReader.this.next();
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        }
+                        return nextEntry != null;
+                    }
+
+                    @Override
+                    public Entry next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry entry = nextEntry;
+                        nextEntry = null;
+                        return entry;
+                    }
+                };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private Entry nextZipEntry() throws IOException {
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            if (!entry.isDirectory()) {
+                return new Entry(entry.getName(), readFully(zip, -1));
+            }
+        }
+        return null;
+    }
+
+    private Entry nextTarEntry() throws IOException {
+        String longName = null;
+        while (true) {
+            if (!readBlock(header, true)) {
+                return null;
+            }
+            if (isZeroBlock(header)) {
+                // End of archive marker
+                return null;
+            }
+            verifyChecksum();
+            long size = parseOctal(header, 124, 12);
+            byte type = header[156];
+            byte[] content = readTarContent(size);
+            switch (type) {
+                case 'L':
+                    // GNU long name of the following entry
+                    longName = trimNul(new String(content, StandardCharsets.UTF_8));
+                    break;
+                case 'x':
+                    String paxPath = parsePaxPath(content);
+                    if (paxPath != null) {
+                        longName = paxPath;
+                    }
+                    break;
+                case '0':
+                case 0:
+                    String name = longName != null ? longName : headerName();
+                    return new Entry(name, content);
+                default:
+                    // Directories, links and global headers carry no job
+                    longName = null;
+            }
+        }
+    }
+
+    private String headerName() {
+        String name = readString(header, 0, 100);
+        // POSIX ustar splits long names into prefix and name, GNU tar uses the field otherwise
+        if ("ustar".equals(readString(header, 257, 6))) {
+            String prefix = readString(header, 345, 155);
+            if (!prefix.isEmpty()) {
+                return prefix + "/" + name;
+            }
+        }
+        return name;
+    }
+
+    private byte[] readTarContent(long size) throws IOException {
+        if (size > Integer.MAX_VALUE - BLOCK_SIZE) {
+            throw new IOException("Archive entry too large: " + size + " bytes");
+        }
+        byte[] content = readFully(in, (int) size);
+        long padding = (BLOCK_SIZE - size % BLOCK_SIZE) % BLOCK_SIZE;
+        skipFully(padding);
+        return content;
+    }
+
+    private static String parsePaxPath(byte[] content) {
+        // Records are "<length> <key>=<value>\n", the length counts the whole record
+        String path = null;
+        int offset = 0;
+        while (offset < content.length) {
+            int space = offset;
+            while (space < content.length && content[space] != ' ') {
+                space++;
+            }
+            if (space >= content.length) {
+                break;
+            }
+            int length = Integer.parseInt(new String(content, offset, space - offset).trim());
+            if (length <= 0 || offset + length > content.length) {
+                break;
+            }
+            String record =
+                    new String(
+                            content,
+                            space + 1,
+                            offset + length - space - 2,
+                            StandardCharsets.UTF_8);
+            if (record.startsWith("path=")) {
+                path = record.substring("path=".length());
+            }
+            offset += length;
+        }
+        return path;
+    }
+
+    private void verifyChecksum() throws IOException {
+        long expected = parseOctal(header, 148, 8);
+        long actual = 0;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            actual += (i >= 148 && i < 156) ? ' ' : (header[i] & 0xff);
+        }
+        if (expected != actual) {
+            throw new IOException("Invalid tar header checksum, the file is not a tar archive");
+        }
+    }
+
+    private boolean readBlock(byte[] block, boolean allowEof) throws IOException {
+        int read = 0;
+        while (read < block.length) {
+            int n = in.read(block, read, block.length - read);
+            if (n < 0) {
+                if (read == 0 && allowEof) {
+                    return false;
+                }
+                throw new EOFException("Unexpected end of tar archive");
+            }
+            read += n;
+        }
+        return true;
+    }
+
+    private void skipFully(long bytes) throws IOException {
+        while (bytes > 0) {
+            long skipped = in.skip(bytes);
+            if (skipped <= 0) {
+                if (in.read() < 0) {
+                    throw new EOFException("Unexpected end of tar archive");
+                }
+                skipped = 1;
+            }
+            bytes -= skipped;
+        }
+    }
+
+    private static byte[] readFully(InputStream in, int size) throws IOException {
+        if (size >= 0) {
+            byte[] content = new byte[size];
+            int read = 0;
+            while (read < size) {
+                int n = in.read(content, read, size - read);
+                if (n < 0) {
+                    throw new EOFException("Unexpected end of archive entry");
+                }
+                read += n;
+            }
+            return content;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean isZeroBlock(byte[] block) {
+        for (byte b : block) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseOctal(byte[] block, int offset, int length) throws IOException {
+        long value = 0;
+        int end = offset + length;
+        int i = offset;
+        while (i < end && (block[i] == ' ' || block[i] == 0)) {
+            i++;
+        }
+        for (; i < end && block[i] != ' ' && block[i] != 0; i++) {
+            if (block[i] < '0' || block[i] > '7') {
+                throw new IOException("Invalid tar header, the file is not a tar archive");
+            }
+            value = (value << 3) + (block[i] - '0');
+        }
+        return value;
+    }
+
+    private static String readString(byte[] block, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && block[end] != 0) {
+            end++;
+        }
+        return new String(block, offset, end - offset, StandardCharsets.UTF_8);
+    }
+
+    private static String trimNul(String value) {
+        int nul = value.indexOf('\0');
+        return nul >= 0 ? value.substring(0, nul) : value;
+    }
+
+    /** A regular file entry of an archive */
+    public static class Entry {
+        private final String name;
+        private final byte[] content;
+
+        public Entry(String name, byte[] content) {
+            this.name = name;
+            this.content = content;
+        }
+
+        /** Path of the entry inside the archive, using '/' as separator */
+        public String getName() {
+            return name;
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        public String getContentAsString() {
+            return new String(content, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.util;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writer of zip, tar or tar.gz archives. Entries are compressed as they are written, so converted
+ * jobs never touch the disk as individual files. Tar entries use the GNU format, names longer than
+ * 100 bytes are stored as GNU long name entries. Writes are synchronized.
+ */
+public class ArchiveWriter implements Closeable {
+
+    private static final int BLOCK_SIZE = 512;
+    private static final int RECORD_SIZE = 20 * BLOCK_SIZE;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int NAME_LENGTH = 100;
+    private static final String LONG_NAME_ENTRY = "././@LongLink";
+
+    private final ArchiveFormat format;
+    private final OutputStream out;
+    private final ZipOutputStream zip;
+    private long written;
+    private boolean closed;
+
+    private ArchiveWriter(ArchiveFormat format, OutputStream out) throws IOException {
+        this.format = format;
+        OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        if (format == ArchiveFormat.ZIP) {
+            this.zip = new ZipOutputStream(buffered, StandardCharsets.UTF_8);
+            this.out = zip;
+        } else {
+            this.zip = null;
+            this.out =
+                    format == ArchiveFormat.TAR_GZ
+                            ? new GZIPOutputStream(buffered, BUFFER_SIZE)
+                            : buffered;
+        }
+    }
+
+    /**
+     * Create an archive, replacing an existing file. The format is detected from the file name.
+     *
+     * @param path archive path
+     * @return archive writer
+     */
+    public static ArchiveWriter create(String path) {
+        ArchiveFormat format = ArchiveFormat.of(path);
+        if (format == null) {
+            throw new IllegalArgumentException("Unsupported archive format: " + path);
+        }
+        try {
+            Path file = Paths.get(path);
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            return new ArchiveWriter(format, Files.newOutputStream(file));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create archive: " + path, e);
+        }
+    }
+
+    /**
+     * Add a file entry
+     *
+     * @param name path of the entry inside the archive, using '/' as separator
+     * @param content entry content
+     */
+    public synchronized void write(String name, byte[] content) throws IOException {
+        if (closed) {
+            throw new IOException("Archive is already closed");
+        }
+        if (format == ArchiveFormat.ZIP) {
+            zip.putNextEntry(new ZipEntry(name));
+            zip.write(content);
+            zip.closeEntry();
+            return;
+        }
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        if (nameBytes.length > NAME_LENGTH) {
+            byte[] longName = new byte[nameBytes.length + 1];
+            System.arraycopy(nameBytes, 0, longName, 0, nameBytes.length);
+            writeTarEntry(LONG_NAME_ENTRY.getBytes(StandardCharsets.UTF_8), (byte) 'L', longName);
+        }
+        writeTarEntry(nameBytes, (byte) '0', content);
+    }
+
+    /** Add a file entry with UTF-8 text content */
+    public void write(String name, String content) throws IOException {
+        write(name, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (format != ArchiveFormat.ZIP) {
+            // Two zero blocks end the archive, padded to a full record like tar does
+            long end = written + 2 * BLOCK_SIZE;
+            long padded = (end + RECORD_SIZE - 1) / RECORD_SIZE * RECORD_SIZE;
+            out.write(new byte[(int) (padded - written)]);
+        }
+        out.close();
+    }
+
+    private void writeTarEntry(byte[] name, byte type, byte[] content) throws IOException {
+        byte[] header = new byte[BLOCK_SIZE];
+        System.arraycopy(name, 0, header, 0, Math.min(name.length, NAME_LENGTH));
+        writeOctal(header, 100, 8, 0644);
+        writeOctal(header, 108, 8, 0);
+        writeOctal(header, 116, 8, 0);
+        writeOctal(header, 124, 12, content.length);
+        writeOctal(header, 136, 12, System.currentTimeMillis() / 1000);
+        header[156] = type;
+        // GNU magic "ustar  \0"
+        byte[] magic = "ustar  ".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(magic, 0, header, 257, magic.length);
+        for (int i = 148; i < 156; i++) {
+            header[i] = ' ';
+        }
+        long checksum = 0;
+        for (byte b : header) {
+            checksum += b & 0xff;
+        }
+        writeOctal(header, 148, 7, checksum);
+        header[155] = ' ';
+
+        out.write(header);
+        out.write(content);
+        int padding = (BLOCK_SIZE - content.length % BLOCK_SIZE) % BLOCK_SIZE;
+        out.write(new byte[padding]);
+        written += BLOCK_SIZE + content.length + padding;
+    }
+
+    /** Write a zero padded octal number followed by a NUL terminator */
+    private static void writeOctal(byte[] header, int offset, int length, long value) {
+        String octal = Long.toOctalString(value);
+        int digits = length - 1;
+        if (octal.length() > digits) {
+            throw new IllegalArgumentException("Value too large for tar header: " + value);
+        }
+        for (int i = 0; i < digits - octal.length(); i++) {
+            header[offset + i] = '0';
+        }
+        for (int i = 0; i < octal.length(); i++) {
+            header[offset + digits - octal.length() + i] = (byte) octal.charAt(i);
+        }
+        header[offset + digits] = 0;
+    }
+}
@@ -20,15 +20,20 @@ package org.apache.seatunnel.tools.x2seatunnel.util;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /** Batch conversion report, records successful and failed entries and outputs a report file */
 public class BatchConversionReport {
 
     private final List<ConversionRecord> successList = new ArrayList<>();
     private final Map<String, String> failureMap = new LinkedHashMap<>();
+    private final List<ConversionRecord> skippedList = new ArrayList<>();
+    // Duplicate source file -> source file whose conversion was reused
+    private final Map<String, String> deduplicatedMap = new LinkedHashMap<>();
 
     private String sourceDirectory;
     private String outputDirectory;
@@ -97,6 +102,59 @@ public class BatchConversionReport {
         failureMap.put(source, reason);
     }
 
+    /** Record a file skipped by incremental conversion because its inputs did not change */
+    public void recordSkipped(String sourceFile, String targetFile, String reportFile) {
+        skippedList.add(new ConversionRecord(sourceFile, targetFile, reportFile));
+    }
+
+    /**
+     * Record a successful file whose output was served from the dedup cache, because it is the same
+     * job as an already converted file
+     */
+    public void recordDeduplicated(String sourceFile, String originalSourceFile) {
+        deduplicatedMap.put(sourceFile, originalSourceFile);
+    }
+
+    public List<ConversionRecord> getSuccessRecords() {
+        return successList;
+    }
+
+    public Map<String, String> getFailures() {
+        return failureMap;
+    }
+
+    public List<ConversionRecord> getSkippedRecords() {
+        return skippedList;
+    }
+
+    public Map<String, String> getDeduplicated() {
+        return deduplicatedMap;
+    }
+
+    /**
+     * Merge the results of a later conversion of some of the same files, e.g. a watch round. The
+     * latest outcome of each file replaces its earlier one.
+     *
+     * @param later report of the later conversion
+     */
+    public void merge(BatchConversionReport later) {
+        Set<String> sources = new HashSet<>(later.failureMap.keySet());
+        later.successList.forEach(record -> sources.add(record.getSourceFile()));
+        later.skippedList.forEach(record -> sources.add(record.getSourceFile()));
+
+        successList.removeIf(record -> sources.contains(record.getSourceFile()));
+        skippedList.removeIf(record -> sources.contains(record.getSourceFile()));
+        failureMap.keySet().removeAll(sources);
+        deduplicatedMap.keySet().removeAll(sources);
+
+        successList.addAll(later.successList);
+        skippedList.addAll(later.skippedList);
+        failureMap.putAll(later.failureMap);
+        deduplicatedMap.putAll(later.deduplicatedMap);
+        // Finished again when the merged report is generated
+        endTime = null;
+    }
+
     public void finish() {
         this.endTime = LocalDateTime.now();
     }
@@ -123,6 +181,15 @@ public class BatchConversionReport {
      * @param reportPath report file output path
      */
     public void writeReport(String reportPath) {
+        FileUtils.writeFile(reportPath, generateReport());
+    }
+
+    /**
+     * Generate the report in Markdown format
+     *
+     * @return report content
+     */
+    public String generateReport() {
         if (endTime == null) {
             finish(); // If finish() was not called, complete automatically
         }
@@ -156,8 +223,18 @@ public class BatchConversionReport {
                 .append(successList.size())
                 .append(" files |\n");
         sb.append("| **Failed Conversions** | ").append(failureMap.size()).append(" files |\n");
+        if (!skippedList.isEmpty()) {
+            sb.append("| **Skipped (Unchanged)** | ")
+                    .append(skippedList.size())
+                    .append(" files |\n");
+        }
+        if (!deduplicatedMap.isEmpty()) {
+            sb.append("| **Served From Dedup Cache** | ")
+                    .append(deduplicatedMap.size())
+                    .append(" files |\n");
+        }
         sb.append("| **Total** | ")
-                .append(successList.size() + failureMap.size())
+                .append(successList.size() + failureMap.size() + skippedList.size())
                 .append(" files |\n");
         sb.append("| **Success Rate** | ").append(calculateSuccessRate()).append(" |\n\n");
 
@@ -194,6 +271,35 @@ public class BatchConversionReport {
             sb.append("\n");
         }
 
+        // Files skipped by incremental conversion
+        if (!skippedList.isEmpty()) {
+            sb.append("## ⏭️ Skipped Unchanged Files (").append(skippedList.size()).append(")\n\n");
+            sb.append("| # | Source File | Target File | Report File |\n");
+            sb.append("|---|-------------|-------------|-------------|\n");
+            for (int i = 0; i < skippedList.size(); i++) {
+                ConversionRecord record = skippedList.get(i);
+                sb.append("| ").append(i + 1).append(" | ");
+                sb.append("`").append(record.getSourceFile()).append("` | ");
+                sb.append("`").append(record.getTargetFile()).append("` | ");
+                sb.append("`").append(record.getReportFile()).append("` |\n");
+            }
+            sb.append("\n");
+        }
+
+        // Duplicates whose output was reused, they are also listed as successful
+        if (!deduplicatedMap.isEmpty()) {
+            sb.append("## ♻️ Deduplicated Files (").append(deduplicatedMap.size()).append(")\n\n");
+            sb.append("| # | Source File | Same Job As |\n");
+            sb.append("|---|-------------|-------------|\n");
+            int index = 1;
+            for (Map.Entry<String, String> entry : deduplicatedMap.entrySet()) {
+                sb.append("| ").append(index++).append(" | ");
+                sb.append("`").append(entry.getKey()).append("` | ");
+                sb.append("`").append(entry.getValue()).append("` |\n");
+            }
+            sb.append("\n");
+        }
+
         // Add simple footer information
         sb.append("---\n");
         sb.append("*Report generated at: ")
@@ -201,8 +307,7 @@ public class BatchConversionReport {
                 .append("*\n");
         sb.append("*Tool version: X2SeaTunnel v0.1*\n");
 
-        // Write to file
-        FileUtils.writeFile(reportPath, sb.toString());
+        return sb.toString();
     }
 
     /** Format date time */
@@ -20,15 +20,20 @@ package org.apache.seatunnel.tools.x2seatunnel.util;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.apache.seatunnel.tools.x2seatunnel.model.ConversionContext;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -131,23 +136,28 @@ public class DataXFieldExtractor {
      * @return mappings from field paths to values
      */
     public Map<String, String> extractAllFieldsWithValues(String dataXJsonContent) {
-        Map<String, String> fieldValueMap = new HashMap<>();
-
         try {
-            JsonNode rootNode = objectMapper.readTree(dataXJsonContent);
-            extractFieldsWithValuesRecursively(rootNode, "", fieldValueMap);
-
-            logger.debug(
-                    "Extracted {} fields with values from DataX configuration",
-                    fieldValueMap.size());
-            return fieldValueMap;
-
+            return extractAllFieldsWithValues(objectMapper.readTree(dataXJsonContent));
         } catch (Exception e) {
             logger.error("Failed to extract DataX fields and values: {}", e.getMessage(), e);
-            return fieldValueMap;
+            return new HashMap<>();
         }
     }
 
+    /**
+     * Extract mappings of all field paths and their values from a parsed DataX job
+     *
+     * @param rootNode DataX JSON root node
+     * @return mappings from field paths to values
+     */
+    public Map<String, String> extractAllFieldsWithValues(JsonNode rootNode) {
+        Map<String, String> fieldValueMap = new HashMap<>();
+        extractFieldsWithValuesRecursively(rootNode, "", fieldValueMap);
+        logger.debug(
+                "Extracted {} fields with values from DataX configuration", fieldValueMap.size());
+        return fieldValueMap;
+    }
+
     /**
      * Recursively extract all field paths and their values from the JSON node
      *
@@ -212,7 +222,7 @@ public class DataXFieldExtractor {
                     && (field.contains(".reader.parameter.")
                             || field.contains(".writer.parameter."))) {
 
-                String arrayField = getArrayFieldName(field);
+                String arrayField = arrayFieldNameOf(field);
                 if (arrayField != null) {
                     // If it's an array element, only record the array itself, not each element
                     if (!arrayFieldsProcessed.contains(arrayField)) {
@@ -236,10 +246,23 @@ public class DataXFieldExtractor {
         return meaningfulFields;
     }
 
-    /** Field reference tracker - track reference status of DataX fields */
+    /**
+     * Field reference tracker - track reference status of DataX fields. Fields are added before
+     * resolution starts, references may be counted by several threads rendering the same job.
+     */
     public static class FieldReferenceTracker {
         private final Map<String, String> fieldValues = new HashMap<>();
-        private final Map<String, Integer> referenceCount = new HashMap<>();
+        private final Map<String, Integer> referenceCount = new ConcurrentHashMap<>();
+        // Path index of the tracked job, null when the tracker is filled by hand
+        private final FieldPathIndex fieldIndex;
+
+        public FieldReferenceTracker() {
+            this(null);
+        }
+
+        public FieldReferenceTracker(FieldPathIndex fieldIndex) {
+            this.fieldIndex = fieldIndex;
+        }
 
         public void addField(String fieldPath, String value) {
             fieldValues.put(fieldPath, value);
@@ -247,7 +270,37 @@ public class DataXFieldExtractor {
         }
 
         public void incrementReference(String fieldPath) {
-            referenceCount.put(fieldPath, referenceCount.getOrDefault(fieldPath, 0) + 1);
+            referenceCount.merge(fieldPath, 1, Integer::sum);
+        }
+
+        /** Whether a path is one of the tracked fields */
+        public boolean containsField(String fieldPath) {
+            return fieldValues.containsKey(fieldPath);
+        }
+
+        /**
+         * Get the tracked fields that are elements of an array, {@code jdbcUrl} gives {@code
+         * jdbcUrl[0]}, {@code jdbcUrl[1]} but not {@code jdbcUrl[0].x}
+         *
+         * @param arrayPath array path
+         * @return tracked element paths
+         */
+        public List<String> getArrayElementFields(String arrayPath) {
+            List<String> elements = new ArrayList<>();
+            if (fieldIndex != null) {
+                for (String elementPath : fieldIndex.getElementPaths(arrayPath)) {
+                    if (fieldValues.containsKey(elementPath)) {
+                        elements.add(elementPath);
+                    }
+                }
+                return elements;
+            }
+            for (String fieldPath : fieldValues.keySet()) {
+                if (arrayPath.equals(arrayFieldNameOf(fieldPath))) {
+                    elements.add(fieldPath);
+                }
+            }
+            return elements;
         }
 
         public Map<String, String> getUnreferencedFields() {
@@ -286,12 +339,30 @@ public class DataXFieldExtractor {
      * @return the field reference tracker
      */
     public FieldReferenceTracker createFieldReferenceTracker(String dataXJsonContent) {
-        FieldReferenceTracker tracker = new FieldReferenceTracker();
+        try {
+            return createFieldReferenceTracker(
+                    FieldPathIndex.of(objectMapper.readTree(dataXJsonContent)));
+        } catch (Exception e) {
+            logger.error("Failed to extract DataX fields and values: {}", e.getMessage(), e);
+            return new FieldReferenceTracker();
+        }
+    }
+
+    /**
+     * Create a field reference tracker from the path index of a parsed job
+     *
+     * @param context parsed DataX job
+     * @return the field reference tracker
+     */
+    public FieldReferenceTracker createFieldReferenceTracker(ConversionContext context) {
+        return createFieldReferenceTracker(context.getFieldIndex());
+    }
+
+    private FieldReferenceTracker createFieldReferenceTracker(FieldPathIndex fieldIndex) {
+        FieldReferenceTracker tracker = new FieldReferenceTracker(fieldIndex);
 
         try {
-            Map<String, String> allFieldsWithValues = extractAllFieldsWithValues(dataXJsonContent);
-            Map<String, String> meaningfulFields =
-                    filterMeaningfulFieldsWithValues(allFieldsWithValues);
+            Map<String, String> meaningfulFields = filterMeaningfulFieldsWithValues(fieldIndex);
 
             for (Map.Entry<String, String> entry : meaningfulFields.entrySet()) {
                 tracker.addField(entry.getKey(), entry.getValue());
@@ -307,17 +378,67 @@ public class DataXFieldExtractor {
         }
     }
 
+    /**
+     * Filter meaningful DataX fields and their values using the path index of the job, array
+     * elements are found by index instead of scanning every field
+     *
+     * @param fieldIndex path index of the job
+     * @return filtered meaningful fields and their values
+     */
+    public Map<String, String> filterMeaningfulFieldsWithValues(FieldPathIndex fieldIndex) {
+        Map<String, String> meaningfulFields = new HashMap<>();
+
+        for (Map.Entry<String, String> entry : fieldIndex.getLeafValues().entrySet()) {
+            String field = entry.getKey();
+
+            if (field.contains(".content[")
+                    && (field.contains(".reader.parameter.")
+                            || field.contains(".writer.parameter."))) {
+
+                String arrayField = fieldIndex.getArrayPath(field);
+                if (arrayField == null) {
+                    meaningfulFields.put(field, entry.getValue());
+                } else if (!meaningfulFields.containsKey(arrayField)) {
+                    // Only record the array itself, with its values in index order
+                    List<String> values = new ArrayList<>();
+                    for (String elementPath : fieldIndex.getElementPaths(arrayField)) {
+                        if (fieldIndex.isLeaf(elementPath)) {
+                            values.add(fieldIndex.getLeafValues().get(elementPath));
+                        }
+                    }
+                    meaningfulFields.put(arrayField, String.join(",", values));
+                }
+            } else if (field.contains(".setting.")) {
+                meaningfulFields.put(field, entry.getValue());
+            }
+        }
+
+        logger.debug(
+                "Retained {} meaningful fields and their values after filtering (array fields merged)",
+                meaningfulFields.size());
+        return meaningfulFields;
+    }
+
     /**
      * Check if a field is an array element. If so, return the array field name. For example:
      * job.content[0].reader.parameter.column[1] -> job.content[0].reader.parameter.column
      */
-    private String getArrayFieldName(String field) {
-        // Match pattern: xxx[number]
-        if (field.matches(".*\\[\\d+\\]$")) {
-            int lastBracket = field.lastIndexOf('[');
-            return field.substring(0, lastBracket);
+    public static String arrayFieldNameOf(String field) {
+        int length = field.length();
+        if (length < 3 || field.charAt(length - 1) != ']') {
+            return null;
+        }
+        int lastBracket = field.lastIndexOf('[');
+        if (lastBracket < 0 || lastBracket == length - 2) {
+            return null;
+        }
+        for (int i = lastBracket + 1; i < length - 1; i++) {
+            char c = field.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
         }
-        return null;
+        return field.substring(0, lastBracket);
     }
 
     /**
@@ -18,10 +18,14 @@
 package org.apache.seatunnel.tools.x2seatunnel.util;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /** Batch processing directory scanning tool */
 public class DirectoryProcessor {
@@ -39,20 +43,55 @@ public class DirectoryProcessor {
      * @return list of file paths
      */
     public List<String> listSourceFiles() {
-        List<String> result = new ArrayList<>();
+        try (Stream<String> files = streamSourceFiles()) {
+            return files.collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw new RuntimeException("Failed to scan directory: " + inputDir, e.getCause());
+        }
+    }
+
+    /**
+     * Lazily walk the files to be converted, filtered by extension (JSON/XML/TXT). Files are
+     * produced while the directory tree is being walked, so consumers can start before the scan
+     * finishes. The returned stream must be closed by the caller.
+     *
+     * @return stream of file paths
+     */
+    public Stream<String> streamSourceFiles() {
         try {
-            Files.walk(Paths.get(inputDir))
+            return Files.walk(Paths.get(inputDir))
                     .filter(Files::isRegularFile)
-                    .filter(
-                            path -> {
-                                String ext = FileUtils.getFileExtension(path.toString());
-                                return "json".equals(ext) || "xml".equals(ext) || "txt".equals(ext);
-                            })
-                    .forEach(path -> result.add(path.toString()));
+                    .map(Path::toString)
+                    .filter(DirectoryProcessor::isSourceFile);
         } catch (IOException e) {
             throw new RuntimeException("Failed to scan directory: " + inputDir, e);
         }
-        return result;
+    }
+
+    /**
+     * Count the files to be converted with a walk of its own, so a batch can report its total while
+     * the files are still being streamed
+     *
+     * @param filter file pattern filter
+     * @return number of source files accepted by the filter
+     */
+    public int countSourceFiles(Predicate<String> filter) {
+        try (Stream<String> files = streamSourceFiles()) {
+            return (int) files.filter(filter).count();
+        } catch (UncheckedIOException e) {
+            throw new RuntimeException("Failed to scan directory: " + inputDir, e.getCause());
+        }
+    }
+
+    /**
+     * Check whether a file has an extension that batch conversion picks up (JSON/XML/TXT)
+     *
+     * @param path the path of the file
+     * @return true if the file is a conversion candidate
+     */
+    public static boolean isSourceFile(String path) {
+        String ext = FileUtils.getFileExtension(path);
+        return "json".equals(ext) || "xml".equals(ext) || "txt".equals(ext);
     }
 
     /**
@@ -76,4 +115,45 @@ public class DirectoryProcessor {
         String name = FileUtils.getFileNameWithoutExtension(sourceFile);
         return Paths.get(outputDir, name + ".md").toString();
     }
+
+    /**
+     * Generate the target entry name in an output archive. Unlike {@link #resolveTargetPath} the
+     * entry keeps the directories of the source relative to the input, so sources of the same name
+     * in different directories do not clash.
+     *
+     * @param sourceFile the path of the source file or the name of a source archive entry
+     * @return the name of the target entry, with '/' separators
+     */
+    public String resolveTargetEntry(String sourceFile) {
+        return resolveEntry(sourceFile, ".conf");
+    }
+
+    /**
+     * Generate the report entry name in an output archive, see {@link #resolveTargetEntry}
+     *
+     * @param sourceFile the path of the source file or the name of a source archive entry
+     * @return the name of the report entry, with '/' separators
+     */
+    public String resolveReportEntry(String sourceFile) {
+        return resolveEntry(sourceFile, ".md");
+    }
+
+    private String resolveEntry(String sourceFile, String extension) {
+        Path source = Paths.get(sourceFile).normalize();
+        Path input = Paths.get(inputDir).normalize();
+        // Entries of a source archive are already relative to it
+        Path relative = source.startsWith(input) ? input.relativize(source) : source;
+        StringBuilder entry = new StringBuilder();
+        Path parent = relative.getParent();
+        if (parent != null) {
+            for (Path part : parent) {
+                if (!"..".equals(part.toString())) {
+                    entry.append(part).append('/');
+                }
+            }
+        }
+        return entry.append(FileUtils.getFileNameWithoutExtension(sourceFile))
+                .append(extension)
+                .toString();
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.util;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flattened index of a parsed DataX job, built in one walk and shared by template variable lookups
+ * and field reference tracking. Every object, array and value of the job is keyed by its interned
+ * path, e.g. {@code job.content[0].reader.parameter.column}, so a lookup with a compiled {@link
+ * PathAccessor} path is a single hash probe. Arrays know their element paths and elements know
+ * their array, so array-aware reference counting never scans the whole job.
+ */
+public class FieldPathIndex {
+
+    private final JsonNode root;
+    // Path -> node, for every object, array and value
+    private final Map<String, JsonNode> nodes = new HashMap<>();
+    // Path -> text, for values only
+    private final Map<String, String> leafValues = new HashMap<>();
+    private final Map<String, List<String>> elementPaths = new HashMap<>();
+    private final Map<String, String> arrayPaths = new HashMap<>();
+    private final Map<String, String> leafValuesView;
+
+    private FieldPathIndex(JsonNode root) {
+        this.root = root;
+        index(root, "");
+        this.leafValuesView = Collections.unmodifiableMap(leafValues);
+    }
+
+    /**
+     * Build the index of a parsed job
+     *
+     * @param root JSON root node
+     * @return index
+     */
+    public static FieldPathIndex of(JsonNode root) {
+        return new FieldPathIndex(root);
+    }
+
+    private void index(JsonNode node, String path) {
+        if (node == null) {
+            return;
+        }
+        nodes.put(path, node);
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                String fieldPath =
+                        (path.isEmpty() ? field.getKey() : path + "." + field.getKey()).intern();
+                index(field.getValue(), fieldPath);
+            }
+        } else if (node.isArray()) {
+            List<String> elements = new ArrayList<>(node.size());
+            for (int i = 0; i < node.size(); i++) {
+                String elementPath = (path + "[" + i + "]").intern();
+                elements.add(elementPath);
+                arrayPaths.put(elementPath, path);
+                index(node.get(i), elementPath);
+            }
+            elementPaths.put(path, Collections.unmodifiableList(elements));
+        } else if (node.isValueNode()) {
+            leafValues.put(path, node.asText());
+        }
+    }
+
+    /** JSON root node the index was built from */
+    public JsonNode getRoot() {
+        return root;
+    }
+
+    /**
+     * Get the node at a path
+     *
+     * @param path lookup path, e.g. {@code job.content[0].reader.name}
+     * @return node, null if the job has no such path
+     */
+    public JsonNode get(String path) {
+        return nodes.get(path);
+    }
+
+    /** Whether the job has a node at a path */
+    public boolean contains(String path) {
+        return nodes.containsKey(path);
+    }
+
+    /** All values of the job keyed by path, e.g. "job.content[0].reader.parameter.column[0]" */
+    public Map<String, String> getLeafValues() {
+        return leafValuesView;
+    }
+
+    /**
+     * Get the element paths of an array, {@code column} gives {@code column[0]}, {@code column[1]}
+     *
+     * @param arrayPath array path
+     * @return element paths, empty if the path is not an array of the job
+     */
+    public List<String> getElementPaths(String arrayPath) {
+        List<String> elements = elementPaths.get(arrayPath);
+        return elements != null ? elements : Collections.emptyList();
+    }
+
+    /** Whether a path is a value of the job, not an object or array */
+    public boolean isLeaf(String path) {
+        return leafValues.containsKey(path);
+    }
+
+    /**
+     * Get the array an element belongs to, {@code column[1]} gives {@code column}
+     *
+     * @param elementPath element path
+     * @return array path, null if the path is not an array element of the job
+     */
+    public String getArrayPath(String elementPath) {
+        return arrayPaths.get(elementPath);
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.seatunnel.tools.x2seatunnel.util;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -35,14 +36,26 @@ public class FilePattern {
         if (patterns == null || patterns.trim().isEmpty()) {
             return files;
         }
+        return files.stream().filter(compile(patterns)).collect(Collectors.toList());
+    }
+
+    /**
+     * Compiles the wildcard patterns separated by commas into a predicate, so that a stream of file
+     * paths can be filtered without collecting it first.
+     *
+     * @param patterns The wildcard patterns, such as "*.json,*.xml".
+     * @return A predicate accepting matching file paths, accepts everything if patterns is empty.
+     */
+    public static Predicate<String> compile(String patterns) {
+        if (patterns == null || patterns.trim().isEmpty()) {
+            return f -> true;
+        }
         String[] pats = patterns.split(",");
         List<Pattern> regexList = new ArrayList<>();
         for (String p : pats) {
             String pat = p.trim().replace(".", "\\.").replace("*", ".*");
             regexList.add(Pattern.compile(pat));
         }
-        return files.stream()
-                .filter(f -> regexList.stream().anyMatch(r -> r.matcher(f).matches()))
-                .collect(Collectors.toList());
+        return f -> regexList.stream().anyMatch(r -> r.matcher(f).matches());
     }
 }
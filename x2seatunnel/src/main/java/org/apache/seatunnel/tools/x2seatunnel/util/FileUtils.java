@@ -23,16 +23,30 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
 
 /** Utility class for file operations. */
 public class FileUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(FileUtils.class);
 
+    // Files up to this size are read into the pooled buffer of the reading thread
+    private static final int MAX_POOLED_BUFFER_SIZE = 4 * 1024 * 1024;
+    private static final int INITIAL_POOLED_BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<byte[]> POOLED_BUFFER =
+            ThreadLocal.withInitial(() -> new byte[INITIAL_POOLED_BUFFER_SIZE]);
+
     /**
      * Read the content of a file.
      *
@@ -40,6 +54,60 @@ public class FileUtils {
      * @return The content of the file.
      */
     public static String readFile(String filePath) {
+        byte[] bytes = readFileBytes(filePath);
+        String content = new String(bytes, StandardCharsets.UTF_8);
+        logger.debug("File read successfully, content length: {}", content.length());
+        return content;
+    }
+
+    /**
+     * Read the raw bytes of a file, for content that is handed to another thread before parsing.
+     *
+     * @param filePath The path to the file.
+     * @return The content of the file.
+     */
+    public static byte[] readFileBytes(String filePath) {
+        Path path = checkReadableFile(filePath);
+        try {
+            logger.debug("Reading file: {}", filePath);
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read file: " + filePath, e);
+        }
+    }
+
+    /**
+     * Read a file for parsing on the calling thread. Small files are read into a buffer pooled per
+     * thread, large ones are memory-mapped, so no per-file array or string is allocated. The
+     * content is only valid until the calling thread reads the next file.
+     *
+     * @param filePath The path to the file.
+     * @return The content of the file.
+     */
+    public static SourceContent readSource(String filePath) {
+        Path path = checkReadableFile(filePath);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            logger.debug("Reading file: {}", filePath);
+            long size = channel.size();
+            if (size > MAX_POOLED_BUFFER_SIZE) {
+                return SourceContent.of(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+            byte[] buffer = POOLED_BUFFER.get();
+            if (buffer.length < size) {
+                buffer = new byte[(int) size];
+                POOLED_BUFFER.set(buffer);
+            }
+            ByteBuffer target = ByteBuffer.wrap(buffer, 0, (int) size);
+            while (target.hasRemaining() && channel.read(target) >= 0) {
+                // Read until the whole file is in the buffer
+            }
+            return SourceContent.of(buffer, 0, target.position());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read file: " + filePath, e);
+        }
+    }
+
+    private static Path checkReadableFile(String filePath) {
         if (filePath == null || filePath.trim().isEmpty()) {
             throw new RuntimeException("File path cannot be empty");
         }
@@ -52,16 +120,7 @@ public class FileUtils {
         if (!file.isFile()) {
             throw new RuntimeException("Invalid file: " + filePath);
         }
-
-        try {
-            logger.debug("Reading file: {}", filePath);
-            byte[] bytes = Files.readAllBytes(Paths.get(filePath));
-            String content = new String(bytes, StandardCharsets.UTF_8);
-            logger.debug("File read successfully, content length: {}", content.length());
-            return content;
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to read file: " + filePath, e);
-        }
+        return file.toPath();
     }
 
     /**
@@ -80,15 +139,7 @@ public class FileUtils {
         }
 
         try {
-            File file = new File(filePath);
-            // Create directory
-            File parentDir = file.getParentFile();
-            if (parentDir != null && !parentDir.exists()) {
-                if (!parentDir.mkdirs()) {
-                    throw new RuntimeException(
-                            "Failed to create directory: " + parentDir.getAbsolutePath());
-                }
-            }
+            createParentDirectory(new File(filePath));
             logger.debug("Writing file: {}", filePath);
             Files.write(Paths.get(filePath), content.getBytes(StandardCharsets.UTF_8));
             logger.debug("File written successfully, content length: {}", content.length());
@@ -97,6 +148,92 @@ public class FileUtils {
         }
     }
 
+    /**
+     * Stream content into a file without building it in memory first. The content goes to a unique
+     * temporary file next to the target, which replaces the target once the content is complete, so
+     * a failed write leaves an existing file untouched.
+     *
+     * @param filePath The path to the file.
+     * @param content Writes the content, its result is returned.
+     * @param <T> Result type.
+     * @return The result of the content writer.
+     */
+    public static <T> T writeFile(String filePath, StreamingContent<T> content) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            throw new RuntimeException("File path cannot be empty");
+        }
+
+        Path target = Paths.get(filePath).toAbsolutePath();
+        Path tempPath = null;
+        try {
+            createParentDirectory(target.toFile());
+            logger.debug("Streaming file: {}", filePath);
+            // A unique temporary file, so concurrent writers of one target do not share it. It is
+            // created like any other file, so the target gets the permissions of the umask
+            Path candidate =
+                    target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+            T result;
+            try (Writer writer =
+                    Files.newBufferedWriter(
+                            candidate,
+                            StandardCharsets.UTF_8,
+                            StandardOpenOption.CREATE_NEW,
+                            StandardOpenOption.WRITE)) {
+                tempPath = candidate;
+                result = content.writeTo(writer);
+            }
+            moveIntoPlace(tempPath, target);
+            logger.debug("File streamed successfully: {}", filePath);
+            return result;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write file: " + filePath, e);
+        } finally {
+            if (tempPath != null) {
+                try {
+                    Files.deleteIfExists(tempPath);
+                } catch (IOException e) {
+                    logger.warn("Failed to delete temporary file: {}", tempPath, e);
+                }
+            }
+        }
+    }
+
+    /** Replace the target by a file, atomically where the file system supports it. */
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(
+                    source,
+                    target,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.debug("Atomic move not supported, replacing {} directly", target);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to a writer.
+     *
+     * @param <T> Result type.
+     */
+    @FunctionalInterface
+    public interface StreamingContent<T> {
+        T writeTo(Writer writer) throws IOException;
+    }
+
+    /** Create the parent directory of a file. */
+    private static void createParentDirectory(File file) {
+        File parentDir = file.getParentFile();
+        if (parentDir != null && !parentDir.exists()) {
+            // Another batch worker may create the same directory concurrently
+            if (!parentDir.mkdirs() && !parentDir.isDirectory()) {
+                throw new RuntimeException(
+                        "Failed to create directory: " + parentDir.getAbsolutePath());
+            }
+        }
+    }
+
     /**
      * Check if a file exists.
      *
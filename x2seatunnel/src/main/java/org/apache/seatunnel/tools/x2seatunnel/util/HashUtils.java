@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/** Utility class for content hashing. */
+public class HashUtils {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private HashUtils() {}
+
+    /**
+     * Compute the SHA-256 hash of a string.
+     *
+     * @param content The content to hash, null is hashed as an empty string.
+     * @return The lowercase hex encoded hash.
+     */
+    public static String sha256(String content) {
+        return sha256(content == null ? new byte[0] : content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compute the SHA-256 hash of a byte array.
+     *
+     * @param content The content to hash.
+     * @return The lowercase hex encoded hash.
+     */
+    public static String sha256(byte[] content) {
+        try {
+            return toHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    /**
+     * Encode a digest as lowercase hex.
+     *
+     * @param digest The digest bytes.
+     * @return The lowercase hex encoded digest.
+     */
+    public static String toHex(byte[] digest) {
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xF];
+        }
+        return new String(hex);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.util;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streaming JSON parser that only builds the parts of a document a set of paths can reach. Every
+ * other subtree is skipped token by token without being materialised, so large unreferenced values
+ * such as long column lists or embedded SQL cost no heap.
+ *
+ * <p>Paths use the template lookup syntax, e.g. {@code job.content[0].reader.parameter.column}: the
+ * whole value at the end of a path is kept. Array elements before a kept index are replaced by
+ * nulls so indexes stay valid, elements after it are dropped. Where the document shape differs from
+ * the path, e.g. an index step on an object, the whole value is kept, so a lookup on the projection
+ * always finds what it would find on the full document.
+ */
+public class JsonProjection {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Step root = new Step();
+
+    private JsonProjection() {}
+
+    /**
+     * Compile the paths a projection has to keep
+     *
+     * @param paths lookup paths, relative to the document root
+     * @return projection
+     */
+    public static JsonProjection of(Collection<String> paths) {
+        JsonProjection projection = new JsonProjection();
+        for (String path : paths) {
+            projection.add(path);
+        }
+        return projection;
+    }
+
+    /**
+     * Parse a document, keeping only what the paths of this projection reach
+     *
+     * @param content JSON content
+     * @return projected document
+     * @throws IOException if the content is not valid JSON
+     */
+    public JsonNode parse(String content) throws IOException {
+        return parse(SourceContent.of(content));
+    }
+
+    /**
+     * Parse a document straight from its bytes, keeping only what the paths of this projection
+     * reach
+     *
+     * @param content JSON content
+     * @return projected document
+     * @throws IOException if the content is not valid JSON
+     */
+    public JsonNode parse(SourceContent content) throws IOException {
+        try (JsonParser parser = content.createParser(OBJECT_MAPPER.getFactory())) {
+            if (parser.nextToken() == null) {
+                // Empty content, let the mapper decide what that means
+                return content.readTree(OBJECT_MAPPER);
+            }
+            return read(parser, root);
+        }
+    }
+
+    private void add(String path) {
+        Step step = root;
+        // Same steps as the template variable lookup
+        for (PathAccessor.Step part : PathAccessor.compile(path).getSteps()) {
+            if (part.isMalformed()) {
+                // The lookup fails here without reading anything below
+                return;
+            }
+            step = step.field(part.getField());
+            if (part.hasIndex()) {
+                if (part.getIndex() == null) {
+                    // The lookup stops at the array, keep all of it
+                    step.keepAll = true;
+                    return;
+                }
+                step = step.index(part.getIndex());
+            }
+        }
+        step.keepAll = true;
+    }
+
+    private JsonNode read(JsonParser parser, Step step) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (step.keepAll
+                || token.isScalarValue()
+                || (token == JsonToken.START_OBJECT && step.indexes != null)
+                || (token == JsonToken.START_ARRAY && step.fields != null)) {
+            return OBJECT_MAPPER.readTree(parser);
+        }
+        if (token == JsonToken.START_OBJECT) {
+            ObjectNode node = JsonNodeFactory.instance.objectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                parser.nextToken();
+                Step child = step.fields == null ? null : step.fields.get(name);
+                if (child == null) {
+                    parser.skipChildren();
+                } else {
+                    node.set(name, read(parser, child));
+                }
+            }
+            return node;
+        }
+        ArrayNode node = JsonNodeFactory.instance.arrayNode();
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            Step child = step.indexes == null ? null : step.indexes.get(index);
+            if (child != null) {
+                node.add(read(parser, child));
+            } else {
+                parser.skipChildren();
+                if (index < step.maxIndex) {
+                    node.addNull();
+                }
+            }
+            index++;
+        }
+        return node;
+    }
+
+    /** A node of the path trie */
+    private static class Step {
+        private Map<String, Step> fields;
+        private Map<Integer, Step> indexes;
+        private int maxIndex = -1;
+        // The lookup can end here, the whole value is needed
+        private boolean keepAll;
+
+        Step field(String name) {
+            if (fields == null) {
+                fields = new HashMap<>();
+            }
+            return fields.computeIfAbsent(name, key -> new Step());
+        }
+
+        Step index(int index) {
+            if (indexes == null) {
+                indexes = new HashMap<>();
+            }
+            maxIndex = Math.max(maxIndex, index);
+            return indexes.computeIfAbsent(index, key -> new Step());
+        }
+    }
+}
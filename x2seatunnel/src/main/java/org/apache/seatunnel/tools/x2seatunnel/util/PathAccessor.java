@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.util;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A template variable path such as {@code datax.job.content[0].reader.parameter.column}, compiled
+ * once into field and index steps. Accessors are immutable and cached process-wide, so the same
+ * path string is never split or parsed twice.
+ *
+ * <p>Lookups keep the template semantics: the {@code datax.} prefix is dropped, an index on a value
+ * that is not an array is ignored, and a non-numeric index is only an error on an array.
+ */
+public class PathAccessor {
+
+    private static final String DATAX_PREFIX = "datax.";
+
+    // Distinct paths kept compiled, the templates only use a few dozen
+    private static final int MAX_CACHED_PATHS = 4096;
+
+    private static final Map<String, PathAccessor> CACHE = new ConcurrentHashMap<>();
+
+    private final String path;
+    private final List<Step> steps;
+
+    private PathAccessor(String path, List<Step> steps) {
+        this.path = path;
+        this.steps = steps;
+    }
+
+    /**
+     * Get the compiled accessor of a template variable path
+     *
+     * @param variablePath variable path, with or without the {@code datax.} prefix
+     * @return shared accessor
+     */
+    public static PathAccessor of(String variablePath) {
+        PathAccessor accessor = CACHE.get(variablePath);
+        if (accessor == null) {
+            accessor =
+                    compile(
+                            variablePath.startsWith(DATAX_PREFIX)
+                                    ? variablePath.substring(DATAX_PREFIX.length())
+                                    : variablePath);
+            if (CACHE.size() >= MAX_CACHED_PATHS) {
+                CACHE.clear();
+            }
+            CACHE.put(variablePath, accessor);
+        }
+        return accessor;
+    }
+
+    /**
+     * Compile a lookup path that is already relative to the document root, without caching
+     *
+     * @param path lookup path, e.g. {@code job.content[0].reader.name}
+     * @return accessor
+     */
+    public static PathAccessor compile(String path) {
+        List<Step> steps = new ArrayList<>();
+        for (String part : path.split("\\.")) {
+            if (part.contains("[") && part.contains("]")) {
+                int open = part.indexOf("[");
+                int close = part.indexOf("]");
+                if (close < open) {
+                    // Malformed, the lookup fails once it gets this far
+                    steps.add(Step.malformed(part));
+                } else {
+                    steps.add(new Step(part.substring(0, open), part.substring(open + 1, close)));
+                }
+            } else {
+                steps.add(new Step(part, null));
+            }
+        }
+        return new PathAccessor(path, Collections.unmodifiableList(steps));
+    }
+
+    /** Lookup path without the {@code datax.} prefix, e.g. {@code job.content[0].reader.name} */
+    public String getPath() {
+        return path;
+    }
+
+    /** Field and index steps */
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Look the path up in a JSON tree
+     *
+     * @param root JSON root node
+     * @return lookup outcome
+     */
+    public Lookup lookup(JsonNode root) {
+        JsonNode currentNode = root;
+        for (Step step : steps) {
+            if (currentNode == null) {
+                return new Lookup(Status.NOT_FOUND, null, null);
+            }
+            if (step.isMalformed()) {
+                return new Lookup(Status.ERROR, null, "Malformed path segment: " + step.field);
+            }
+            currentNode = currentNode.get(step.field);
+            if (step.indexText != null && currentNode != null && currentNode.isArray()) {
+                if (step.index == null) {
+                    return new Lookup(Status.INVALID_INDEX, null, step.indexText);
+                }
+                currentNode = currentNode.get(step.index);
+            }
+        }
+        if (currentNode == null || currentNode.isNull()) {
+            return new Lookup(Status.EMPTY, null, null);
+        }
+        return new Lookup(Status.FOUND, currentNode, null);
+    }
+
+    /**
+     * Look the path up in the flattened index of a JSON tree, a single hash probe when the path
+     * exists. Misses walk the tree so the failure status stays exact.
+     *
+     * @param index path index of the JSON tree
+     * @return lookup outcome
+     */
+    public Lookup lookup(FieldPathIndex index) {
+        JsonNode node = index.get(path);
+        if (node != null && !node.isNull()) {
+            return new Lookup(Status.FOUND, node, null);
+        }
+        return lookup(index.getRoot());
+    }
+
+    /** Outcome of a lookup */
+    public enum Status {
+        FOUND,
+        // An intermediate step is missing
+        NOT_FOUND,
+        // The last step is missing or null
+        EMPTY,
+        // A non-numeric index on an array
+        INVALID_INDEX,
+        // A path segment is malformed
+        ERROR
+    }
+
+    /** Result of a lookup, the node is only set when it was found */
+    public static class Lookup {
+        private final Status status;
+        private final JsonNode node;
+        private final String detail;
+
+        Lookup(Status status, JsonNode node, String detail) {
+            this.status = status;
+            this.node = node;
+            this.detail = detail;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public JsonNode getNode() {
+            return node;
+        }
+
+        /** The invalid index text or the malformed segment message */
+        public String getDetail() {
+            return detail;
+        }
+    }
+
+    /** A field step, optionally followed by an array index */
+    public static class Step {
+        private final String field;
+        // Raw index text, null when the step has no index
+        private final String indexText;
+        // Parsed index, null when the step has no index or it is not a number
+        private final Integer index;
+        private final boolean malformed;
+
+        Step(String field, String indexText) {
+            this(field, indexText, false);
+        }
+
+        private Step(String field, String indexText, boolean malformed) {
+            this.field = field;
+            this.indexText = indexText;
+            this.index = parseIndex(indexText);
+            this.malformed = malformed;
+        }
+
+        static Step malformed(String part) {
+            return new Step(part, null, true);
+        }
+
+        private static Integer parseIndex(String indexText) {
+            if (indexText == null) {
+                return null;
+            }
+            try {
+                return Integer.parseInt(indexText);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public boolean hasIndex() {
+            return indexText != null;
+        }
+
+        /** Parsed index, null if the step has no index or a non-numeric one */
+        public Integer getIndex() {
+            return index;
+        }
+
+        /** Whether the segment has its closing bracket before the opening one */
+        public boolean isMalformed() {
+            return malformed;
+        }
+    }
+}
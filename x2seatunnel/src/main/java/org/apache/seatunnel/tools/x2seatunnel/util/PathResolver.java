@@ -21,7 +21,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 /** X2SeaTunnel Intelligent Path Resolver */
@@ -31,37 +35,39 @@ public class PathResolver {
 
     private static final String X2SEATUNNEL_HOME_PROPERTY = "X2SEATUNNEL_HOME";
     private static final String CONFIG_TEMPLATES_DIR = "templates";
+    private static final String DEV_TEMPLATES_DIR = "config/x2seatunnel/templates";
     private static final String RESOURCE_TEMPLATES_PREFIX = "/templates";
 
-    private static String cachedHomePath = null;
+    /** Home path detected once, on first use, by the class loader */
+    private static final class HomePathHolder {
+        private static final String HOME_PATH = detectHomePath();
+    }
 
     public static String getHomePath() {
-        if (cachedHomePath != null) {
-            return cachedHomePath;
-        }
+        return HomePathHolder.HOME_PATH;
+    }
 
+    private static String detectHomePath() {
         // 1. Priority: use system property (set by script)
         String homePath = System.getProperty(X2SEATUNNEL_HOME_PROPERTY);
         if (homePath != null && !homePath.trim().isEmpty()) {
-            cachedHomePath = new File(homePath).getAbsolutePath();
-            logger.info("Using system property X2SEATUNNEL_HOME: {}", cachedHomePath);
-            return cachedHomePath;
+            homePath = new File(homePath).getAbsolutePath();
+            logger.info("Using system property X2SEATUNNEL_HOME: {}", homePath);
+            return homePath;
         }
 
         // 2. Automatically detect the JAR location to infer the home directory
         homePath = autoDetectHomePath();
         if (homePath != null) {
-            cachedHomePath = homePath;
-            logger.info("Auto-detected X2SEATUNNEL_HOME: {}", cachedHomePath);
-            return cachedHomePath;
+            logger.info("Auto-detected X2SEATUNNEL_HOME: {}", homePath);
+            return homePath;
         }
 
         // 3. Fallback to the current working directory
-        cachedHomePath = System.getProperty("user.dir");
+        homePath = System.getProperty("user.dir");
         logger.warn(
-                "Unable to detect X2SEATUNNEL_HOME, using current working directory: {}",
-                cachedHomePath);
-        return cachedHomePath;
+                "Unable to detect X2SEATUNNEL_HOME, using current working directory: {}", homePath);
+        return homePath;
     }
 
     /** Automatically detect the home directory path (based on JAR location) */
@@ -150,8 +156,7 @@ public class PathResolver {
         }
 
         // 4. Try the development environment path (seatunnel/config/x2seatunnel/templates)
-        String devTemplatePath =
-                Paths.get(homePath, "config/x2seatunnel/templates", templatePath).toString();
+        String devTemplatePath = Paths.get(homePath, DEV_TEMPLATES_DIR, templatePath).toString();
         File devTemplateFile = new File(devTemplatePath);
         if (devTemplateFile.exists()) {
             logger.info(
@@ -185,6 +190,28 @@ public class PathResolver {
         return RESOURCE_TEMPLATES_PREFIX + templatePath;
     }
 
+    /**
+     * Check whether a file lies inside the template directories of the home directory, with links
+     * resolved
+     *
+     * @param path file path
+     * @return true if the file exists inside a template directory
+     */
+    public static boolean isInTemplateDirectory(String path) {
+        try {
+            Path file = Paths.get(path).toRealPath();
+            for (String templatesDir : new String[] {CONFIG_TEMPLATES_DIR, DEV_TEMPLATES_DIR}) {
+                Path directory = Paths.get(getHomePath(), templatesDir);
+                if (Files.isDirectory(directory) && file.startsWith(directory.toRealPath())) {
+                    return true;
+                }
+            }
+        } catch (IOException | InvalidPathException e) {
+            logger.debug("Unable to resolve template file {}: {}", path, e.getMessage());
+        }
+        return false;
+    }
+
     public static String getConfigTemplatesDir() {
         return Paths.get(getHomePath(), CONFIG_TEMPLATES_DIR).toString();
     }
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.util;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonFactory;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * DataX job content as it was read: UTF-8 bytes from disk, a memory-mapped file, or a string that
+ * was handed over already decoded. Bytes go straight into the JSON parser, the string form is only
+ * decoded when a caller asks for it.
+ *
+ * <p>Content read into a pooled buffer by {@link FileUtils#readSource(String)} is only valid on the
+ * reading thread until that thread reads the next file.
+ */
+public class SourceContent {
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+    private final ByteBuffer mapped;
+    private String text;
+
+    private SourceContent(byte[] bytes, int offset, int length, ByteBuffer mapped, String text) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.mapped = mapped;
+        this.text = text;
+    }
+
+    /**
+     * Wrap UTF-8 bytes, without copying them
+     *
+     * @param bytes content bytes
+     * @return source content
+     */
+    public static SourceContent of(byte[] bytes) {
+        return of(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Wrap a range of UTF-8 bytes, without copying them
+     *
+     * @param bytes buffer
+     * @param offset start of the content
+     * @param length content length in bytes
+     * @return source content
+     */
+    public static SourceContent of(byte[] bytes, int offset, int length) {
+        return new SourceContent(bytes, offset, length, null, null);
+    }
+
+    /**
+     * Wrap a mapped or direct buffer holding UTF-8 bytes, from its position to its limit
+     *
+     * @param buffer content buffer
+     * @return source content
+     */
+    public static SourceContent of(ByteBuffer buffer) {
+        return new SourceContent(null, 0, buffer.remaining(), buffer.slice(), null);
+    }
+
+    /**
+     * Wrap content that is already a string
+     *
+     * @param text content
+     * @return source content
+     */
+    public static SourceContent of(String text) {
+        return new SourceContent(null, 0, -1, null, text);
+    }
+
+    /** Content length in bytes, or in chars for string content */
+    public int length() {
+        return length >= 0 ? length : text.length();
+    }
+
+    /**
+     * Parse the content into a tree, from the bytes when there are any
+     *
+     * @param mapper object mapper
+     * @return JSON root node
+     * @throws IOException if the content is not valid JSON
+     */
+    public JsonNode readTree(ObjectMapper mapper) throws IOException {
+        if (bytes != null) {
+            return mapper.readTree(bytes, offset, length);
+        }
+        if (mapped != null) {
+            try (InputStream in = openStream()) {
+                return mapper.readTree(in);
+            }
+        }
+        return mapper.readTree(text);
+    }
+
+    /**
+     * Create a streaming parser over the content, from the bytes when there are any
+     *
+     * @param factory JSON factory
+     * @return parser, closed by the caller
+     * @throws IOException if the parser cannot be created
+     */
+    public JsonParser createParser(JsonFactory factory) throws IOException {
+        if (bytes != null) {
+            return factory.createParser(bytes, offset, length);
+        }
+        if (mapped != null) {
+            return factory.createParser(openStream());
+        }
+        return factory.createParser(text);
+    }
+
+    /** Content decoded as a string, decoded once on first use */
+    public String asString() {
+        if (text == null) {
+            if (bytes != null) {
+                text = new String(bytes, offset, length, StandardCharsets.UTF_8);
+            } else {
+                text = StandardCharsets.UTF_8.decode(mapped.duplicate()).toString();
+            }
+        }
+        return text;
+    }
+
+    /**
+     * SHA-256 of the UTF-8 content, equal to {@link HashUtils#sha256(String)} of the decoded string
+     * for valid UTF-8
+     *
+     * @return lowercase hex encoded hash
+     */
+    public String sha256() {
+        if (bytes == null && mapped == null) {
+            return HashUtils.sha256(text);
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (bytes != null) {
+                digest.update(bytes, offset, length);
+            } else {
+                digest.update(mapped.duplicate());
+            }
+            return HashUtils.toHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    private InputStream openStream() {
+        ByteBuffer buffer = mapped.duplicate();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] target, int off, int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                if (!buffer.hasRemaining()) {
+                    return -1;
+                }
+                int count = Math.min(len, buffer.remaining());
+                buffer.get(target, off, count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return buffer.remaining();
+            }
+        };
+    }
+}
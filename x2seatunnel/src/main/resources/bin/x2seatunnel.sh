@@ -95,6 +95,16 @@ check_java() {
 
 # Main function
 main() {
+    # NDJSON mode owns stdout: messages of this script and console logs go to stderr
+    STDOUT_FD=1
+    for arg in "$@"; do
+        if [ "$arg" = "--ndjson" ]; then
+            exec 3>&1 1>&2
+            STDOUT_FD=3
+            CONSOLE_LOG_OPTS="-Dx2seatunnel.console.target=SYSTEM_ERR"
+        fi
+    done
+
     echo "Starting X2SeaTunnel configuration conversion tool..."
 
     # Check Java environment
@@ -106,7 +116,7 @@ main() {
     echo "Java command: $JAVA_CMD"
 
     # Set JVM parameters
-    JVM_OPTS="-Xms512m -Xmx1024m"
+    JVM_OPTS="-Xms512m -Xmx1024m $CONSOLE_LOG_OPTS"
 
     # Set log configuration file path
     LOG4J2_CONFIG="$X2SEATUNNEL_CONFIG_DIR/log4j2.xml"
@@ -129,7 +139,7 @@ main() {
         -jar \"$CLI_JAR\" $@"
 
     echo
-    eval $EXEC_CMD
+    eval $EXEC_CMD 1>&$STDOUT_FD
 }
 
 # Run main function
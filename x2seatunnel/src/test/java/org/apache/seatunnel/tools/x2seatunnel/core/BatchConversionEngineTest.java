@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.core;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.SerializationFeature;
+
+import org.apache.seatunnel.tools.x2seatunnel.util.BatchConversionReport;
+import org.apache.seatunnel.tools.x2seatunnel.util.DirectoryProcessor;
+import org.apache.seatunnel.tools.x2seatunnel.util.FilePattern;
+import org.apache.seatunnel.tools.x2seatunnel.util.FileUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/** BatchConversionEngine unit tests */
+public class BatchConversionEngineTest {
+
+    private static final String[] EXAMPLES = {
+        "datax-mysql2hdfs.json",
+        "datax-hdfs2mysql.json",
+        "datax-mysql2mysql.json",
+        "datax-postgresql2hdfs.json",
+        "datax-oracle2hdfs-full.json"
+    };
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testParallelConversionKeepsInputOrder() {
+        List<BatchConversionEngine.ConversionTask> tasks = new ArrayList<>();
+        for (String example : EXAMPLES) {
+            String source = "src/main/resources/examples/source/" + example;
+            String name = FileUtils.getFileNameWithoutExtension(example);
+            tasks.add(
+                    new BatchConversionEngine.ConversionTask(
+                            source,
+                            tempDir.resolve(name + ".conf").toString(),
+                            tempDir.resolve(name + ".md").toString()));
+        }
+        String invalid = tempDir.resolve("invalid.json").toString();
+        FileUtils.writeFile(invalid, "{\"job\": {}}");
+        tasks.add(2, new BatchConversionEngine.ConversionTask(invalid, invalid + ".conf", null));
+
+        BatchConversionReport report = new BatchConversionReport();
+        new BatchConversionEngine(4).convert(tasks, null, report);
+
+        Assertions.assertEquals(EXAMPLES.length, report.getSuccessRecords().size());
+        Assertions.assertEquals(1, report.getFailures().size());
+        Assertions.assertTrue(report.getFailures().containsKey(invalid));
+        for (int i = 0; i < EXAMPLES.length; i++) {
+            BatchConversionReport.ConversionRecord record = report.getSuccessRecords().get(i);
+            Assertions.assertTrue(record.getSourceFile().endsWith(EXAMPLES[i]));
+            Assertions.assertTrue(FileUtils.exists(record.getTargetFile()));
+            Assertions.assertTrue(FileUtils.exists(record.getReportFile()));
+        }
+    }
+
+    @Test
+    public void testStreamedDirectoryScan() throws Exception {
+        Path sourceDir = tempDir.resolve("source");
+        Path outputDir = tempDir.resolve("output");
+        for (String example : EXAMPLES) {
+            Path target = sourceDir.resolve(example.contains("mysql2") ? "mysql" : "other");
+            Files.createDirectories(target);
+            Files.copy(
+                    Paths.get("src/main/resources/examples/source", example),
+                    target.resolve(example));
+        }
+        Files.write(sourceDir.resolve("notes.txt"), "not a job".getBytes(StandardCharsets.UTF_8));
+
+        DirectoryProcessor dp = new DirectoryProcessor(sourceDir.toString(), outputDir.toString());
+        BatchConversionReport report = new BatchConversionReport();
+        int converted;
+        try (Stream<String> sources = dp.streamSourceFiles()) {
+            converted =
+                    new BatchConversionEngine(2)
+                            .convert(
+                                    sources.filter(FilePattern.compile("*.json"))
+                                            .map(
+                                                    src ->
+                                                            new BatchConversionEngine
+                                                                    .ConversionTask(
+                                                                    src,
+                                                                    dp.resolveTargetPath(src),
+                                                                    null)),
+                                    null,
+                                    report);
+        }
+
+        Assertions.assertEquals(EXAMPLES.length, converted);
+        Assertions.assertEquals(EXAMPLES.length, report.getSuccessRecords().size());
+        Assertions.assertTrue(report.getFailures().isEmpty());
+        for (String example : EXAMPLES) {
+            String name = FileUtils.getFileNameWithoutExtension(example);
+            Assertions.assertTrue(Files.exists(outputDir.resolve(name + ".conf")));
+        }
+    }
+
+    @Test
+    public void testStreamedProgressShowsTotal() throws Exception {
+        Path sourceDir = Files.createDirectories(tempDir.resolve("source"));
+        int files = 20;
+        for (int i = 0; i < files; i++) {
+            Files.copy(
+                    Paths.get("src/main/resources/examples/source", EXAMPLES[i % EXAMPLES.length]),
+                    sourceDir.resolve("job-" + i + ".json"));
+        }
+        DirectoryProcessor dp =
+                new DirectoryProcessor(sourceDir.toString(), tempDir.resolve("output").toString());
+        Predicate<String> filter = FilePattern.compile("*.json");
+
+        ByteArrayOutputStream progress = new ByteArrayOutputStream();
+        PrintStream stdout = System.out;
+        System.setOut(new PrintStream(progress, true, "UTF-8"));
+        try (Stream<String> sources = dp.streamSourceFiles()) {
+            // One worker holds only a few files in flight, so the scan finishes last
+            new BatchConversionEngine(1)
+                    .convert(
+                            sources.filter(filter)
+                                    .map(
+                                            src ->
+                                                    new BatchConversionEngine.ConversionTask(
+                                                            src, dp.resolveTargetPath(src), null)),
+                            () -> dp.countSourceFiles(filter),
+                            null,
+                            new BatchConversionReport());
+        } finally {
+            System.setOut(stdout);
+        }
+
+        String[] lines = new String(progress.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        int progressLines = 0;
+        for (String line : lines) {
+            if (line.contains("Conversion completed")) {
+                progressLines++;
+                Assertions.assertTrue(line.matches("\\[\\d+/" + files + "].*"), line);
+            }
+        }
+        Assertions.assertEquals(files, progressLines);
+    }
+
+    @Test
+    public void testDeduplicateReordersAndWhitespace() throws Exception {
+        String original = "src/main/resources/examples/source/datax-mysql2hdfs.json";
+        // Same job with sorted keys and different indentation
+        ObjectMapper mapper =
+                new ObjectMapper()
+                        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                        .enable(SerializationFeature.INDENT_OUTPUT);
+        Map<?, ?> job = mapper.readValue(FileUtils.readFile(original), Map.class);
+        String copy = tempDir.resolve("copy.json").toString();
+        FileUtils.writeFile(copy, mapper.writeValueAsString(job));
+        String compact = tempDir.resolve("compact.json").toString();
+        FileUtils.writeFile(compact, new ObjectMapper().writeValueAsString(job));
+        String other = "src/main/resources/examples/source/datax-hdfs2mysql.json";
+
+        List<BatchConversionEngine.ConversionTask> tasks = new ArrayList<>();
+        String[] sources = {original, copy, other, compact};
+        for (int i = 0; i < sources.length; i++) {
+            tasks.add(
+                    new BatchConversionEngine.ConversionTask(
+                            sources[i],
+                            tempDir.resolve(i + ".conf").toString(),
+                            tempDir.resolve(i + ".md").toString()));
+        }
+
+        BatchConversionReport report = new BatchConversionReport();
+        BatchConversionEngine engine = new BatchConversionEngine(2);
+        engine.setDeduplicate(true);
+        engine.convert(tasks, null, report);
+
+        Assertions.assertEquals(4, report.getSuccessRecords().size());
+        // Workers race, whichever copy is converted first serves the other two
+        Map<String, String> deduplicated = report.getDeduplicated();
+        Assertions.assertEquals(2, deduplicated.size());
+        Assertions.assertFalse(deduplicated.containsKey(other));
+        Assertions.assertEquals(1, new HashSet<>(deduplicated.values()).size());
+        String served = deduplicated.values().iterator().next();
+        Assertions.assertFalse(deduplicated.containsKey(served));
+        Assertions.assertNotEquals(other, served);
+        String target = FileUtils.readFile(tempDir.resolve("0.conf").toString());
+        Assertions.assertEquals(target, FileUtils.readFile(tempDir.resolve("1.conf").toString()));
+        Assertions.assertEquals(target, FileUtils.readFile(tempDir.resolve("3.conf").toString()));
+        Assertions.assertTrue(
+                FileUtils.readFile(tempDir.resolve("1.md").toString()).contains("copy.json"));
+        Assertions.assertTrue(report.generateReport().contains("Deduplicated Files (2)"));
+    }
+
+    @Test
+    public void testInvalidParallelism() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BatchConversionEngine(0));
+    }
+}
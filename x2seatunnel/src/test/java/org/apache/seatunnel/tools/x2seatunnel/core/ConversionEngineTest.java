@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.core;
+
+import org.apache.seatunnel.tools.x2seatunnel.model.ConversionContext;
+import org.apache.seatunnel.tools.x2seatunnel.model.MappingResult;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/** ConversionEngine unit tests */
+public class ConversionEngineTest {
+
+    private static final String CUSTOM_TEMPLATE = "datax/custom/mysql-to-hive.conf";
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testCustomTemplateReportComesFromTheConversion() throws Exception {
+        String source = readExample("datax-mysql2hdfs2hive.json");
+        ConversionEngine engine = new ConversionEngine();
+
+        ConversionEngine.ConversionOutput withReport =
+                engine.convertContent(
+                        "job.json",
+                        source,
+                        "job.conf",
+                        "datax",
+                        "seatunnel",
+                        CUSTOM_TEMPLATE,
+                        "report.md");
+        ConversionEngine.ConversionOutput withoutReport =
+                engine.convertContent(
+                        "job.json",
+                        source,
+                        "job.conf",
+                        "datax",
+                        "seatunnel",
+                        CUSTOM_TEMPLATE,
+                        null);
+
+        Assertions.assertEquals(withoutReport.getTargetContent(), withReport.getTargetContent());
+        Assertions.assertNull(withoutReport.getMappingResult());
+        Assertions.assertNull(withoutReport.getReportContent());
+
+        MappingResult mapping = withReport.getMappingResult();
+        Assertions.assertTrue(mapping.isSuccess());
+        Assertions.assertFalse(mapping.getSuccessMappings().isEmpty());
+        Assertions.assertFalse(mapping.getDefaultValues().isEmpty());
+        Assertions.assertNotNull(withReport.getReportContent());
+        Assertions.assertEquals(CUSTOM_TEMPLATE, withReport.getSourceTemplate());
+    }
+
+    @Test
+    public void testUntrackedConversionRendersTheSameConfig() throws Exception {
+        String source = readExample("datax-mysql2hdfs.json");
+        ConversionEngine engine = new ConversionEngine();
+
+        ConversionEngine.ConversionOutput untracked =
+                engine.convertContent(
+                        "job.json", source, "job.conf", "datax", "seatunnel", null, null);
+        ConversionEngine.ConversionOutput tracked =
+                engine.convertContent(
+                        "job.json",
+                        ConversionContext.parse(source),
+                        "job.conf",
+                        "datax",
+                        "seatunnel",
+                        null,
+                        null,
+                        true);
+
+        Assertions.assertEquals(
+                withoutTimestamp(tracked.getTargetContent()),
+                withoutTimestamp(untracked.getTargetContent()));
+        Assertions.assertNull(untracked.getMappingResult());
+        Assertions.assertNull(tracked.getReportContent());
+        Assertions.assertEquals("mysqlreader", tracked.getMappingResult().getReaderType());
+        Assertions.assertFalse(tracked.getMappingResult().getSuccessMappings().isEmpty());
+    }
+
+    @Test
+    public void testCustomTemplateOnLaterContentEntryWithoutReport() throws Exception {
+        Path template = tempDir.resolve("second-entry.conf");
+        Files.write(
+                template,
+                ("env {\n"
+                                + "  user = \"{{ datax.job.content[1].reader.parameter.username }}\"\n"
+                                + "}")
+                        .getBytes(StandardCharsets.UTF_8));
+        String source =
+                "{\"job\": {\"content\": ["
+                        + "{\"reader\": {\"name\": \"mysqlreader\", \"parameter\": {\"username\": \"a\"}},"
+                        + " \"writer\": {\"name\": \"hdfswriter\"}},"
+                        + "{\"reader\": {\"name\": \"mysqlreader\", \"parameter\": {\"username\": \"b\"}},"
+                        + " \"writer\": {\"name\": \"hdfswriter\"}}]}}";
+        ConversionEngine engine = new ConversionEngine();
+
+        // Without a report only the paths the template looks up are parsed
+        ConversionEngine.ConversionOutput withoutReport =
+                engine.convertContent(
+                        "job.json",
+                        source,
+                        "job.conf",
+                        "datax",
+                        "seatunnel",
+                        template.toString(),
+                        null);
+        ConversionEngine.ConversionOutput withReport =
+                engine.convertContent(
+                        "job.json",
+                        source,
+                        "job.conf",
+                        "datax",
+                        "seatunnel",
+                        template.toString(),
+                        "report.md");
+
+        Assertions.assertTrue(withoutReport.getTargetContent().contains("user = \"b\""));
+        Assertions.assertEquals(withReport.getTargetContent(), withoutReport.getTargetContent());
+    }
+
+    private static String readExample(String name) throws Exception {
+        return new String(
+                Files.readAllBytes(Paths.get("src/main/resources/examples/source", name)),
+                StandardCharsets.UTF_8);
+    }
+
+    private static String withoutTimestamp(String config) {
+        return config.replaceAll("# Generated at: .*\n", "");
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.core;
+
+import org.apache.seatunnel.tools.x2seatunnel.util.BatchConversionReport;
+import org.apache.seatunnel.tools.x2seatunnel.util.FileUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/** ConversionJournal unit tests */
+public class ConversionJournalTest {
+
+    private static final String[] EXAMPLES = {
+        "datax-mysql2hdfs.json", "datax-hdfs2mysql.json", "datax-mysql2mysql.json"
+    };
+
+    private static final String MARKER = "# converted before the crash";
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testResumeSkipsCompletedFiles() throws Exception {
+        String outputDir = tempDir.toString();
+        List<BatchConversionEngine.ConversionTask> tasks = new ArrayList<>();
+        for (String example : EXAMPLES) {
+            String name = FileUtils.getFileNameWithoutExtension(example);
+            tasks.add(
+                    new BatchConversionEngine.ConversionTask(
+                            "src/main/resources/examples/source/" + example,
+                            tempDir.resolve(name + ".conf").toString(),
+                            null));
+        }
+
+        // Simulate a run killed after the first file, while the second line was being written
+        try (ConversionJournal journal = ConversionJournal.open(outputDir, false)) {
+            journal.append(tasks.get(0), ConversionJournal.Status.SUCCESS, null);
+            journal.append(tasks.get(1), ConversionJournal.Status.FAILURE, "boom");
+        }
+        Path journalPath = tempDir.resolve(ConversionJournal.JOURNAL_FILE_NAME);
+        Files.write(
+                journalPath,
+                "{\"status\":\"SUCC".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        FileUtils.writeFile(tasks.get(0).getTargetFile(), MARKER);
+
+        BatchConversionReport report = new BatchConversionReport();
+        try (ConversionJournal journal = ConversionJournal.open(outputDir, true)) {
+            BatchConversionEngine engine = new BatchConversionEngine(2);
+            engine.setJournal(journal);
+            engine.convert(tasks, null, report);
+        }
+
+        // The summary covers every file, but only the incomplete ones were converted again
+        Assertions.assertEquals(EXAMPLES.length, report.getSuccessRecords().size());
+        Assertions.assertEquals(MARKER, FileUtils.readFile(tasks.get(0).getTargetFile()));
+        Assertions.assertTrue(FileUtils.readFile(tasks.get(1).getTargetFile()).contains("source"));
+        Assertions.assertTrue(FileUtils.exists(tasks.get(2).getTargetFile()));
+
+        // A later resume finds every file completed
+        try (ConversionJournal journal = ConversionJournal.open(outputDir, true)) {
+            for (BatchConversionEngine.ConversionTask task : tasks) {
+                Assertions.assertTrue(journal.isCompleted(task));
+            }
+        }
+    }
+
+    @Test
+    public void testNewRunDiscardsJournal() {
+        BatchConversionEngine.ConversionTask task =
+                new BatchConversionEngine.ConversionTask(
+                        "job.json", tempDir.resolve("job.conf").toString(), null);
+        FileUtils.writeFile(task.getTargetFile(), MARKER);
+        try (ConversionJournal journal = ConversionJournal.open(tempDir.toString(), false)) {
+            journal.append(task, ConversionJournal.Status.SUCCESS, null);
+        }
+        try (ConversionJournal journal = ConversionJournal.open(tempDir.toString(), false)) {
+            Assertions.assertFalse(journal.isCompleted(task));
+        }
+        try (ConversionJournal journal = ConversionJournal.open(tempDir.toString(), true)) {
+            Assertions.assertFalse(journal.isCompleted(task));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.core;
+
+import org.apache.seatunnel.tools.x2seatunnel.util.BatchConversionReport;
+import org.apache.seatunnel.tools.x2seatunnel.util.FileUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/** ConversionManifest unit tests */
+public class ConversionManifestTest {
+
+    private static final String[] EXAMPLES = {
+        "datax-mysql2hdfs.json", "datax-hdfs2mysql.json", "datax-mysql2mysql.json"
+    };
+
+    @TempDir Path tempDir;
+
+    private final List<BatchConversionEngine.ConversionTask> tasks = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path sourceDir = Files.createDirectories(tempDir.resolve("source"));
+        for (String example : EXAMPLES) {
+            Path source = sourceDir.resolve(example);
+            Files.copy(Paths.get("src/main/resources/examples/source", example), source);
+            String name = FileUtils.getFileNameWithoutExtension(example);
+            tasks.add(
+                    new BatchConversionEngine.ConversionTask(
+                            source.toString(),
+                            tempDir.resolve("output").resolve(name + ".conf").toString(),
+                            tempDir.resolve("output").resolve(name + ".md").toString()));
+        }
+    }
+
+    @Test
+    public void testUnchangedJobsAreSkipped() {
+        BatchConversionReport first = runIncremental();
+        Assertions.assertEquals(EXAMPLES.length, first.getSuccessRecords().size());
+        Assertions.assertTrue(first.getSkippedRecords().isEmpty());
+        Assertions.assertTrue(
+                Files.exists(
+                        tempDir.resolve("output").resolve(ConversionManifest.MANIFEST_FILE_NAME)));
+
+        BatchConversionReport second = runIncremental();
+        Assertions.assertTrue(second.getSuccessRecords().isEmpty());
+        Assertions.assertEquals(EXAMPLES.length, second.getSkippedRecords().size());
+    }
+
+    @Test
+    public void testChangedSourceAndMissingOutputAreConverted() throws Exception {
+        runIncremental();
+
+        String changedSource = tasks.get(0).getSourceFile();
+        String content = FileUtils.readFile(changedSource);
+        FileUtils.writeFile(changedSource, content.replace("\"job\"", "\n\"job\""));
+        Files.delete(Paths.get(tasks.get(2).getTargetFile()));
+
+        BatchConversionReport report = runIncremental();
+        Assertions.assertEquals(2, report.getSuccessRecords().size());
+        Assertions.assertEquals(changedSource, report.getSuccessRecords().get(0).getSourceFile());
+        Assertions.assertEquals(
+                tasks.get(2).getSourceFile(), report.getSuccessRecords().get(1).getSourceFile());
+        Assertions.assertEquals(1, report.getSkippedRecords().size());
+        Assertions.assertEquals(
+                tasks.get(1).getSourceFile(), report.getSkippedRecords().get(0).getSourceFile());
+    }
+
+    @Test
+    public void testCustomTemplateChangeInvalidatesJobs() {
+        ConversionManifest manifest = ConversionManifest.load(tempDir.toString());
+        String source = FileUtils.readFile(tasks.get(0).getSourceFile());
+        ConversionManifest.JobFingerprint standard = manifest.fingerprint(source, null);
+        ConversionManifest.JobFingerprint custom =
+                manifest.fingerprint(source, "datax/custom/mysql-to-hive.conf");
+
+        Assertions.assertNotNull(standard);
+        Assertions.assertEquals(3, standard.getTemplateHashes().size());
+        Assertions.assertNotEquals(standard, custom);
+        Assertions.assertNull(manifest.fingerprint("not json", null));
+    }
+
+    private BatchConversionReport runIncremental() {
+        ConversionManifest manifest = ConversionManifest.load(tempDir.resolve("output").toString());
+        BatchConversionReport report = new BatchConversionReport();
+        BatchConversionEngine engine = new BatchConversionEngine(2);
+        engine.setManifest(manifest);
+        engine.convert(tasks, null, report);
+        manifest.save();
+        return report;
+    }
+}
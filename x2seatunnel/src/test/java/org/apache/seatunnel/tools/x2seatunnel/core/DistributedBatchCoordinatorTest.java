@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.core;
+
+import org.apache.seatunnel.tools.x2seatunnel.util.BatchConversionReport;
+import org.apache.seatunnel.tools.x2seatunnel.util.FileUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/** DistributedBatchCoordinator unit tests */
+public class DistributedBatchCoordinatorTest {
+
+    private static final List<String> SOURCES =
+            Arrays.asList(
+                    "src/main/resources/examples/source/datax-mysql2hdfs.json",
+                    "src/main/resources/examples/source/datax-hdfs2mysql.json",
+                    "src/main/resources/examples/source/datax-mysql2mysql.json",
+                    "src/main/resources/examples/source/datax-postgresql2hdfs.json",
+                    "src/main/resources/examples/source/datax-oracle2hdfs-full.json");
+
+    @TempDir Path tempDir;
+
+    private final List<BatchConversionReport> summaries = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testWorkersShareChunksAndMergeOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Integer>> workers = new ArrayList<>();
+            for (String workerId : new String[] {"worker-a", "worker-b"}) {
+                workers.add(executor.submit(() -> runWorker(workerId, 60_000)));
+            }
+            int chunks = 0;
+            for (Future<Integer> worker : workers) {
+                chunks += worker.get();
+            }
+            Assertions.assertEquals(3, chunks);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(1, summaries.size());
+        BatchConversionReport summary = summaries.get(0);
+        Assertions.assertEquals(SOURCES.size(), summary.getSuccessRecords().size());
+        List<String> sorted = new ArrayList<>(SOURCES);
+        sorted.sort(null);
+        for (int i = 0; i < sorted.size(); i++) {
+            Assertions.assertEquals(
+                    sorted.get(i), summary.getSuccessRecords().get(i).getSourceFile());
+            Assertions.assertTrue(
+                    FileUtils.exists(summary.getSuccessRecords().get(i).getTargetFile()));
+        }
+    }
+
+    @Test
+    public void testExpiredLeaseIsTakenOver() throws Exception {
+        Path coordinationDir = Files.createDirectories(tempDir.resolve("run"));
+        Path deadLease = coordinationDir.resolve("chunk-0.lease");
+        Files.write(deadLease, "dead-worker".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(
+                deadLease, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+
+        Assertions.assertEquals(3, runWorker("survivor", 1_000));
+        Assertions.assertEquals(
+                "survivor",
+                new String(
+                        Files.readAllBytes(coordinationDir.resolve("chunk-0.done")),
+                        StandardCharsets.UTF_8));
+        Assertions.assertEquals(1, summaries.size());
+        Assertions.assertEquals(SOURCES.size(), summaries.get(0).getSuccessRecords().size());
+    }
+
+    @Test
+    public void testChunkOfLostLeaseIsNotMarkedDone() throws Exception {
+        Path lease = tempDir.resolve("run").resolve("chunk-0.lease");
+        String firstSource = SOURCES.stream().sorted().findFirst().get();
+        AtomicInteger firstSourceTasks = new AtomicInteger();
+        Function<String, BatchConversionEngine.ConversionTask> taskFactory =
+                src -> {
+                    if (src.equals(firstSource) && firstSourceTasks.incrementAndGet() == 1) {
+                        // Another worker takes the lease over while the chunk converts
+                        try {
+                            Files.write(lease, "thief".getBytes(StandardCharsets.UTF_8));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                    return task(src);
+                };
+
+        Assertions.assertEquals(3, runWorker("victim", 1_000, taskFactory));
+        // Converted again once the stolen lease expired, not marked done after the theft
+        Assertions.assertEquals(2, firstSourceTasks.get());
+        Assertions.assertEquals(1, summaries.size());
+        Assertions.assertEquals(SOURCES.size(), summaries.get(0).getSuccessRecords().size());
+    }
+
+    private int runWorker(String workerId, long leaseTimeoutMillis) {
+        return runWorker(workerId, leaseTimeoutMillis, this::task);
+    }
+
+    private BatchConversionEngine.ConversionTask task(String src) {
+        return new BatchConversionEngine.ConversionTask(
+                src,
+                tempDir.resolve(FileUtils.getFileNameWithoutExtension(src) + ".conf").toString(),
+                null);
+    }
+
+    private int runWorker(
+            String workerId,
+            long leaseTimeoutMillis,
+            Function<String, BatchConversionEngine.ConversionTask> taskFactory) {
+        DistributedBatchCoordinator coordinator =
+                new DistributedBatchCoordinator(
+                        tempDir.resolve("run").toString(), workerId, 2, leaseTimeoutMillis);
+        return coordinator.run(
+                () -> SOURCES,
+                taskFactory,
+                new BatchConversionEngine(1),
+                null,
+                new BatchConversionReport(),
+                summaries::add);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.core;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/** NdjsonConversionEngine unit tests */
+public class NdjsonConversionEngineTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testRecordsKeepInputOrder() throws Exception {
+        JsonNode mysql2hdfs = readExample("datax-mysql2hdfs.json");
+        JsonNode hdfs2mysql = readExample("datax-hdfs2mysql.json");
+
+        StringBuilder input = new StringBuilder();
+        // Job given as "source"
+        ObjectNode first = objectMapper.createObjectNode();
+        first.put("id", "first");
+        first.set("source", mysql2hdfs);
+        input.append(first).append('\n');
+        // Broken record in the middle of the stream
+        input.append("{not json\n");
+        input.append('\n');
+        // Job given as the remaining fields of the record
+        ObjectNode second = ((ObjectNode) hdfs2mysql).deepCopy();
+        second.put("id", 2);
+        input.append(second).append('\n');
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int records =
+                new NdjsonConversionEngine(3)
+                        .convert(
+                                new ByteArrayInputStream(
+                                        input.toString().getBytes(StandardCharsets.UTF_8)),
+                                out,
+                                null);
+
+        Assertions.assertEquals(3, records);
+        String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(3, lines.length);
+
+        JsonNode result = objectMapper.readTree(lines[0]);
+        Assertions.assertEquals("first", result.get("id").asText());
+        Assertions.assertEquals("SUCCESS", result.get("status").asText());
+        Assertions.assertTrue(result.get("target").asText().contains("source {"));
+        Assertions.assertEquals("mysqlreader", result.get("mapping").get("readerType").asText());
+
+        JsonNode broken = objectMapper.readTree(lines[1]);
+        Assertions.assertEquals(2, broken.get("id").asInt());
+        Assertions.assertEquals("FAILURE", broken.get("status").asText());
+        Assertions.assertTrue(broken.has("error"));
+
+        JsonNode last = objectMapper.readTree(lines[2]);
+        Assertions.assertEquals(2, last.get("id").asInt());
+        Assertions.assertEquals("SUCCESS", last.get("status").asText());
+        Assertions.assertEquals("hdfsreader", last.get("mapping").get("readerType").asText());
+    }
+
+    private JsonNode readExample(String name) throws Exception {
+        return objectMapper.readTree(
+                Files.readAllBytes(Paths.get("src/main/resources/examples/source", name)));
+    }
+}
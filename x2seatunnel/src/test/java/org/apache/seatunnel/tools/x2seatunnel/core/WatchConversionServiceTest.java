@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.core;
+
+import org.apache.seatunnel.tools.x2seatunnel.util.BatchConversionReport;
+import org.apache.seatunnel.tools.x2seatunnel.util.DirectoryProcessor;
+import org.apache.seatunnel.tools.x2seatunnel.util.FilePattern;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/** WatchConversionService unit tests */
+public class WatchConversionServiceTest {
+
+    private static final String EXAMPLES = "src/main/resources/examples/source";
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testReconvertsCreatedAndModifiedFiles() throws Exception {
+        Path sourceDir = tempDir.resolve("source");
+        Path outputDir = tempDir.resolve("output");
+        Files.createDirectories(sourceDir);
+        Path first = sourceDir.resolve("datax-mysql2hdfs.json");
+        Files.copy(Paths.get(EXAMPLES, "datax-mysql2hdfs.json"), first);
+
+        DirectoryProcessor dp = new DirectoryProcessor(sourceDir.toString(), outputDir.toString());
+        BlockingQueue<BatchConversionReport> rounds = new LinkedBlockingQueue<>();
+        WatchConversionService watcher =
+                new WatchConversionService(
+                        sourceDir.toString(),
+                        outputDir.toString(),
+                        FilePattern.compile("*.json"),
+                        src ->
+                                new BatchConversionEngine.ConversionTask(
+                                        src, dp.resolveTargetPath(src), null),
+                        new BatchConversionEngine(2),
+                        null,
+                        100);
+        Thread thread = new Thread(() -> watcher.run(BatchConversionReport::new, rounds::add));
+        thread.start();
+        try {
+            BatchConversionReport initial = rounds.poll(30, TimeUnit.SECONDS);
+            Assertions.assertNotNull(initial);
+            Assertions.assertEquals(1, initial.getSuccessRecords().size());
+            Assertions.assertTrue(Files.exists(outputDir.resolve("datax-mysql2hdfs.conf")));
+
+            Path second = sourceDir.resolve("datax-hdfs2mysql.json");
+            Files.copy(Paths.get(EXAMPLES, "datax-hdfs2mysql.json"), second);
+            BatchConversionReport created = rounds.poll(30, TimeUnit.SECONDS);
+            Assertions.assertNotNull(created);
+            Assertions.assertEquals(1, created.getSuccessRecords().size());
+            Assertions.assertEquals(
+                    second.toString(), created.getSuccessRecords().get(0).getSourceFile());
+            Assertions.assertTrue(Files.exists(outputDir.resolve("datax-hdfs2mysql.conf")));
+
+            Files.write(
+                    first,
+                    (new String(Files.readAllBytes(first), StandardCharsets.UTF_8) + "\n")
+                            .getBytes(StandardCharsets.UTF_8));
+            BatchConversionReport modified = rounds.poll(30, TimeUnit.SECONDS);
+            Assertions.assertNotNull(modified);
+            Assertions.assertEquals(1, modified.getSuccessRecords().size());
+            Assertions.assertEquals(
+                    first.toString(), modified.getSuccessRecords().get(0).getSourceFile());
+
+            // The summary keeps the file of the earlier round, with the latest outcome of each
+            BatchConversionReport summary = watcher.getSummary();
+            Assertions.assertEquals(2, summary.getSuccessRecords().size());
+            Assertions.assertEquals(
+                    second.toString(), summary.getSuccessRecords().get(0).getSourceFile());
+            Assertions.assertEquals(
+                    first.toString(), summary.getSuccessRecords().get(1).getSourceFile());
+        } finally {
+            watcher.close();
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        Assertions.assertFalse(thread.isAlive());
+    }
+}
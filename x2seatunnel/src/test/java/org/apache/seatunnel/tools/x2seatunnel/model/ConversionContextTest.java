@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.model;
+
+import org.apache.seatunnel.tools.x2seatunnel.template.TemplateVariableResolver;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+/** ConversionContext unit tests */
+public class ConversionContextTest {
+
+    private static final String JOB =
+            "{\"job\": {\"content\": [{"
+                    + "\"reader\": {\"name\": \"mysqlreader\", \"parameter\": {\"column\": [\"id\", \"name\"]}},"
+                    + "\"writer\": {\"name\": \"hdfswriter\", \"parameter\": {\"path\": \"/data\"}}}]}}";
+
+    @Test
+    public void testParsedOnceAndShared() throws IOException {
+        ConversionContext context = ConversionContext.parse(JOB);
+
+        Assertions.assertEquals("mysqlreader", context.getReaderType());
+        Assertions.assertEquals("hdfswriter", context.getWriterType());
+        Map<String, String> fields = context.getFieldValues();
+        Assertions.assertEquals("id", fields.get("job.content[0].reader.parameter.column[0]"));
+        Assertions.assertEquals("/data", fields.get("job.content[0].writer.parameter.path"));
+        Assertions.assertSame(fields, context.getFieldValues());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> fields.put("a", "b"));
+
+        // Resolving from the context gives the same result as resolving from the raw JSON
+        String template = "path = \"{{ datax.job.content[0].writer.parameter.path }}\"";
+        Assertions.assertEquals(
+                new TemplateVariableResolver().resolve(template, JOB),
+                new TemplateVariableResolver().resolve(template, context));
+    }
+
+    @Test
+    public void testMissingReaderAndWriter() throws IOException {
+        ConversionContext context = ConversionContext.parse("{\"job\": {\"content\": []}}");
+        Assertions.assertNull(context.getReaderType());
+        Assertions.assertNull(context.getWriterType());
+        Assertions.assertThrows(IOException.class, () -> ConversionContext.parse("{job"));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.server;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/** ConversionServer unit tests */
+public class ConversionServerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ConversionServer server;
+
+    @BeforeEach
+    public void setUp() {
+        server = new ConversionServer("127.0.0.1", 0, 2);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testConvertAndMetrics() throws Exception {
+        String source =
+                new String(
+                        Files.readAllBytes(
+                                Paths.get(
+                                        "src/main/resources/examples/source/datax-mysql2hdfs.json")),
+                        StandardCharsets.UTF_8);
+        String body = "{\"source\": " + source + ", \"report\": true}";
+
+        Response response = request("POST", "/convert", body);
+        Assertions.assertEquals(200, response.status);
+        JsonNode json = objectMapper.readTree(response.body);
+        Assertions.assertTrue(json.get("target").asText().contains("source {"));
+        Assertions.assertTrue(json.get("target").asText().contains("sink {"));
+        Assertions.assertTrue(json.has("report"));
+
+        Response failure = request("POST", "/convert", "{\"source\": {\"job\": {}}}");
+        Assertions.assertEquals(422, failure.status);
+        Assertions.assertTrue(objectMapper.readTree(failure.body).has("error"));
+
+        Response metrics = request("GET", "/metrics", null);
+        Assertions.assertEquals(200, metrics.status);
+        JsonNode metricsJson = objectMapper.readTree(metrics.body);
+        Assertions.assertEquals(2, metricsJson.get("requests").asLong());
+        Assertions.assertEquals(1, metricsJson.get("failures").asLong());
+        Assertions.assertTrue(metricsJson.get("latencyMillis").get("p99").asDouble() > 0);
+    }
+
+    @Test
+    public void testInvalidRequests() throws Exception {
+        Assertions.assertEquals(400, request("POST", "/convert", "not json").status);
+        Assertions.assertEquals(400, request("POST", "/convert", "{}").status);
+        Assertions.assertEquals(405, request("GET", "/convert", null).status);
+        Assertions.assertEquals(404, request("GET", "/convert/other", null).status);
+        Assertions.assertEquals(200, request("GET", "/health", null).status);
+    }
+
+    @Test
+    public void testTemplateMustBeATemplateName() throws Exception {
+        String source =
+                new String(
+                        Files.readAllBytes(
+                                Paths.get(
+                                        "src/main/resources/examples/source/datax-mysql2hdfs.json")),
+                        StandardCharsets.UTF_8);
+        String[] rejected = {
+            Paths.get("pom.xml").toAbsolutePath().toString(), "../x2seatunnel/pom.xml", "pom.xml"
+        };
+        for (String template : rejected) {
+            String body = "{\"source\": " + source + ", \"template\": \"" + template + "\"}";
+            Response response = request("POST", "/convert", body);
+            Assertions.assertEquals(400, response.status, template);
+            Assertions.assertFalse(response.body.contains("<project"), template);
+        }
+
+        String body =
+                "{\"source\": " + source + ", \"template\": \"datax/custom/mysql-to-hive.conf\"}";
+        Assertions.assertEquals(200, request("POST", "/convert", body).status);
+    }
+
+    private Response request(String method, String path, String body) throws IOException {
+        URL url = new URL("http://127.0.0.1:" + server.getPort() + path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int status = connection.getResponseCode();
+        InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (in != null) {
+            try (InputStream stream = in) {
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = stream.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+        }
+        connection.disconnect();
+        return new Response(status, new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template;
+
+import org.apache.seatunnel.tools.x2seatunnel.model.MappingResult;
+import org.apache.seatunnel.tools.x2seatunnel.model.MappingTracker;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/** CompiledTemplate unit tests */
+public class CompiledTemplateTest {
+
+    private static final String DATAX_JSON =
+            "{\"job\": {\"content\": [{\"reader\": {\"name\": \"mysqlreader\", \"parameter\": {"
+                    + "\"username\": \"root\", \"column\": [\"id\", \"name\"]}}}]}}";
+
+    private static final String TEMPLATE =
+            "source {\n"
+                    + "  Jdbc {\n"
+                    + "    user = \"{{ datax.job.content[0].reader.parameter.username }}\"\n"
+                    + "    fields = \"{{ datax.job.content[0].reader.parameter.column"
+                    + " | join(';') }}\"\n"
+                    + "    fetch_size = 1024\n"
+                    + "  }\n"
+                    + "}";
+
+    @Test
+    public void testLinesKnowTheirTargetContext() {
+        CompiledTemplate template = CompiledTemplate.compile(TEMPLATE);
+        List<CompiledTemplate.Line> lines = template.getLines();
+
+        Assertions.assertEquals(7, lines.size());
+        Assertions.assertFalse(lines.get(0).hasVariables());
+        Assertions.assertEquals("source.Jdbc.user", lines.get(2).getTargetContext());
+        Assertions.assertEquals("source.Jdbc.fields", lines.get(3).getTargetContext());
+        Assertions.assertEquals(
+                "join", lines.get(3).getExpressions().get(0).getFilters()[0].getName());
+        Assertions.assertEquals("source.Jdbc.fetch_size", lines.get(4).getTargetContext());
+        Assertions.assertEquals("1024", lines.get(4).getDefaultValue());
+
+        Assertions.assertEquals(2, template.getMappedFieldCount());
+        Assertions.assertTrue(
+                template.getReferencedPaths().contains("job.content[0].reader.parameter.column"));
+        Assertions.assertSame(CompiledTemplate.of(TEMPLATE), CompiledTemplate.of(TEMPLATE));
+    }
+
+    @Test
+    public void testFilterVariablesEvaluateFirst() {
+        CompiledTemplate.Line line =
+                CompiledTemplate.compile("  a = \"{{ datax.x }}-{{ datax.y | upper }}\"")
+                        .getLines()
+                        .get(0);
+
+        Assertions.assertEquals("datax.y", line.getExpressions().get(0).getPath());
+        Assertions.assertEquals("datax.x", line.getExpressions().get(1).getPath());
+        Assertions.assertTrue(line.isComplexTransform());
+        Assertions.assertEquals("upper", line.getTransformFilters());
+    }
+
+    @Test
+    public void testRenderingMatchesTemplate() {
+        MappingTracker tracker = new MappingTracker();
+        String result = new TemplateVariableResolver(null, tracker).resolve(TEMPLATE, DATAX_JSON);
+
+        Assertions.assertTrue(result.contains("user = \"root\""));
+        Assertions.assertTrue(result.contains("fields = \"id;name\""));
+        Assertions.assertTrue(result.endsWith("  }\n}"));
+
+        MappingResult mapping = tracker.generateMappingResult();
+        Assertions.assertEquals(2, mapping.getSuccessMappings().size());
+        Assertions.assertEquals(1, mapping.getTransformMappings().size());
+        Assertions.assertEquals(1, mapping.getDefaultValues().size());
+    }
+
+    @Test
+    public void testSetBindingsAreEvaluatedOnce() {
+        String template =
+                "{% set user = datax.job.content[0].reader.parameter.username | upper %}\n"
+                        + "sink {\n"
+                        + "  Console {\n"
+                        + "    owner = \"{{ user }}\"\n"
+                        + "    label = \"{{ user | lower }}\"\n"
+                        + "  }\n"
+                        + "}";
+
+        String result = new TemplateVariableResolver().resolve(template, DATAX_JSON);
+
+        Assertions.assertTrue(result.contains("owner = \"ROOT\""));
+        Assertions.assertTrue(result.contains("label = \"root\""));
+        Assertions.assertFalse(result.contains("{%"));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/** ContentPipelines unit tests */
+public class ContentPipelinesTest {
+
+    private static final String ENTRY =
+            "{\"reader\": {\"name\": \"mysqlreader\", \"parameter\": {\"username\": \"root\","
+                    + "\"connection\": [{\"jdbcUrl\": [\"jdbc:mysql://localhost:3306/db\"],"
+                    + "\"table\": [\"%s\"]}], \"column\": [\"id\", \"name\"]}},"
+                    + "\"writer\": {\"name\": \"hdfswriter\", \"parameter\": {"
+                    + "\"defaultFS\": \"hdfs://localhost:9000\", \"path\": \"/data/%s\"}}}";
+
+    @Test
+    public void testBlockBodyIgnoresBracesInStringsAndComments() {
+        String config =
+                "# header { not a block\n"
+                        + "source {\n"
+                        + "  Jdbc {\n"
+                        + "    query = \"select '}' from t\"\n"
+                        + "    # comment }\n"
+                        + "  }\n"
+                        + "}\n"
+                        + "# trailer\n";
+        Assertions.assertEquals(
+                "  Jdbc {\n    query = \"select '}' from t\"\n    # comment }\n  }",
+                ContentPipelines.blockBody(config, "source"));
+    }
+
+    @Test
+    public void testEachEntryBecomesItsOwnPipeline() {
+        Assertions.assertEquals(
+                "{{ datax.job.content[2].reader.name }}",
+                ContentPipelines.forContent("{{ datax.job.content[0].reader.name }}", 2));
+
+        List<String> sources =
+                Arrays.asList(
+                        "source {\n  Jdbc {\n    plugin_output = \"jdbc_source_table\"\n  }\n}",
+                        "source {\n  LocalFile {\n    path = \"/a\"\n  }\n}");
+        List<String> sinks =
+                Arrays.asList(
+                        "sink {\n  HdfsFile {\n    path = \"/x\"\n  }\n}",
+                        "sink {\n  Jdbc {\n    plugin_input = \"old\"\n  }\n}");
+        List<String> labels = Arrays.asList("mysqlreader -> hdfswriter", "txt -> mysqlwriter");
+
+        String sourceBlock = ContentPipelines.assembleSources(sources, labels);
+        Assertions.assertTrue(sourceBlock.startsWith("source {\n  # job.content[0]"));
+        Assertions.assertTrue(sourceBlock.contains("plugin_output = \"jdbc_source_table_0\""));
+        Assertions.assertTrue(sourceBlock.contains("plugin_output = \"source_table_1\""));
+
+        String sinkBlock = ContentPipelines.assembleSinks(sinks, sources, labels);
+        Assertions.assertTrue(sinkBlock.contains("plugin_input = \"jdbc_source_table_0\""));
+        Assertions.assertTrue(sinkBlock.contains("plugin_input = \"source_table_1\""));
+        Assertions.assertFalse(sinkBlock.contains("\"old\""));
+    }
+
+    @Test
+    public void testMultiContentJobConvertsIntoOneConfig() {
+        String job =
+                "{\"job\": {\"content\": ["
+                        + String.format(ENTRY, "users", "users")
+                        + ","
+                        + String.format(ENTRY, "orders", "orders")
+                        + "]}}";
+
+        ConfigDrivenTemplateEngine.TemplateConversionResult result =
+                new ConfigDrivenTemplateEngine().convertWithTemplate(job);
+
+        Assertions.assertTrue(result.isSuccess(), result.getErrorMessage());
+        String config = result.getConfigContent();
+        Assertions.assertTrue(config.contains("/data/users"));
+        Assertions.assertTrue(config.contains("/data/orders"));
+        Assertions.assertTrue(config.contains("plugin_output = \"jdbc_source_table_1\""));
+        Assertions.assertTrue(config.contains("plugin_input = \"jdbc_source_table_1\""));
+        Assertions.assertEquals(1, config.split("\nsource \\{").length - 1);
+        Assertions.assertEquals(1, config.split("\nsink \\{").length - 1);
+    }
+
+    @Test
+    public void testManyContentEntriesRenderInParallelInContentOrder() {
+        ConfigDrivenTemplateEngine engine = new ConfigDrivenTemplateEngine();
+        // Three entries render in turn, six in parallel
+        ConfigDrivenTemplateEngine.TemplateConversionResult sequential =
+                engine.convertWithTemplate(jobWithEntries(3));
+        ConfigDrivenTemplateEngine.TemplateConversionResult parallel =
+                engine.convertWithTemplate(jobWithEntries(6));
+
+        Assertions.assertTrue(parallel.isSuccess(), parallel.getErrorMessage());
+        String config = parallel.getConfigContent();
+        int previous = -1;
+        for (int i = 0; i < 6; i++) {
+            int position = config.indexOf("/data/table" + i);
+            Assertions.assertTrue(position > previous, "table" + i);
+            previous = position;
+            Assertions.assertTrue(
+                    config.contains("plugin_input = \"jdbc_source_table_" + i + "\""));
+        }
+        Assertions.assertEquals(
+                2 * sequential.getMappingResult().getSuccessMappings().size(),
+                parallel.getMappingResult().getSuccessMappings().size());
+    }
+
+    private static String jobWithEntries(int count) {
+        StringBuilder job = new StringBuilder("{\"job\": {\"content\": [");
+        for (int i = 0; i < count; i++) {
+            job.append(i > 0 ? "," : "").append(String.format(ENTRY, "table" + i, "table" + i));
+        }
+        return job.append("]}}").toString();
+    }
+}
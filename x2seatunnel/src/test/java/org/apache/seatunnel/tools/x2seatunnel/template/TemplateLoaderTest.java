@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/** TemplateLoader unit tests */
+public class TemplateLoaderTest {
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testTemplateIsLoadedOnceUntilItChanges() throws Exception {
+        Path file = tempDir.resolve("custom.conf");
+        Files.write(file, "env {\n  parallelism = 1\n}".getBytes(StandardCharsets.UTF_8));
+        String path = file.toString();
+
+        long misses = TemplateLoader.getMissCount();
+        CompiledTemplate first = TemplateLoader.loadCompiled(path);
+        long hits = TemplateLoader.getHitCount();
+        Assertions.assertSame(first, TemplateLoader.loadCompiled(path));
+        Assertions.assertEquals(misses + 1, TemplateLoader.getMissCount());
+        Assertions.assertTrue(TemplateLoader.getHitCount() > hits);
+        Assertions.assertTrue(first.isValid());
+
+        // A different size is enough to read the file again
+        Files.write(file, "env {\n  parallelism = 16\n}".getBytes(StandardCharsets.UTF_8));
+        CompiledTemplate changed = TemplateLoader.loadCompiled(path);
+        Assertions.assertNotSame(first, changed);
+        Assertions.assertTrue(changed.getSource().contains("parallelism = 16"));
+    }
+
+    @Test
+    public void testContentVariantIsCompiledOnceUntilTemplateChanges() throws Exception {
+        Path file = tempDir.resolve("source.conf");
+        Files.write(
+                file,
+                "url = \"{{ datax.job.content[0].reader.name }}\""
+                        .getBytes(StandardCharsets.UTF_8));
+        String path = file.toString();
+
+        Assertions.assertSame(
+                TemplateLoader.loadCompiled(path), TemplateLoader.loadCompiled(path, 0));
+        CompiledTemplate second = TemplateLoader.loadCompiled(path, 1);
+        Assertions.assertSame(second, TemplateLoader.loadCompiled(path, 1));
+        Assertions.assertTrue(second.getSource().contains("datax.job.content[1].reader.name"));
+
+        Files.write(
+                file,
+                "url = \"{{ datax.job.content[0].writer.name }}\""
+                        .getBytes(StandardCharsets.UTF_8));
+        CompiledTemplate changed = TemplateLoader.loadCompiled(path, 1);
+        Assertions.assertNotSame(second, changed);
+        Assertions.assertTrue(changed.getSource().contains("datax.job.content[1].writer.name"));
+    }
+
+    @Test
+    public void testClasspathTemplateAndMissingTemplate() {
+        String path = "datax/env/batch-env.conf";
+        Assertions.assertSame(TemplateLoader.loadCompiled(path), TemplateLoader.loadCompiled(path));
+        Assertions.assertNull(TemplateLoader.load("datax/no-such-template.conf"));
+    }
+}
@@ -17,9 +17,17 @@
 
 package org.apache.seatunnel.tools.x2seatunnel.template;
 
+import org.apache.seatunnel.tools.x2seatunnel.model.ConversionContext;
+import org.apache.seatunnel.tools.x2seatunnel.model.MappingTracker;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringWriter;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -98,4 +106,99 @@ public class TemplateVariableResolverTest {
         String result = resolver.resolve(template, testDataXJson);
         assertEquals("host: localhost", result);
     }
+
+    @Test
+    public void testArrayFiltersKeepElements() {
+        String json =
+                "{\"job\": {\"content\": [{\"reader\": {\"parameter\": "
+                        + "{\"column\": [\"id\", \"concat(a, b)\"]}}}]}}";
+
+        // Elements containing commas are neither split by join nor by get
+        assertEquals(
+                "columns: id|concat(a, b)",
+                resolver.resolve(
+                        "columns: {{ datax.job.content[0].reader.parameter.column | join('|') }}",
+                        json));
+        assertEquals(
+                "second: concat(a, b)",
+                resolver.resolve(
+                        "second: {{ datax.job.content[0].reader.parameter.column | get(1) }}",
+                        json));
+        assertEquals(
+                "upper: ID,CONCAT(A, B)",
+                resolver.resolve(
+                        "upper: {{ datax.job.content[0].reader.parameter.column | upper }}", json));
+
+        // A split list is emitted joined when no filter turns it back into text
+        assertEquals(
+                "db: test_ods",
+                resolver.resolve(
+                        "db: {{ datax.job.content[0].writer.parameter.path | split('/') | get(-2) }}",
+                        testDataXJson));
+        assertEquals(
+                "parts: ,warehouse,test_ods,ods_user_info",
+                resolver.resolve(
+                        "parts: {{ datax.job.content[0].writer.parameter.path | split('/') }}",
+                        testDataXJson));
+    }
+
+    @Test
+    public void testStreamingMatchesString() throws Exception {
+        String template =
+                "source {\n"
+                        + "  Jdbc {\n"
+                        + "    user = \"{{ datax.job.content[0].reader.parameter.username | upper }}\"\n"
+                        + "    db = \"{{ datax.job.content[0].writer.parameter.path | split('/') | get(1) }}\"\n"
+                        + "  }\n"
+                        + "}";
+        ConversionContext context = ConversionContext.parse(testDataXJson);
+        CompiledTemplate compiled = CompiledTemplate.of(template);
+
+        StringWriter out = new StringWriter();
+        resolver.resolve(compiled, context, out);
+
+        assertEquals(resolver.resolve(compiled, context), out.toString());
+        assertTrue(out.toString().contains("user = \"ROOT\""));
+        assertTrue(out.toString().endsWith("  }\n}"));
+    }
+
+    @Test
+    public void testSharedResolverRendersConcurrently() throws Exception {
+        String template =
+                "sink {\n"
+                        + "  Console {\n"
+                        + "    user = \"{{ datax.job.content[0].reader.parameter.username | upper }}\"\n"
+                        + "    missing = \"{{ datax.job.content[0].reader.parameter.nothing }}\"\n"
+                        + "    label = \"{{ datax.job.content[0].reader.name }}-{{ datax.job.content[0].reader.parameter.username | lower }}\"\n"
+                        + "  }\n"
+                        + "}";
+        ConversionContext context = ConversionContext.parse(testDataXJson);
+        CompiledTemplate compiled = CompiledTemplate.of(template);
+
+        MappingTracker expectedTracker = new MappingTracker();
+        String expected =
+                resolver.resolve(
+                        compiled, context, resolver.newRenderContext(expectedTracker, null));
+        String expectedStatistics = expectedTracker.getStatisticsText();
+
+        List<MappingTracker> trackers =
+                IntStream.range(0, 64)
+                        .mapToObj(i -> new MappingTracker())
+                        .collect(Collectors.toList());
+        List<String> results =
+                trackers.parallelStream()
+                        .map(
+                                tracker ->
+                                        resolver.resolve(
+                                                compiled,
+                                                context,
+                                                resolver.newRenderContext(tracker, null)))
+                        .collect(Collectors.toList());
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(expected, results.get(i));
+            assertEquals(expectedStatistics, trackers.get(i).getStatisticsText());
+        }
+        assertTrue(expected.contains("label = \"mysqlreader-root\""));
+    }
 }
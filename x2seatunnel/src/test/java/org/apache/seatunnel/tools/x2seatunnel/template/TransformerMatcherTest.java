@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** TransformerMatcher unit tests */
+public class TransformerMatcherTest {
+
+    private static TransformerMatcher driverMatcher() {
+        Map<String, String> rules = new LinkedHashMap<>();
+        rules.put("mysql", "com.mysql.cj.jdbc.Driver");
+        rules.put("postgresql", "org.postgresql.Driver");
+        rules.put("sql", "generic");
+        rules.put("SQLServer", "com.microsoft.sqlserver.jdbc.SQLServerDriver");
+        return TransformerMatcher.compile(rules);
+    }
+
+    @Test
+    public void testFirstConfiguredRuleWins() {
+        TransformerMatcher matcher = driverMatcher();
+
+        Assertions.assertEquals(4, matcher.size());
+        Assertions.assertEquals("com.mysql.cj.jdbc.Driver", matcher.match("jdbc:MySQL://db:3306"));
+        Assertions.assertEquals("org.postgresql.Driver", matcher.match("jdbc:postgresql://db"));
+        // "sql" is listed before "SQLServer" and occurs in the value too
+        Assertions.assertEquals("generic", matcher.match("jdbc:sqlserver://db"));
+        Assertions.assertNull(matcher.match("jdbc:oracle:thin:@db"));
+    }
+
+    @Test
+    public void testOverlappingPatterns() {
+        Map<String, String> rules = new LinkedHashMap<>();
+        rules.put("hers", "HERS");
+        rules.put("she", "SHE");
+        rules.put("he", "HE");
+        TransformerMatcher matcher = TransformerMatcher.compile(rules);
+
+        Assertions.assertEquals("HERS", matcher.match("ushers"));
+        Assertions.assertEquals("SHE", matcher.match("ushe"));
+        Assertions.assertEquals("HE", matcher.match("uhe"));
+    }
+
+    @Test
+    public void testExactAndPrefixModes() {
+        TransformerMatcher matcher = driverMatcher();
+
+        Assertions.assertEquals(
+                "com.microsoft.sqlserver.jdbc.SQLServerDriver",
+                matcher.match("sqlserver", TransformerMatcher.Mode.EXACT));
+        Assertions.assertNull(matcher.match("jdbc:mysql", TransformerMatcher.Mode.EXACT));
+        Assertions.assertEquals(
+                "generic", matcher.match("SQLSERVER", TransformerMatcher.Mode.PREFIX));
+        Assertions.assertNull(matcher.match("jdbc:mysql", TransformerMatcher.Mode.PREFIX));
+
+        Assertions.assertEquals(
+                TransformerMatcher.Mode.PREFIX, TransformerMatcher.Mode.parse("Prefix"));
+        Assertions.assertEquals(
+                TransformerMatcher.Mode.CONTAINS, TransformerMatcher.Mode.parse(""));
+        Assertions.assertNull(TransformerMatcher.Mode.parse("suffix"));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.template.filter;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.tools.x2seatunnel.template.TemplateValue;
+import org.apache.seatunnel.tools.x2seatunnel.template.TransformerMatcher;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/** FilterRegistry unit tests */
+public class FilterRegistryTest {
+
+    /** Records what filters report, knows no transformers */
+    private static class RecordingContext implements FilterContext {
+        private final List<String> records = new ArrayList<>();
+
+        @Override
+        public String applyTransformer(
+                String transformerName, TransformerMatcher.Mode mode, String value) {
+            return null;
+        }
+
+        @Override
+        public void recordDefaultValue(String value, String reason) {
+            records.add("default:" + value);
+        }
+
+        @Override
+        public void recordDirectMapping(String value, String reason) {
+            records.add("direct:" + value);
+        }
+    }
+
+    private final RecordingContext context = new RecordingContext();
+
+    private String apply(String filter, String value) {
+        return FilterRegistry.compile(filter).apply(TemplateValue.scalar(value), context).asText();
+    }
+
+    @Test
+    public void testArgumentsAreParsedAtCompileTime() {
+        Assertions.assertEquals("a;b", apply("join(';')", "a, b"));
+        Assertions.assertEquals("c", apply("replace('b,c')", "b"));
+        Assertions.assertEquals(
+                "2024.01", apply("regex_extract('(\\d+)-(\\d+)', '$1.$2')", "2024-01"));
+        Assertions.assertEquals("x", apply("regex_extract('(', '$1')", "x"));
+
+        TemplateValue parts =
+                FilterRegistry.compile("split('/')")
+                        .apply(TemplateValue.scalar("/db/table"), context);
+        Assertions.assertEquals(Arrays.asList("", "db", "table"), parts.getItems());
+        Assertions.assertEquals(
+                "table", FilterRegistry.compile("get(-1)").apply(parts, context).asText());
+    }
+
+    @Test
+    public void testDefaultRecordsItsMapping() {
+        CompiledFilter filter = FilterRegistry.compile("default('none')");
+        Assertions.assertTrue(filter.recordsMapping());
+        Assertions.assertEquals("none", filter.apply(TemplateValue.EMPTY, context).asText());
+        Assertions.assertEquals("x", filter.apply(TemplateValue.scalar("x"), context).asText());
+        Assertions.assertEquals(Arrays.asList("default:none", "direct:x"), context.records);
+    }
+
+    @Test
+    public void testFileReaderMappers() throws Exception {
+        Assertions.assertEquals("parquet", apply("file_type_mapper", "PARQUET"));
+        Assertions.assertEquals("text", apply("file_type_mapper", ""));
+
+        TemplateValue columns =
+                TemplateValue.of(
+                        new ObjectMapper()
+                                .readTree(
+                                        "[{\"index\": 0, \"type\": \"long\"},"
+                                                + " {\"name\": \"dt\", \"type\": \"date\"}]"));
+        Assertions.assertEquals(
+                "{name = \"col0\", type = \"bigint\"}, {name = \"dt\", type = \"date\"}",
+                FilterRegistry.compile("column_schema_mapper").apply(columns, context).asText());
+    }
+
+    @Test
+    public void testUnknownFilterPassesValueThrough() {
+        CompiledFilter filter = FilterRegistry.compile("no_such_mapper");
+        Assertions.assertEquals("no_such_mapper", filter.getName());
+        Assertions.assertEquals(
+                "value", filter.apply(TemplateValue.scalar("value"), context).asText());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** ArchiveWriter and ArchiveReader round trip tests */
+public class ArchiveWriterTest {
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testRoundTripAllFormats() throws Exception {
+        StringBuilder longName = new StringBuilder("jobs/");
+        for (int i = 0; i < 30; i++) {
+            longName.append("nested/");
+        }
+        longName.append("job.json");
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("a.json", "{\"job\": {}}");
+        entries.put("empty.txt", "");
+        entries.put(longName.toString(), "{\"long\": true}");
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            large.append("line ").append(i).append('\n');
+        }
+        entries.put("dir/large.json", large.toString());
+
+        for (String name : new String[] {"out.zip", "out.tar", "out.tar.gz", "out.tgz"}) {
+            String archive = tempDir.resolve(name).toString();
+            try (ArchiveWriter writer = ArchiveWriter.create(archive)) {
+                for (Map.Entry<String, String> entry : entries.entrySet()) {
+                    writer.write(entry.getKey(), entry.getValue());
+                }
+            }
+
+            Map<String, String> read = new LinkedHashMap<>();
+            try (ArchiveReader reader = ArchiveReader.open(archive)) {
+                reader.entries()
+                        .forEach(entry -> read.put(entry.getName(), entry.getContentAsString()));
+            }
+            Assertions.assertEquals(entries, read, name);
+        }
+    }
+
+    @Test
+    public void testFormatDetection() {
+        Assertions.assertEquals(ArchiveFormat.ZIP, ArchiveFormat.of("jobs.ZIP"));
+        Assertions.assertEquals(ArchiveFormat.TAR_GZ, ArchiveFormat.of("/data/jobs.tar.gz"));
+        Assertions.assertEquals(ArchiveFormat.TAR_GZ, ArchiveFormat.of("jobs.tgz"));
+        Assertions.assertEquals(ArchiveFormat.TAR, ArchiveFormat.of("jobs.tar"));
+        Assertions.assertNull(ArchiveFormat.of("jobs"));
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> ArchiveReader.open(tempDir.resolve("jobs").toString()));
+    }
+}
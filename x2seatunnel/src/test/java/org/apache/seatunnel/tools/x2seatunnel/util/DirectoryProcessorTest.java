@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+
+/** DirectoryProcessor unit tests */
+public class DirectoryProcessorTest {
+
+    @Test
+    public void testArchiveEntriesKeepSourceDirectories() {
+        DirectoryProcessor dp = new DirectoryProcessor("jobs", "out.zip");
+        Assertions.assertEquals(
+                "mysql/a.conf",
+                dp.resolveTargetEntry(Paths.get("jobs", "mysql", "a.json").toString()));
+        Assertions.assertEquals(
+                "hive/a.conf",
+                dp.resolveTargetEntry(Paths.get("jobs", "hive", "a.json").toString()));
+        Assertions.assertEquals(
+                "mysql/a.md",
+                dp.resolveReportEntry(Paths.get("jobs", "mysql", "a.json").toString()));
+        Assertions.assertEquals(
+                "a.conf", dp.resolveTargetEntry(Paths.get("jobs", "a.json").toString()));
+
+        // Entries of a source archive are relative already
+        DirectoryProcessor archive = new DirectoryProcessor("jobs.tar.gz", "out.zip");
+        Assertions.assertEquals("x/y/a.conf", archive.resolveTargetEntry("x/y/a.json"));
+        Assertions.assertEquals("a.conf", archive.resolveTargetEntry("../a.json"));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.util;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.tools.x2seatunnel.model.ConversionContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/** FieldPathIndex unit tests */
+public class FieldPathIndexTest {
+
+    private static final String JOB =
+            "{\"job\": {\"setting\": {\"speed\": {\"channel\": 3}},"
+                    + "\"content\": [{\"reader\": {\"name\": \"mysqlreader\","
+                    + "\"parameter\": {\"column\": [\"id\", \"name\"],"
+                    + "\"connection\": [{\"jdbcUrl\":"
+                    + "[\"jdbc:mysql://a\", \"jdbc:mysql://b\"]}]}}}]}}";
+
+    @Test
+    public void testIndexMatchesFlattenedFields() throws Exception {
+        FieldPathIndex index = FieldPathIndex.of(new ObjectMapper().readTree(JOB));
+
+        Assertions.assertEquals(
+                new DataXFieldExtractor().extractAllFieldsWithValues(JOB), index.getLeafValues());
+        Assertions.assertEquals("mysqlreader", index.get("job.content[0].reader.name").asText());
+        Assertions.assertTrue(index.get("job.content[0].reader.parameter.column").isArray());
+        Assertions.assertTrue(index.isLeaf("job.setting.speed.channel"));
+        Assertions.assertFalse(index.isLeaf("job.setting.speed"));
+        Assertions.assertNull(index.get("job.content[1]"));
+    }
+
+    @Test
+    public void testArrayAwarePaths() throws Exception {
+        FieldPathIndex index = FieldPathIndex.of(new ObjectMapper().readTree(JOB));
+        String jdbcUrl = "job.content[0].reader.parameter.connection[0].jdbcUrl";
+
+        Assertions.assertEquals(
+                Arrays.asList(jdbcUrl + "[0]", jdbcUrl + "[1]"), index.getElementPaths(jdbcUrl));
+        Assertions.assertEquals(jdbcUrl, index.getArrayPath(jdbcUrl + "[1]"));
+        Assertions.assertNull(index.getArrayPath(jdbcUrl));
+        Assertions.assertEquals(
+                Collections.emptyList(), index.getElementPaths("job.content[0].reader.name"));
+        Assertions.assertEquals(jdbcUrl, DataXFieldExtractor.arrayFieldNameOf(jdbcUrl + "[12]"));
+        Assertions.assertNull(DataXFieldExtractor.arrayFieldNameOf(jdbcUrl + "[x]"));
+        Assertions.assertNull(DataXFieldExtractor.arrayFieldNameOf(jdbcUrl + "[]"));
+    }
+
+    @Test
+    public void testTrackerUsesIndex() throws Exception {
+        ConversionContext context = ConversionContext.parse(JOB);
+        DataXFieldExtractor.FieldReferenceTracker tracker =
+                new DataXFieldExtractor().createFieldReferenceTracker(context);
+
+        // Parameter arrays are tracked as one field holding the values in index order
+        Map<String, String> fields = tracker.getAllFields();
+        Assertions.assertEquals("id,name", fields.get("job.content[0].reader.parameter.column"));
+        Assertions.assertEquals(
+                "jdbc:mysql://a,jdbc:mysql://b",
+                fields.get("job.content[0].reader.parameter.connection[0].jdbcUrl"));
+        Assertions.assertEquals("3", fields.get("job.setting.speed.channel"));
+        Assertions.assertEquals(3, tracker.getTotalFields());
+        Assertions.assertTrue(
+                tracker.getArrayElementFields("job.content[0].reader.parameter.column").isEmpty());
+
+        // Lookups through the index resolve like lookups on the tree
+        FieldPathIndex index = context.getFieldIndex();
+        PathAccessor column = PathAccessor.of("datax.job.content[0].reader.parameter.column[1]");
+        Assertions.assertEquals("name", column.lookup(index).getNode().asText());
+        PathAccessor missing = PathAccessor.of("datax.job.missing.name");
+        Assertions.assertEquals(PathAccessor.Status.NOT_FOUND, missing.lookup(index).getStatus());
+    }
+}
@@ -17,11 +17,19 @@
 
 package org.apache.seatunnel.tools.x2seatunnel.util;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
 public class FileUtilsTest {
 
@@ -43,4 +51,111 @@ public class FileUtilsTest {
         // Cleanup
         new File(testFile).delete();
     }
+
+    @Test
+    public void testReadSourceWithoutString() throws IOException {
+        String testFile = "target/test-source.json";
+        String testContent = "{\"job\": {\"name\": \"caf\u00e9\"}}";
+        FileUtils.writeFile(testFile, testContent);
+
+        SourceContent source = FileUtils.readSource(testFile);
+        Assertions.assertEquals(
+                testContent.getBytes(StandardCharsets.UTF_8).length, source.length());
+        Assertions.assertEquals(
+                "caf\u00e9", source.readTree(new ObjectMapper()).path("job").path("name").asText());
+        Assertions.assertEquals(HashUtils.sha256(testContent), source.sha256());
+        Assertions.assertEquals(testContent, source.asString());
+        Assertions.assertArrayEquals(
+                testContent.getBytes(StandardCharsets.UTF_8), FileUtils.readFileBytes(testFile));
+
+        // Mapped content parses and hashes like the bytes
+        SourceContent mapped =
+                SourceContent.of(ByteBuffer.wrap(testContent.getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals(source.sha256(), mapped.sha256());
+        Assertions.assertEquals(
+                "caf\u00e9", mapped.readTree(new ObjectMapper()).path("job").path("name").asText());
+
+        new File(testFile).delete();
+    }
+
+    @Test
+    public void testStreamedFileReplacesTargetOnlyWhenComplete() {
+        String testFile = "target/test-streamed.conf";
+        FileUtils.writeFile(testFile, "previous");
+
+        Integer written =
+                FileUtils.writeFile(
+                        testFile,
+                        writer -> {
+                            writer.write("env {\n}\n");
+                            return 2;
+                        });
+        Assertions.assertEquals(2, written);
+        Assertions.assertEquals("env {\n}\n", FileUtils.readFile(testFile));
+
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () ->
+                        FileUtils.writeFile(
+                                testFile,
+                                writer -> {
+                                    writer.write("partial");
+                                    throw new IllegalStateException("conversion failed");
+                                }));
+        Assertions.assertEquals("env {\n}\n", FileUtils.readFile(testFile));
+        assertNoTemporaryFiles();
+
+        new File(testFile).delete();
+    }
+
+    @Test
+    public void testInterleavedStreamedWritesOfOneFile() {
+        String testFile = "target/test-interleaved.conf";
+
+        // A second writer of the same file starts and finishes while the first one streams
+        FileUtils.writeFile(
+                testFile,
+                writer -> {
+                    writer.write("first");
+                    FileUtils.writeFile(
+                            testFile,
+                            inner -> {
+                                inner.write("second");
+                                return null;
+                            });
+                    writer.write(" complete");
+                    return null;
+                });
+        Assertions.assertEquals("first complete", FileUtils.readFile(testFile));
+        assertNoTemporaryFiles();
+
+        new File(testFile).delete();
+    }
+
+    @Test
+    public void testStreamedFileHasPermissionsOfPlainWrite() throws IOException {
+        Assumptions.assumeTrue(
+                FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        String plainFile = "target/test-plain-permissions.md";
+        String streamedFile = "target/test-streamed-permissions.conf";
+        FileUtils.writeFile(plainFile, "report");
+        FileUtils.writeFile(
+                streamedFile,
+                writer -> {
+                    writer.write("env {\n}\n");
+                    return null;
+                });
+
+        Assertions.assertEquals(
+                Files.getPosixFilePermissions(Paths.get(plainFile)),
+                Files.getPosixFilePermissions(Paths.get(streamedFile)));
+
+        new File(plainFile).delete();
+        new File(streamedFile).delete();
+    }
+
+    private static void assertNoTemporaryFiles() {
+        String[] temporaryFiles = new File("target").list((dir, name) -> name.endsWith(".tmp"));
+        Assertions.assertEquals(0, temporaryFiles.length);
+    }
 }
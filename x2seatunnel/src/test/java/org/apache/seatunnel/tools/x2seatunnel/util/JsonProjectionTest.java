@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.util;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+
+import org.apache.seatunnel.tools.x2seatunnel.core.ConversionEngine;
+import org.apache.seatunnel.tools.x2seatunnel.model.ConversionContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Arrays;
+
+/** JsonProjection unit tests */
+public class JsonProjectionTest {
+
+    private static final String JOB =
+            "{\"job\": {\"setting\": {\"speed\": {\"channel\": 3}},"
+                    + "\"content\": [{\"reader\": {\"name\": \"mysqlreader\","
+                    + "\"parameter\": {\"column\": [\"id\", \"name\"], \"querySql\": \"select 1\","
+                    + "\"connection\": [{\"jdbcUrl\": [\"jdbc:a\", \"jdbc:b\"]}]}},"
+                    + "\"writer\": {\"name\": \"hdfswriter\", \"parameter\": {\"path\": \"/x\"}}},"
+                    + "{\"reader\": {}}, {\"reader\": {}}]}}";
+
+    @Test
+    public void testOnlyReferencedPathsAreKept() throws Exception {
+        JsonProjection projection =
+                JsonProjection.of(
+                        Arrays.asList(
+                                "job.content[1].reader",
+                                "job.content[0].reader.parameter.connection[0].jdbcUrl",
+                                "job.setting.speed.channel"));
+        JsonNode projected = projection.parse(JOB);
+
+        Assertions.assertEquals(3, projected.at("/job/setting/speed/channel").asInt());
+        Assertions.assertEquals(
+                2, projected.at("/job/content/0/reader/parameter/connection/0/jdbcUrl").size());
+        Assertions.assertTrue(
+                projected.at("/job/content/0/reader/parameter/column").isMissingNode());
+        Assertions.assertTrue(projected.at("/job/content/0/writer").isMissingNode());
+        Assertions.assertTrue(projected.at("/job/content/1/reader").isObject());
+        // Indexes stay valid, nothing after the last referenced element is kept
+        Assertions.assertEquals(2, projected.at("/job/content").size());
+    }
+
+    @Test
+    public void testShapeMismatchKeepsWholeValue() throws Exception {
+        // An index on an object is ignored by the lookup, so the object is kept as a whole
+        JsonNode projected = JsonProjection.of(Arrays.asList("job.setting[0].speed")).parse(JOB);
+        Assertions.assertEquals(3, projected.at("/job/setting/speed/channel").asInt());
+        Assertions.assertThrows(
+                Exception.class, () -> JsonProjection.of(Arrays.asList("job")).parse("{job"));
+    }
+
+    @Test
+    public void testCustomTemplateConversionMatchesFullParse() throws Exception {
+        ConversionEngine engine = new ConversionEngine();
+        File[] examples = new File("src/main/resources/examples/source").listFiles();
+        String[] templates = {
+            "templates/datax/custom/mysql-to-hive.conf",
+            "templates/datax/sources/jdbc-source.conf",
+            "templates/datax/sources/hdfs-source.conf",
+            "templates/datax/sinks/hdfs-sink.conf",
+            "templates/datax/sinks/jdbc-sink.conf",
+            "templates/datax/env/batch-env.conf"
+        };
+        Assertions.assertNotNull(examples);
+        for (File example : examples) {
+            String content = FileUtils.readFile(example.getPath());
+            for (String template : templates) {
+                // Without report only the referenced paths are parsed
+                String projected =
+                        engine.convertContent(
+                                        example.getName(),
+                                        content,
+                                        "target.conf",
+                                        "datax",
+                                        "seatunnel",
+                                        template,
+                                        null)
+                                .getTargetContent();
+                String full =
+                        engine.convertContent(
+                                        example.getName(),
+                                        ConversionContext.parse(content),
+                                        "target.conf",
+                                        "datax",
+                                        "seatunnel",
+                                        template,
+                                        null)
+                                .getTargetContent();
+                Assertions.assertEquals(full, projected, example.getName() + " " + template);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.tools.x2seatunnel.util;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.tools.x2seatunnel.model.MappingResult;
+import org.apache.seatunnel.tools.x2seatunnel.model.MappingTracker;
+import org.apache.seatunnel.tools.x2seatunnel.template.TemplateVariableResolver;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/** PathAccessor unit tests */
+public class PathAccessorTest {
+
+    private static final String JOB =
+            "{\"job\": {\"setting\": {\"speed\": {\"channel\": 3}, \"empty\": null},"
+                    + "\"content\": [{\"reader\": {\"name\": \"mysqlreader\","
+                    + "\"parameter\": {\"column\": [\"id\", \"name\"]}}}]}}";
+
+    @Test
+    public void testCompiledOnceAndShared() {
+        PathAccessor accessor = PathAccessor.of("datax.job.content[0].reader.name");
+        Assertions.assertSame(accessor, PathAccessor.of("datax.job.content[0].reader.name"));
+        Assertions.assertEquals("job.content[0].reader.name", accessor.getPath());
+        Assertions.assertEquals(4, accessor.getSteps().size());
+        Assertions.assertEquals("content", accessor.getSteps().get(1).getField());
+        Assertions.assertEquals(Integer.valueOf(0), accessor.getSteps().get(1).getIndex());
+        Assertions.assertFalse(accessor.getSteps().get(0).hasIndex());
+    }
+
+    @Test
+    public void testLookupOutcomes() throws Exception {
+        JsonNode root = new ObjectMapper().readTree(JOB);
+
+        PathAccessor.Lookup found =
+                PathAccessor.of("datax.job.content[0].reader.name").lookup(root);
+        Assertions.assertEquals(PathAccessor.Status.FOUND, found.getStatus());
+        Assertions.assertEquals("mysqlreader", found.getNode().asText());
+
+        // An index on an object is ignored
+        Assertions.assertEquals(
+                3, PathAccessor.of("job.setting[0].speed.channel").lookup(root).getNode().asInt());
+        Assertions.assertEquals(
+                PathAccessor.Status.NOT_FOUND,
+                PathAccessor.of("job.missing.deeper").lookup(root).getStatus());
+        Assertions.assertEquals(
+                PathAccessor.Status.EMPTY,
+                PathAccessor.of("job.setting.empty").lookup(root).getStatus());
+        PathAccessor.Lookup invalid = PathAccessor.of("job.content[x].reader").lookup(root);
+        Assertions.assertEquals(PathAccessor.Status.INVALID_INDEX, invalid.getStatus());
+        Assertions.assertEquals("x", invalid.getDetail());
+        Assertions.assertEquals(
+                PathAccessor.Status.ERROR, PathAccessor.of("job.a]b[").lookup(root).getStatus());
+    }
+
+    @Test
+    public void testResolverTracksLookups() {
+        MappingTracker tracker = new MappingTracker();
+        TemplateVariableResolver resolver = new TemplateVariableResolver(null, tracker);
+        String result =
+                resolver.resolve(
+                        "a = \"{{ datax.job.content[0].reader.parameter.column }}\"\n"
+                                + "b = \"{{ datax.job.content[x].reader }}\"\n"
+                                + "c = \"{{ datax.job.nothing.here }}\"",
+                        JOB);
+
+        MappingResult mappingResult = tracker.generateMappingResult();
+        Assertions.assertTrue(result.contains("a = \"id,name\""));
+        Assertions.assertEquals(1, mappingResult.getSuccessMappings().size());
+        Assertions.assertEquals(
+                "job.content[0].reader.parameter.column",
+                mappingResult.getSuccessMappings().get(0).getSourceField());
+        List<MappingResult.MissingField> missing = mappingResult.getMissingRequiredFields();
+        Assertions.assertEquals(2, missing.size());
+        Assertions.assertEquals("Invalid array index: x", missing.get(0).getReason());
+        Assertions.assertEquals("job.nothing.here", missing.get(1).getFieldName());
+        Assertions.assertEquals(
+                "Field not found in DataX configuration", missing.get(1).getReason());
+    }
+}